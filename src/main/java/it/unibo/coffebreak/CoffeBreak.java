@@ -1,23 +1,44 @@
 package it.unibo.coffebreak;
 
 import it.unibo.coffebreak.impl.core.GameEngine;
+import it.unibo.coffebreak.impl.core.HeadlessEngine;
 
 /**
  * Entry point of the app, it creates a controller and launches the GUI
  * so that the game can start.
+ * Passing {@value #HEADLESS} (optionally followed by a number of ticks and a
+ * seed) runs the simulation without any window instead, while
+ * {@value #PASSIVE} draws the window through Swing repaints rather than active
+ * rendering.
  */
 final class CoffeBreak {
 
+    private static final String HEADLESS = "--headless";
+    private static final String PASSIVE = "--passive";
+
     private CoffeBreak() {
     }
 
     /**
      * Starts the application.
      * 
-     * @param args unused
+     * @param args {@value #HEADLESS}, an optional number of ticks and an
+     *             optional seed to run the simulation without a window,
+     *             {@value #PASSIVE} to start the game with Swing repaints,
+     *             empty to start the game
      */
     public static void main(final String[] args) {
+        if (args.length > 0 && HEADLESS.equals(args[0])) {
+            final long ticks = args.length > 1 ? Long.parseLong(args[1]) : HeadlessEngine.DEFAULT_TICKS;
+            if (args.length > 2) {
+                new HeadlessEngine(ticks, Long.parseLong(args[2])).run();
+            } else {
+                new HeadlessEngine(ticks).run();
+            }
+            return;
+        }
         System.out.println("Starting Game..."); // NOPMD suppressed as it is a false positive
-        new GameEngine().run();
+        final boolean passive = args.length > 0 && PASSIVE.equals(args[0]);
+        new GameEngine(GameEngine.DEFAULT_FRAME_RATE, !passive).run();
     }
 }
@@ -2,9 +2,11 @@ package it.unibo.coffebreak.api.controller;
 
 import java.util.List;
 
-import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.controller.action.Action;
 import it.unibo.coffebreak.api.model.leaderboard.entry.Entry;
+import it.unibo.coffebreak.api.model.snapshot.WorldSnapshot;
 import it.unibo.coffebreak.api.model.states.ModelState;
+import it.unibo.coffebreak.impl.common.profiler.FrameProfiler;
 
 /**
  * The game controller in the MVC (Model-View-Controller) pattern.
@@ -33,6 +35,16 @@ public interface Controller {
      */
     void keyReleased(int keyCode);
 
+    /**
+     * Queues an action directly, bypassing the key mapping.
+     * Used by drivers that do not have a keyboard, such as headless simulations
+     * or bots.
+     * 
+     * @param action the action to queue
+     * @throws NullPointerException if action is null
+     */
+    void submitAction(Action action);
+
     /**
      * Processes all pending input commands and applies them to the game model.
      * Should be called once per frame to ensure responsive controls.
@@ -59,11 +71,19 @@ public interface Controller {
     boolean isRunning();
 
     /**
-     * Gets the current list of game entities to be rendered.
+     * Gets the latest snapshot of the game world to be rendered.
+     * Safe to call from any thread while the simulation is running.
+     * 
+     * @return the most recently published world snapshot, never null
+     */
+    WorldSnapshot getSnapshot();
+
+    /**
+     * Gets the profiler shared by the model and the view.
      * 
-     * @return an unmodifiable list of game entities, never null
+     * @return the frame profiler, disabled unless the engine reports timings
      */
-    List<Entity> getEntities();
+    FrameProfiler getProfiler();
 
     /**
      * Gets the current player score.
@@ -8,6 +8,16 @@ package it.unibo.coffebreak.api.core;
  */
 public interface Engine {
 
+    /**
+     * Number of simulation ticks executed per second of game time.
+     */
+    int TICK_RATE = 60;
+
+    /**
+     * Fixed amount of game time (in seconds) advanced by each simulation tick.
+     */
+    float FIXED_DELTA_TIME = 1f / TICK_RATE;
+
     /**
      * Starts and runs the main game loop.
      * The implementation should handle game timing, updates, and rendering.
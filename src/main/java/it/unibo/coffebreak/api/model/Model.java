@@ -4,11 +4,17 @@ import java.util.List;
 import java.util.Optional;
 
 import it.unibo.coffebreak.api.controller.action.Action;
+import it.unibo.coffebreak.api.model.clock.GameClock;
 import it.unibo.coffebreak.api.model.entities.Entity;
 import it.unibo.coffebreak.api.model.entities.character.MainCharacter;
 import it.unibo.coffebreak.api.model.leaderboard.entry.Entry;
+import it.unibo.coffebreak.api.model.level.entity.EntityIndex;
+import it.unibo.coffebreak.api.model.level.entity.PlatformGrid;
+import it.unibo.coffebreak.api.model.physics.BroadPhaseStrategy;
+import it.unibo.coffebreak.api.model.snapshot.WorldSnapshot;
 import it.unibo.coffebreak.api.model.states.ModelState;
 import it.unibo.coffebreak.impl.common.BoundigBox;
+import it.unibo.coffebreak.impl.common.profiler.FrameProfiler;
 
 /**
  * Represents the main model interface for the game.
@@ -20,7 +26,7 @@ import it.unibo.coffebreak.impl.common.BoundigBox;
  * 
  * @author Alessandro Rebosio
  */
-public interface Model {
+public interface Model extends EntityIndex {
     /**
      * Changes the current game state to the specified one.
      * 
@@ -77,6 +83,46 @@ public interface Model {
      */
     List<Entity> getEntities();
 
+    /**
+     * Gets the immutable snapshot of the world published at the end of the
+     * last update. Unlike {@link #getEntities()}, it can be read from any
+     * thread.
+     * 
+     * @return the latest world snapshot, never null
+     */
+    WorldSnapshot getSnapshot();
+
+    /**
+     * Gets the occupancy grid of the platforms of the current map, used for
+     * constant time ground checks.
+     * 
+     * @return the platform grid, never null
+     */
+    PlatformGrid getPlatformGrid();
+
+    /**
+     * Gets the simulation clock of the game, on which the timers of the
+     * entities and of the level are scheduled. It only runs while the game is
+     * being played, so it stops during pauses and menus.
+     * 
+     * @return the game clock, never null
+     */
+    GameClock getClock();
+
+    /**
+     * Gets the profiler the phases of each tick are recorded in.
+     * 
+     * @return the frame profiler, disabled unless the engine reports timings
+     */
+    FrameProfiler getProfiler();
+
+    /**
+     * Gets the broad phase strategy chosen by the current map.
+     * 
+     * @return the broad phase strategy, never null
+     */
+    BroadPhaseStrategy getBroadPhaseStrategy();
+
     /**
      * Adds an entity to the game model.
      * 
@@ -86,13 +132,23 @@ public interface Model {
      */
     boolean addEntity(Entity entity);
 
+    /**
+     * Records an entity to add to the game model at the end of the current
+     * tick, so that the entities are never changed while being iterated.
+     * 
+     * @param entity the {@link Entity} to be added
+     * @throws NullPointerException if entity is null
+     */
+    void spawnEntity(Entity entity);
+
     /**
      * Resets all entities in the current level to their initial state.
      */
     void initialEntitiesState();
 
     /**
-     * Transforms certain entities according to game logic.
+     * Transforms certain entities according to game logic, and applies the
+     * structural changes recorded during the tick.
      */
     void transformEntities();
 
@@ -0,0 +1,45 @@
+package it.unibo.coffebreak.api.model.clock;
+
+/**
+ * Simulation clock of the game.
+ * <p>
+ * The time of the clock only moves forward when the clock is advanced by the
+ * delta time of a tick, so it stops while the game is paused and follows the
+ * simulation when it runs faster or slower than the wall clock.
+ * </p>
+ * <p>
+ * Timers replace the floats each component used to sum on every update: a
+ * component schedules a callback once, and the clock runs it during the first
+ * {@link #advance(float)} reaching its deadline, on the thread advancing the
+ * clock.
+ * </p>
+ * 
+ * @author Alessandro Rebosio
+ */
+public interface GameClock {
+
+    /**
+     * @return the simulation time in seconds, never decreasing
+     */
+    double now();
+
+    /**
+     * Schedules a callback to run once the given delay of simulation time has
+     * elapsed.
+     * 
+     * @param delay  the delay in seconds, not negative
+     * @param action the callback to run
+     * @return the pending timer, which can be cancelled
+     * @throws NullPointerException     if action is null
+     * @throws IllegalArgumentException if delay is negative
+     */
+    Timer schedule(float delay, Runnable action);
+
+    /**
+     * Moves the time forward, running the callbacks of the timers that expire.
+     * 
+     * @param deltaTime the time elapsed since the last advance, in seconds
+     * @throws IllegalArgumentException if deltaTime is negative
+     */
+    void advance(float deltaTime);
+}
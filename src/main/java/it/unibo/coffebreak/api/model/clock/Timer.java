@@ -0,0 +1,19 @@
+package it.unibo.coffebreak.api.model.clock;
+
+/**
+ * A callback scheduled on a {@link GameClock}.
+ * 
+ * @author Alessandro Rebosio
+ */
+public interface Timer {
+
+    /**
+     * Prevents the callback from running, if it did not run yet.
+     */
+    void cancel();
+
+    /**
+     * @return true if the callback is still waiting for its deadline
+     */
+    boolean isPending();
+}
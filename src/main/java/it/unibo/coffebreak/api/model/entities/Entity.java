@@ -1,5 +1,7 @@
 package it.unibo.coffebreak.api.model.entities;
 
+import it.unibo.coffebreak.api.model.physics.CollisionLayer;
+import it.unibo.coffebreak.api.model.physics.Contacts;
 import it.unibo.coffebreak.impl.common.BoundigBox;
 import it.unibo.coffebreak.impl.common.Position;
 import it.unibo.coffebreak.impl.common.Vector;
@@ -31,6 +33,51 @@ public interface Entity {
      */
     void setPosition(Position position);
 
+    /**
+     * Gets the position this entity had at the beginning of the current
+     * simulation tick.
+     * The view interpolates between this position and {@link #getPosition()} to
+     * render smoothly between two ticks.
+     *
+     * @return the previous {@link Position} of this entity (never {@code null})
+     */
+    Position getPreviousPosition();
+
+    /**
+     * Stores the current position as the previous one.
+     * Called once at the beginning of every simulation tick, or after the entity
+     * is teleported, so that no interpolation happens across the jump.
+     */
+    void storePreviousPosition();
+
+    /**
+     * Gets the handle naming this entity while it is part of a level, which
+     * stays the same across ticks. Its slot can be reused once the entity
+     * left the level, but never with the same generation, so the handle never
+     * names another entity.
+     *
+     * @return the handle of this entity, {@link EntityHandle#NONE} if it is not
+     *         part of a level
+     */
+    default EntityHandle getHandle() {
+        return EntityHandle.NONE;
+    }
+
+    /**
+     * Gets the contacts found for this entity during the last simulation tick.
+     *
+     * @return the {@link Contacts} of this entity (never {@code null})
+     */
+    Contacts getContacts();
+
+    /**
+     * Gets the collision layer of this entity, which decides the entities it
+     * is tested against.
+     *
+     * @return the {@link CollisionLayer} of this entity (never {@code null})
+     */
+    CollisionLayer getCollisionLayer();
+
     /**
      * Gets the physical dimensions of this entity.
      *
@@ -62,6 +109,94 @@ public interface Entity {
      */
     Vector getVelocity();
 
+    /**
+     * Gets the x coordinate of this entity, without building a {@link Position}.
+     *
+     * @return the x coordinate of {@link #getPosition()}
+     */
+    default float getX() {
+        return this.getPosition().x();
+    }
+
+    /**
+     * Gets the y coordinate of this entity, without building a {@link Position}.
+     *
+     * @return the y coordinate of {@link #getPosition()}
+     */
+    default float getY() {
+        return this.getPosition().y();
+    }
+
+    /**
+     * Gets the horizontal velocity of this entity, without building a
+     * {@link Vector}.
+     *
+     * @return the x component of {@link #getVelocity()}
+     */
+    default float getVelocityX() {
+        return this.getVelocity().x();
+    }
+
+    /**
+     * Gets the vertical velocity of this entity, without building a
+     * {@link Vector}.
+     *
+     * @return the y component of {@link #getVelocity()}
+     */
+    default float getVelocityY() {
+        return this.getVelocity().y();
+    }
+
+    /**
+     * Sets the position of this entity from its coordinates, like
+     * {@link #setPosition(Position)} without building a {@link Position}.
+     * Implementations are expected to update their state in place, so that the
+     * physics engine can move entities on every tick without allocating.
+     *
+     * @param x the new x coordinate
+     * @param y the new y coordinate
+     */
+    default void setPositionComponents(final float x, final float y) {
+        this.setPosition(new Position(x, y));
+    }
+
+    /**
+     * Moves this entity by the given offset, updating its state in place like
+     * {@link #setPositionComponents(float, float)}.
+     *
+     * @param dx the horizontal offset
+     * @param dy the vertical offset
+     */
+    default void translate(final float dx, final float dy) {
+        this.setPositionComponents(this.getX() + dx, this.getY() + dy);
+    }
+
+    /**
+     * Sets the velocity of this entity from its components, like
+     * {@link #setVelocity(Vector)} without building a {@link Vector}.
+     *
+     * @param vx the horizontal velocity
+     * @param vy the vertical velocity
+     */
+    default void setVelocityComponents(final float vx, final float vy) {
+        this.setVelocity(new Vector(vx, vy));
+    }
+
+    /**
+     * Moves this entity back inside the world, so that its whole bounding box
+     * lies between the origin and the given size.
+     *
+     * @param width  the width of the world
+     * @param height the height of the world
+     */
+    default void clampToBounds(final float width, final float height) {
+        final float x = Math.max(0, Math.min(this.getX(), width - this.getDimension().width()));
+        final float y = Math.max(0, Math.min(this.getY(), height - this.getDimension().height()));
+        if (x != this.getX() || y != this.getY()) {
+            this.setPositionComponents(x, y);
+        }
+    }
+
     /**
      * Checks if this entity intersects with another entity.
      * The intersection is typically determined by comparing the position and
@@ -73,16 +208,6 @@ public interface Entity {
      */
     boolean collidesWith(Entity other);
 
-    /**
-     * Handles collision detection response with another entity.
-     * This method is invoked when a collision is detected between this entity and
-     * another entity, and should contain the logic to respond to the collision.
-     * 
-     * @param other the entity that collided with this entity (never {@code null})
-     * @throws NullPointerException if the other parameter is null
-     */
-    void onCollision(Entity other);
-
     /**
      * Updates the entity's position based on its movement logic.
      * Implementations should calculate the new position according to:
@@ -0,0 +1,32 @@
+package it.unibo.coffebreak.api.model.entities;
+
+/**
+ * Stable identity of an entity of the level, issued when the entity joins the
+ * level.
+ * <p>
+ * The index names a slot of the handle table of the level and the generation
+ * counts how many entities held the slot before. Slots are reused once their
+ * entity left the level, but a pair of slot and generation never names two
+ * entities, so a handle kept after its entity left the level never resolves
+ * to the entity that took its slot. Handles are plain
+ * values: they can be compared, hashed, stored and sent around without
+ * keeping the entity alive.
+ * </p>
+ *
+ * @param index      the slot of the entity in the table
+ * @param generation the number of entities that held the slot before
+ *
+ * @author Alessandro Rebosio
+ */
+public record EntityHandle(int index, int generation) {
+
+    /** The handle of the entities that are not part of a level. */
+    public static final EntityHandle NONE = new EntityHandle(-1, 0);
+
+    /**
+     * @return true if this handle can have been issued by a table
+     */
+    public boolean isIssued() {
+        return this.index >= 0;
+    }
+}
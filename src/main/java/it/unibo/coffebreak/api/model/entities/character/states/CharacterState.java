@@ -1,8 +1,8 @@
 package it.unibo.coffebreak.api.model.entities.character.states;
 
 import it.unibo.coffebreak.api.common.State;
-import it.unibo.coffebreak.api.model.entities.Entity;
 import it.unibo.coffebreak.api.model.entities.character.MainCharacter;
+import it.unibo.coffebreak.api.model.entities.enemy.Enemy;
 
 /**
  * Represents a state of a character in the game.
@@ -30,10 +30,10 @@ public interface CharacterState extends State<MainCharacter> {
     boolean didDesoyedEnemy();
 
     /**
-     * Handles collision with another entity while in this state.
+     * Handles collision with an enemy while in this state.
      * 
      * @param character the character in this state
-     * @param other     the entity collided with
+     * @param enemy     the enemy collided with
      */
-    void handleCollision(MainCharacter character, Entity other);
+    void handleCollision(MainCharacter character, Enemy enemy);
 }
@@ -5,6 +5,9 @@ import java.util.Optional;
 
 import it.unibo.coffebreak.api.model.entities.Entity;
 import it.unibo.coffebreak.api.model.entities.character.MainCharacter;
+import it.unibo.coffebreak.api.model.level.entity.EntityIndex;
+import it.unibo.coffebreak.api.model.level.entity.PlatformGrid;
+import it.unibo.coffebreak.api.model.physics.BroadPhaseStrategy;
 
 /**
  * Manages the logic of a game level, including entity management,
@@ -13,7 +16,7 @@ import it.unibo.coffebreak.api.model.entities.character.MainCharacter;
  * 
  * @author Filippo Ricciotti
  */
-public interface LevelManager {
+public interface LevelManager extends EntityIndex {
     /**
      * Returns the list of entities present in the level.
      * 
@@ -28,6 +31,20 @@ public interface LevelManager {
      */
     Optional<MainCharacter> getMainCharacter();
 
+    /**
+     * Returns the occupancy grid of the platforms of the level.
+     * 
+     * @return the platform grid
+     */
+    PlatformGrid getPlatformGrid();
+
+    /**
+     * Returns the broad phase strategy chosen by the current map.
+     * 
+     * @return the broad phase strategy
+     */
+    BroadPhaseStrategy getBroadPhaseStrategy();
+
     /**
      * Adds a new entity to the level.
      * 
@@ -37,7 +54,16 @@ public interface LevelManager {
     boolean addEntity(Entity entity);
 
     /**
-     * Transforms entities according to game logic (e.g., removal, replacement).
+     * Records a new entity to add to the level at the end of the current tick.
+     * 
+     * @param entity the entity to add
+     * @throws NullPointerException if the entity is null
+     */
+    void spawnEntity(Entity entity);
+
+    /**
+     * Transforms entities according to game logic (e.g., removal, replacement),
+     * and applies the structural changes recorded during the tick.
      */
     void transformEntities();
 
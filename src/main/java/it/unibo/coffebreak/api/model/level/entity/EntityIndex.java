@@ -0,0 +1,41 @@
+package it.unibo.coffebreak.api.model.level.entity;
+
+import java.util.List;
+import java.util.Optional;
+
+import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.entities.EntityHandle;
+
+/**
+ * Read access to the entities of a level grouped by type, so that the logic
+ * interested in a single kind of entity does not scan the whole world, and by
+ * {@link EntityHandle}, so that other components can refer to an entity
+ * without holding it.
+ * 
+ * @author Filippo Ricciotti
+ */
+public interface EntityIndex {
+
+    /**
+     * Returns the entities of the level that are instances of the given type,
+     * usually one of the capability interfaces such as platforms or enemies.
+     * The list is a live view, in the order the entities were added, which
+     * reflects the later changes of the level without copying them.
+     * 
+     * @param <T>  the type of the entities
+     * @param type the class or interface the entities must implement
+     * @return an unmodifiable view of the entities of the given type
+     * @throws NullPointerException if type is null
+     */
+    <T extends Entity> List<T> entitiesOf(Class<T> type);
+
+    /**
+     * Looks up the entity named by a handle.
+     * 
+     * @param handle the handle of the entity
+     * @return the entity, or empty if it left the level since the handle was
+     *         taken
+     * @throws NullPointerException if handle is null
+     */
+    Optional<Entity> resolve(EntityHandle handle);
+}
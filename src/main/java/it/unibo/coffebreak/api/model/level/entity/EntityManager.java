@@ -14,7 +14,7 @@ import it.unibo.coffebreak.api.model.entities.character.MainCharacter;
  * 
  * @author Filippo Ricciotti
  */
-public interface EntityManager {
+public interface EntityManager extends EntityIndex {
     /**
      * Returns the list of entities present in the level.
      * 
@@ -35,6 +35,13 @@ public interface EntityManager {
      * @param map the map data to load entities from
      * 
      */
+    /**
+     * Returns the occupancy grid of the platforms of the loaded map.
+     * 
+     * @return the platform grid
+     */
+    PlatformGrid getPlatformGrid();
+
     /**
      * Loads entities from the provided map data.
      * 
@@ -51,10 +58,22 @@ public interface EntityManager {
      */
     boolean addEntity(Entity entity);
 
+    /**
+     * Records a new entity to add to the level at the end of the current tick,
+     * when the structural changes of the tick are applied together by
+     * {@link #transformEntities()}.
+     * 
+     * @param entity the entity to add
+     * @throws NullPointerException if the entity is null
+     */
+    void spawnEntity(Entity entity);
+
     /**
      * Transforms certain entities (e.g., barrels that can transform to fire),
      * removes collected collectibles, broken platforms, and destroyed enemies,
      * and adds new entities as needed.
+     * This is the sync point of the tick: the entities spawned during the tick
+     * are added here too.
      */
     void transformEntities();
 
@@ -0,0 +1,110 @@
+package it.unibo.coffebreak.api.model.level.entity;
+
+import java.util.Objects;
+
+import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.entities.structure.Platform;
+import it.unibo.coffebreak.impl.common.BoundigBox;
+
+/**
+ * Occupancy grid of the platforms of a level, indexed by map tile.
+ * <p>
+ * Platforms never move, so the grid is built once when the level is loaded and
+ * answers ground checks with a lookup of the few tiles touched by an entity,
+ * independently of how many entities the level contains.
+ * </p>
+ * 
+ * @author Alessandro Rebosio
+ */
+public interface PlatformGrid {
+
+    /**
+     * Checks whether the tile at the given map coordinates holds a platform.
+     * 
+     * @param column the tile column
+     * @param row    the tile row
+     * @return true if a platform occupies the tile, false otherwise or if the
+     *         coordinates are outside of the grid
+     */
+    boolean isPlatformAt(int column, int row);
+
+    /**
+     * Checks whether the bounding box of the entity touches a platform tile.
+     * Touching edges count as contact, consistently with
+     * {@link Entity#collidesWith(Entity)}, and broken platforms still count as
+     * ground, as they are never removed from the level.
+     * 
+     * @param entity the entity to check
+     * @return true if the entity touches at least one platform
+     * @throws NullPointerException if entity is null
+     */
+    default boolean touchesPlatform(final Entity entity) {
+        Objects.requireNonNull(entity, "The entity cannot be null");
+        final BoundigBox dimension = entity.getDimension();
+        return this.touchesPlatform(entity.getX(), entity.getY(), dimension.width(), dimension.height());
+    }
+
+    /**
+     * Checks whether the given bounding box touches a platform tile, like
+     * {@link #touchesPlatform(Entity)} for callers that already hold the
+     * coordinates of the entity.
+     * 
+     * @param x      the left edge of the box
+     * @param y      the top edge of the box
+     * @param width  the width of the box
+     * @param height the height of the box
+     * @return true if the box touches at least one platform
+     */
+    boolean touchesPlatform(float x, float y, float width, float height);
+
+    /**
+     * Sweeps the bounding box of the entity downwards and returns how far it
+     * can move before its bottom edge reaches the top of a platform tile.
+     * Tiles touched by the entity at its starting height are not considered,
+     * so an entity resting on or overlapping a platform can still move.
+     * 
+     * @param entity   the entity to sweep, at its starting position
+     * @param distance the downward distance the entity would like to cover
+     * @return the distance that can be covered without passing through a
+     *         platform, between 0 and {@code distance}
+     * @throws NullPointerException if entity is null
+     */
+    default float sweepDown(final Entity entity, final float distance) {
+        Objects.requireNonNull(entity, "The entity cannot be null");
+        final BoundigBox dimension = entity.getDimension();
+        return this.sweepDown(entity.getX(), entity.getY(), dimension.width(), dimension.height(), distance);
+    }
+
+    /**
+     * Sweeps the given bounding box downwards, like
+     * {@link #sweepDown(Entity, float)} for callers that already hold the
+     * coordinates of the entity.
+     * 
+     * @param x        the left edge of the box at its starting position
+     * @param y        the top edge of the box at its starting position
+     * @param width    the width of the box
+     * @param height   the height of the box
+     * @param distance the downward distance the box would like to cover
+     * @return the distance that can be covered without passing through a
+     *         platform, between 0 and {@code distance}
+     */
+    float sweepDown(float x, float y, float width, float height, float distance);
+
+    /**
+     * Updates the tiles of the given platform after its state changed, for
+     * example when a breakable platform breaks. No other tile is touched.
+     * 
+     * @param platform the platform whose tiles must be updated
+     */
+    void refresh(Platform platform);
+
+    /**
+     * Checks whether the tile at the given map coordinates holds a broken
+     * platform.
+     * 
+     * @param column the tile column
+     * @param row    the tile row
+     * @return true if a broken platform occupies the tile
+     */
+    boolean isBrokenAt(int column, int row);
+}
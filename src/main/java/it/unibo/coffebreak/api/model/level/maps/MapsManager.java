@@ -2,8 +2,9 @@ package it.unibo.coffebreak.api.model.level.maps;
 
 import java.util.List;
 
-import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.level.entity.EntityIndex;
 import it.unibo.coffebreak.api.model.level.maps.state.MapState;
+import it.unibo.coffebreak.api.model.physics.BroadPhaseStrategy;
 
 /**
  * Interface for managing the sequence and logic of game maps (levels).
@@ -25,11 +26,11 @@ public interface MapsManager {
      * end.
      * Optionally, can be used to add new maps if more levels are required.
      *
-     * @param entities the list of entities in the level
+     * @param entities the entities in the level, indexed by type
      * @return true if the map index was advanced, false if it looped or could not
      *         advance
      */
-    boolean advance(List<Entity> entities);
+    boolean advance(EntityIndex entities);
 
     /**
      * Adds a new map to the sequence of maps.
@@ -42,10 +43,10 @@ public interface MapsManager {
     /**
      * Determines if the level should advance based on the current entities.
      * 
-     * @param entities the list of entities in the level
+     * @param entities the entities in the level, indexed by type
      * @return true if the level should advance, false otherwise
      */
-    boolean shouldAdvance(List<Entity> entities);
+    boolean shouldAdvance(EntityIndex entities);
 
     /**
      * Determines whether the level index should be increased.
@@ -65,6 +66,13 @@ public interface MapsManager {
      */
     boolean canDonkeyThrowBarrel();
 
+    /**
+     * Returns the broad phase strategy of the current map.
+     * 
+     * @return the broad phase strategy of the current map
+     */
+    BroadPhaseStrategy getBroadPhaseStrategy();
+
     /**
      * Reset the MapsManager to the first Map.
      */
@@ -2,7 +2,8 @@ package it.unibo.coffebreak.api.model.level.maps.state;
 
 import java.util.List;
 
-import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.level.entity.EntityIndex;
+import it.unibo.coffebreak.api.model.physics.BroadPhaseStrategy;
 
 /**
  * Represents the state of a game map, providing access to map data,
@@ -21,10 +22,10 @@ public interface MapState {
     /**
      * Determines if the level should advance based on the current entities.
      * 
-     * @param entities the list of entities in the level
+     * @param entities the entities in the level, indexed by type
      * @return true if the level should advance, false otherwise
      */
-    boolean shouldAdvance(List<Entity> entities);
+    boolean shouldAdvance(EntityIndex entities);
 
     /**
      * Returns the index of this map in the sequence of levels.
@@ -44,4 +45,11 @@ public interface MapState {
      * @return true if Donkey can throw a barrel in this map state, false otherwise
      */
     boolean canDonkeyThrowBarrel();
+
+    /**
+     * Returns the broad phase that best fits the layout of this map.
+     * 
+     * @return the broad phase strategy used while this map is played
+     */
+    BroadPhaseStrategy getBroadPhaseStrategy();
 }
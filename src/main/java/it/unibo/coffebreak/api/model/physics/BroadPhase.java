@@ -0,0 +1,70 @@
+package it.unibo.coffebreak.api.model.physics;
+
+import java.util.List;
+
+import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.impl.common.BoundigBox;
+
+/**
+ * First stage of collision detection.
+ * <p>
+ * A broad phase cheaply discards pairs of entities that cannot overlap, so that
+ * the exact bounding box test only runs on the remaining candidates.
+ * Implementations may report pairs that do not overlap, but must never miss a
+ * pair that does.
+ * </p>
+ * <p>
+ * Pairs whose {@link CollisionLayer}s do not interact are discarded first, by
+ * comparing the masks cached on {@link #rebuild}, before any coordinate is
+ * read.
+ * </p>
+ * 
+ * @author Alessandro Rebosio
+ */
+public interface BroadPhase {
+
+    /**
+     * Rebuilds the internal structures from scratch.
+     * Called once at the beginning of every tick, before any entity moves.
+     * 
+     * @param entities    the entities of the world, in model order
+     * @param worldBounds the size of the world in pixels
+     * @throws NullPointerException if any argument is null
+     */
+    void rebuild(List<Entity> entities, BoundigBox worldBounds);
+
+    /**
+     * Notifies that an entity may have moved since the last rebuild or refresh.
+     * Entities not known to the broad phase are ignored.
+     * 
+     * @param entity the entity that moved
+     * @throws NullPointerException if entity is null
+     */
+    void refresh(Entity entity);
+
+    /**
+     * Returns the position of the entity in the list given to the last
+     * {@link #rebuild}.
+     * 
+     * @param entity the entity to look up
+     * @return the index of the entity, or -1 if it is not known
+     * @throws NullPointerException if entity is null
+     */
+    int indexOf(Entity entity);
+
+    /**
+     * Returns the entities that may overlap the given one and whose layer
+     * interacts with its layer, in model order.
+     * The result may include the entity itself and entities that do not
+     * actually overlap it.
+     * <p>
+     * The returned list may be reused by the next call, so it must not be kept
+     * or modified by the caller.
+     * </p>
+     * 
+     * @param entity the entity to look up
+     * @return the candidate entities
+     * @throws NullPointerException if entity is null
+     */
+    List<Entity> candidates(Entity entity);
+}
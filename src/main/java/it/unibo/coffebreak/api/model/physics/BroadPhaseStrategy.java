@@ -0,0 +1,25 @@
+package it.unibo.coffebreak.api.model.physics;
+
+/**
+ * The available {@link BroadPhase} implementations, so that each map can pick
+ * the one that best fits its layout.
+ * 
+ * @author Alessandro Rebosio
+ */
+public enum BroadPhaseStrategy {
+
+    /**
+     * Tests every pair of entities.
+     */
+    NAIVE,
+
+    /**
+     * Buckets entities into tiles.
+     */
+    UNIFORM_GRID,
+
+    /**
+     * Sorts entities along the x axis.
+     */
+    SWEEP_AND_PRUNE
+}
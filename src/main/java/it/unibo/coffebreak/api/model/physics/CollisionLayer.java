@@ -0,0 +1,84 @@
+package it.unibo.coffebreak.api.model.physics;
+
+/**
+ * The collision layers an {@link it.unibo.coffebreak.api.model.entities.Entity}
+ * can belong to.
+ * <p>
+ * Each layer has a bit and a mask of the layers it interacts with. The matrix
+ * is symmetric and only allows the pairs that have a response, so pairs such as
+ * two platforms, or a barrel and a coin, are discarded before any bounding box
+ * is compared.
+ * </p>
+ *
+ * @author Alessandro Rebosio
+ */
+public enum CollisionLayer {
+
+    /**
+     * Platforms, which the moving entities stand on.
+     */
+    STATIC_GEOMETRY,
+
+    /**
+     * Ladders, which Mario and the fires climb.
+     */
+    CLIMBABLE,
+
+    /**
+     * Entities that hurt Mario, such as barrels and fires.
+     */
+    ENEMY,
+
+    /**
+     * Mario.
+     */
+    PLAYER,
+
+    /**
+     * Items collected by Mario.
+     */
+    PICKUP,
+
+    /**
+     * Stationary entities reacting to a contact, such as the tank or Pauline.
+     */
+    TRIGGER;
+
+    private int mask;
+
+    static {
+        allow(PLAYER, STATIC_GEOMETRY, CLIMBABLE, ENEMY, PICKUP, TRIGGER);
+        allow(ENEMY, STATIC_GEOMETRY, CLIMBABLE, TRIGGER);
+    }
+
+    /**
+     * @return the bit identifying this layer in a mask
+     */
+    public int bit() {
+        return 1 << this.ordinal();
+    }
+
+    /**
+     * @return the bits of the layers this layer interacts with
+     */
+    public int mask() {
+        return this.mask;
+    }
+
+    /**
+     * Checks whether entities of this layer and of the given one can collide.
+     *
+     * @param other the other layer
+     * @return true if the pair has to be tested
+     */
+    public boolean interactsWith(final CollisionLayer other) {
+        return (this.mask & other.bit()) != 0;
+    }
+
+    private static void allow(final CollisionLayer layer, final CollisionLayer... others) {
+        for (final CollisionLayer other : others) {
+            layer.mask |= other.bit();
+            other.mask |= layer.bit();
+        }
+    }
+}
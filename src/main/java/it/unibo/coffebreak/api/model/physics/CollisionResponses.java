@@ -0,0 +1,67 @@
+package it.unibo.coffebreak.api.model.physics;
+
+import java.util.function.BiConsumer;
+
+import it.unibo.coffebreak.api.model.entities.Entity;
+
+/**
+ * Registry of the responses to a contact between two kinds of entities.
+ * <p>
+ * A response is registered for a pair of types and describes how an entity of
+ * the first type reacts to touching an entity of the second one. Every concrete
+ * class of entity is given a dense kind number, and the responses of each pair
+ * of kinds are resolved once, so that a contact is dispatched by looking up a
+ * single table entry instead of checking the types of both entities.
+ * </p>
+ *
+ * @author Alessandro Rebosio
+ */
+public interface CollisionResponses {
+
+    /**
+     * Registers how an entity of the given type reacts to a contact with an
+     * entity of the other type. When several responses match the same pair,
+     * they all run in registration order.
+     *
+     * @param <A>       the type of the reacting entity
+     * @param <B>       the type of the entity touched
+     * @param kind      the class of the reacting entity, or one of its supertypes
+     * @param otherKind the class of the entity touched, or one of its supertypes
+     * @param response  the reaction to run
+     * @throws NullPointerException if any argument is null
+     */
+    <A extends Entity, B extends Entity> void register(Class<A> kind, Class<B> otherKind,
+            BiConsumer<? super A, ? super B> response);
+
+    /**
+     * Returns the kind of the given entity, resolving the responses of its
+     * class the first time it is seen.
+     *
+     * @param entity the entity to look up
+     * @return the dense kind number of the class of the entity
+     * @throws NullPointerException if entity is null
+     */
+    int kindOf(Entity entity);
+
+    /**
+     * Runs the reaction of an entity to a contact with another one, given the
+     * kinds previously returned by {@link #kindOf(Entity)} for them.
+     *
+     * @param entity    the reacting entity
+     * @param kind      the kind of the reacting entity
+     * @param other     the entity touched
+     * @param otherKind the kind of the entity touched
+     */
+    void respond(Entity entity, int kind, Entity other, int otherKind);
+
+    /**
+     * Runs the reaction of an entity to a contact with another one.
+     *
+     * @param entity the reacting entity
+     * @param other  the entity touched
+     * @throws NullPointerException if any argument is null
+     */
+    default void respond(final Entity entity, final Entity other) {
+        this.respond(entity, this.kindOf(entity), other, this.kindOf(other));
+    }
+}
@@ -0,0 +1,41 @@
+package it.unibo.coffebreak.api.model.physics;
+
+import java.util.List;
+
+import it.unibo.coffebreak.api.model.entities.Entity;
+
+/**
+ * Read-only view of the contacts found for one entity during the last
+ * simulation tick, filled by the physics engine.
+ * <p>
+ * Ground checks, landing callbacks and states such as the ladder detection of
+ * Mario read what the entity touched here instead of scanning the world
+ * again.
+ * </p>
+ *
+ * @author Alessandro Rebosio
+ */
+public interface Contacts {
+
+    /**
+     * @return true if the entity touched at least one platform
+     */
+    boolean touchesPlatform();
+
+    /**
+     * @return true if the entity touched at least one ladder
+     */
+    boolean touchesLadder();
+
+    /**
+     * @return true if the entity touched at least one enemy
+     */
+    boolean touchesEnemy();
+
+    /**
+     * Returns the touched entities, in the order the contacts were found.
+     *
+     * @return an unmodifiable view of the contacts, valid until the next tick
+     */
+    List<Entity> contacts();
+}
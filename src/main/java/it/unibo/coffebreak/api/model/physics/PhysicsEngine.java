@@ -30,13 +30,26 @@ import it.unibo.coffebreak.api.model.Model;
  */
 public interface PhysicsEngine {
 
+    /**
+     * Prepares the engine for a new simulation tick.
+     * <p>
+     * Must be called once per tick, before any call to
+     * {@link #updateEntity(Entity, Model, float)}, so that the engine can
+     * index the current entities of the world.
+     * </p>
+     * 
+     * @param model the game model containing all entities and world boundaries
+     * @throws NullPointerException if model is null
+     */
+    void beginTick(Model model);
+
     /**
      * Updates an entity's physics for the current frame.
      * <p>
-     * This method applies physics calculations (gravity, movement, etc.) to the
-     * entity
-     * and then performs collision detection and response. The order of operations
-     * ensures consistent and predictable behavior across all entities.
+     * This method applies physics calculations (gravity, movement, world
+     * bounds) to the entity. Collisions are resolved for all the entities at
+     * once by {@link #endTick(Model)}, so that each touching pair is handled
+     * exactly once per tick.
      * </p>
      * 
      * @param entity    the entity to update
@@ -47,6 +60,20 @@ public interface PhysicsEngine {
      */
     void updateEntity(Entity entity, Model model, float deltaTime);
 
+    /**
+     * Resolves the collisions of the current simulation tick.
+     * <p>
+     * Must be called once per tick, after every entity has been updated with
+     * {@link #updateEntity(Entity, Model, float)}. Each pair of touching
+     * entities is notified exactly once, then the entities that landed on or
+     * left a platform are notified.
+     * </p>
+     * 
+     * @param model the game model containing all entities and world boundaries
+     * @throws NullPointerException if model is null
+     */
+    void endTick(Model model);
+
     /**
      * Applies gravity to an entity if it's not supported by a platform.
      * <p>
@@ -73,19 +100,6 @@ public interface PhysicsEngine {
      */
     void applyMovement(Entity entity, float deltaTime);
 
-    /**
-     * Performs collision detection and response for an entity against the world.
-     * <p>
-     * This method checks for collisions between the entity and world boundaries,
-     * platforms, and other entities, then applies appropriate collision responses.
-     * </p>
-     * 
-     * @param entity the entity to check collisions for
-     * @param model  the game model containing all entities and world boundaries
-     * @throws IllegalArgumentException if any parameter is null
-     */
-    void handleCollisions(Entity entity, Model model);
-
     /**
      * Checks if an entity is currently on a platform.
      * <p>
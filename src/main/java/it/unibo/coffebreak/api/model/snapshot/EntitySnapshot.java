@@ -0,0 +1,115 @@
+package it.unibo.coffebreak.api.model.snapshot;
+
+import java.util.Objects;
+
+import it.unibo.coffebreak.api.model.entities.EntityHandle;
+import it.unibo.coffebreak.impl.common.BoundigBox;
+import it.unibo.coffebreak.impl.common.Position;
+
+/**
+ * Immutable copy of the render-relevant state of a single entity, taken at the
+ * end of a simulation tick.
+ * <p>
+ * The view only reads snapshots, so it never touches the live entities that
+ * the simulation thread keeps mutating.
+ * </p>
+ *
+ * @param key              handle of the source entity, stable across ticks;
+ *                         its slot can be reused, but never with the same
+ *                         generation, so it keys per-entity animation state
+ * @param kind             the kind of the source entity
+ * @param position         the position at the end of the tick
+ * @param previousPosition the position at the beginning of the tick
+ * @param dimension        the dimension of the entity
+ * @param flags            bitmask of animation-relevant flags
+ *
+ * @author Alessandro Rebosio
+ */
+public record EntitySnapshot(EntityHandle key, Kind kind, Position position, Position previousPosition,
+        BoundigBox dimension, int flags) {
+
+    /** The entity faces right. */
+    public static final int FACING_RIGHT = 1;
+    /** The entity is jumping. */
+    public static final int JUMPING = 1 << 1;
+    /** The entity is climbing a ladder. */
+    public static final int CLIMBING = 1 << 2;
+    /** The entity is moving horizontally. */
+    public static final int WALKING = 1 << 3;
+    /** The entity holds a hammer. */
+    public static final int HAMMER = 1 << 4;
+    /** The entity destroyed an enemy during the tick. */
+    public static final int DESTROYED_ENEMY = 1 << 5;
+    /** The entity is throwing a barrel. */
+    public static final int THROWING = 1 << 6;
+    /** The entity is active (e.g. a burning tank). */
+    public static final int ACTIVE = 1 << 7;
+    /** The entity has been destroyed, collected or broken. */
+    public static final int DESTROYED = 1 << 8;
+
+    /**
+     * Creates a new snapshot checking that no component is null.
+     *
+     * @param key              handle of the source entity
+     * @param kind             the kind of the source entity
+     * @param position         the position at the end of the tick
+     * @param previousPosition the position at the beginning of the tick
+     * @param dimension        the dimension of the entity
+     * @param flags            bitmask of animation-relevant flags
+     * @throws NullPointerException if any reference component is null
+     */
+    public EntitySnapshot {
+        Objects.requireNonNull(key, "The key cannot be null");
+        Objects.requireNonNull(kind, "The kind cannot be null");
+        Objects.requireNonNull(position, "The position cannot be null");
+        Objects.requireNonNull(previousPosition, "The previous position cannot be null");
+        Objects.requireNonNull(dimension, "The dimension cannot be null");
+    }
+
+    /**
+     * Checks whether the given flag is set.
+     *
+     * @param flag one of the flag constants of this class
+     * @return true if the flag is set, false otherwise
+     */
+    public boolean has(final int flag) {
+        return (this.flags & flag) != 0;
+    }
+
+    /**
+     * The kinds of entity the view knows how to draw.
+     */
+    public enum Kind {
+        /** The main character. */
+        MARIO,
+        /** A rolling barrel. */
+        BARREL,
+        /** A fire enemy. */
+        FIRE,
+        /** The barrel-throwing antagonist. */
+        ANTAGONIST,
+        /** The princess to rescue. */
+        PRINCESS,
+        /** A ladder. */
+        LADDER,
+        /** A normal platform. */
+        PLATFORM,
+        /** A platform that can be broken. */
+        BREAKABLE_PLATFORM,
+        /** The oil tank. */
+        TANK,
+        /** A coin. */
+        COIN,
+        /** A hammer. */
+        HAMMER,
+        /** Any entity without a dedicated renderer. */
+        OTHER;
+
+        /**
+         * @return true if this kind is a platform of any type
+         */
+        public boolean isPlatform() {
+            return this == PLATFORM || this == BREAKABLE_PLATFORM;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package it.unibo.coffebreak.api.model.snapshot;
+
+/**
+ * Immutable copy of the values shown by the heads-up display, taken at the end
+ * of a simulation tick together with the entities.
+ *
+ * @param score     the score of the player
+ * @param highScore the highest score of the leaderboard
+ * @param lives     the lives left to the player
+ * @param bonus     the bonus left in the current map
+ * @param level     the index of the current level
+ *
+ * @author Alessandro Rebosio
+ */
+public record HudSnapshot(int score, int highScore, int lives, int bonus, int level) {
+
+    /**
+     * Display of a game that has not started yet.
+     */
+    public static final HudSnapshot EMPTY = new HudSnapshot(0, 0, 0, 0, 0);
+}
@@ -0,0 +1,57 @@
+package it.unibo.coffebreak.api.model.snapshot;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable view of the game world at the end of a simulation tick.
+ * <p>
+ * Besides the entities, it carries the screen the model was in and the values
+ * of the heads-up display, so that the view never reads the live model.
+ * </p>
+ *
+ * @param tick     the number of the tick this snapshot was taken at
+ * @param screen   the screen matching the state of the model
+ * @param hud      the values of the heads-up display
+ * @param entities the snapshots of every entity, in model order
+ *
+ * @author Alessandro Rebosio
+ */
+public record WorldSnapshot(long tick, Screen screen, HudSnapshot hud, List<EntitySnapshot> entities) {
+
+    /**
+     * Snapshot of an empty world, used before the first tick is published.
+     */
+    public static final WorldSnapshot EMPTY = new WorldSnapshot(0L, Screen.MENU, HudSnapshot.EMPTY, List.of());
+
+    /**
+     * Creates a new snapshot, copying the entity list.
+     *
+     * @param tick     the number of the tick this snapshot was taken at
+     * @param screen   the screen matching the state of the model
+     * @param hud      the values of the heads-up display
+     * @param entities the snapshots of every entity
+     * @throws NullPointerException if screen, hud or entities is null
+     */
+    public WorldSnapshot {
+        Objects.requireNonNull(screen, "The screen cannot be null");
+        Objects.requireNonNull(hud, "The hud cannot be null");
+        entities = List.copyOf(Objects.requireNonNull(entities, "The entities cannot be null"));
+    }
+
+    /**
+     * The screens the view switches between, one per state of the model.
+     */
+    public enum Screen {
+        /** The main menu. */
+        MENU,
+        /** The game being played. */
+        IN_GAME,
+        /** The pause menu. */
+        PAUSE,
+        /** The game over screen. */
+        GAME_OVER,
+        /** Any other state, which keeps the current screen. */
+        OTHER
+    }
+}
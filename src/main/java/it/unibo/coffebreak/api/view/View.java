@@ -19,6 +19,17 @@ public interface View {
      * Updates the view with the current game state.
      * 
      * @param deltaTime time elapsed since last update, in seconds
+     * @param alpha     fraction of a simulation tick elapsed since the last model
+     *                  update, in the range [0, 1], used to interpolate entity
+     *                  positions
      */
-    void update(float deltaTime);
+    void update(float deltaTime, float alpha);
+
+    /**
+     * Returns how long the last frame took to reach the screen after being
+     * requested, so that different presentation strategies can be compared.
+     * 
+     * @return the last measured present latency in nanoseconds
+     */
+    long getPresentLatency();
 }
@@ -11,6 +11,24 @@ public interface Panel {
      * Updates the current game screen by switching to the appropriate view state.
      *
      * @param deltaTime the time elapsed since the last update
+     * @param alpha     the interpolation factor between the last two simulation
+     *                  ticks
      */
-    void update(float deltaTime);
+    void update(float deltaTime, float alpha);
+
+    /**
+     * Shows the current frame on screen.
+     * Passive implementations only schedule a repaint, while active ones draw
+     * and flip the frame before returning.
+     */
+    void present();
+
+    /**
+     * Returns the time taken by the last presented frame, from the call to
+     * {@link #present()} until the frame was handed to the display.
+     *
+     * @return the last measured present latency in nanoseconds, or 0 if no frame
+     *         has been presented yet
+     */
+    long getPresentLatency();
 }
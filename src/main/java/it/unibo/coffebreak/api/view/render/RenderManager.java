@@ -3,7 +3,7 @@ package it.unibo.coffebreak.api.view.render;
 import java.awt.Graphics2D;
 import java.util.List;
 
-import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot;
 
 /**
  * Simplified and more focused render manager interface.
@@ -16,11 +16,13 @@ public interface RenderManager {
      * Renders the given list of entities and static elements.
      *
      * @param g the Graphics2D context to draw on
-     * @param entities the list of entities to render
+     * @param entities the snapshots of the entities to render
      * @param width the width of the rendering area
      * @param height the height of the rendering area
      * @param deltaTime the time elapsed since the last render call, in seconds
+     * @param alpha the interpolation factor between the previous and the current
+     *              position of each entity, in the range [0, 1]
      */
-    void render(Graphics2D g, List<Entity> entities, int width, int height,
-            float deltaTime);
+    void render(Graphics2D g, List<EntitySnapshot> entities, int width, int height,
+            float deltaTime, float alpha);
 }
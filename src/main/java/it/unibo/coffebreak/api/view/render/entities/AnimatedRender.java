@@ -2,7 +2,7 @@ package it.unibo.coffebreak.api.view.render.entities;
 
 import java.awt.image.BufferedImage;
 
-import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot;
 
 /**
  * Interface for rendering animated entities using sprite sheets.
@@ -25,7 +25,7 @@ public interface AnimatedRender<T extends Enum<T>> {
      * @return the current frame image to render
      * @throws NullPointerException if any parameter is null
      */
-    BufferedImage updateAndGetFrame(Entity entity, T animationType,
+    BufferedImage updateAndGetFrame(EntitySnapshot entity, T animationType,
                 AnimationInfo info, float deltaTime);
 
     /**
@@ -2,7 +2,7 @@ package it.unibo.coffebreak.api.view.render.entities;
 
 import java.awt.Graphics2D;
 
-import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot;
 
 /**
  * An interface that defines a renderer for a specific type of game entity.
@@ -24,5 +24,5 @@ public interface EntityRender {
      * @param width     the width available for rendering the entity
      * @param height    the height available for rendering the entity
      */
-    void draw(Graphics2D g, Entity entity, float deltaTime, int width, int height);
+    void draw(Graphics2D g, EntitySnapshot entity, float deltaTime, int width, int height);
 }
@@ -37,6 +37,8 @@ public interface ViewState {
      * @param width  the width of the rendering area
      * @param height the height of the rendering area
      * @param deltaTime
+     * @param alpha  the interpolation factor between the last two simulation
+     *               ticks, in the range [0, 1]
      */
-    void draw(Graphics2D g, int width, int height, float deltaTime);
+    void draw(Graphics2D g, int width, int height, float deltaTime, float alpha);
 }
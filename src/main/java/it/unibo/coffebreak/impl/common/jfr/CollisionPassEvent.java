@@ -0,0 +1,70 @@
+package it.unibo.coffebreak.impl.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event covering the collision phase of one simulation tick.
+ *
+ * @author Alessandro Rebosio
+ */
+@Name("it.unibo.coffebreak.CollisionPass")
+@Label("Collision Pass")
+@Category({ "Coffee Break", "Physics" })
+@Description("The contact generation and dispatch of one simulation tick")
+public final class CollisionPassEvent extends Event {
+
+    private static final CollisionPassEvent DISABLED = new CollisionPassEvent();
+
+    /** Number of pairs checked for overlap. */
+    @Label("Pairs Tested")
+    private int pairsTested;
+
+    /** Number of unique pairs that overlapped and were dispatched. */
+    @Label("Pairs Hit")
+    private int pairsHit;
+
+    private CollisionPassEvent() {
+        super();
+    }
+
+    /**
+     * Creates and begins a new event. Until the Flight Recorder is initialized
+     * no recording can observe the event, so a shared instance that is never
+     * committed is returned instead, and nothing is allocated.
+     *
+     * @return the event to complete once the measured work is done
+     */
+    public static CollisionPassEvent start() {
+        if (!FlightRecorder.isInitialized()) {
+            return DISABLED;
+        }
+        final CollisionPassEvent event = new CollisionPassEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it with the given values if it is enabled.
+     * Call {@link #start()} before the measured work and this method once
+     * every pair has been checked.
+     *
+     * @param pairsTested number of pairs checked for overlap
+     * @param pairsHit number of pairs that overlapped
+     */
+    public void complete(final int pairsTested, final int pairsHit) {
+        if (this == DISABLED) {
+            return;
+        }
+        this.end();
+        if (this.shouldCommit()) {
+            this.pairsTested = pairsTested;
+            this.pairsHit = pairsHit;
+            this.commit();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package it.unibo.coffebreak.impl.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event emitted when an entity is removed from the world.
+ *
+ * @author Alessandro Rebosio
+ */
+@Name("it.unibo.coffebreak.EntityDespawn")
+@Label("Entity Despawn")
+@Category({ "Coffee Break", "Entities" })
+@Description("An entity removed from the world")
+public final class EntityDespawnEvent extends Event {
+
+    /** Simple name of the class of the entity. */
+    @Label("Entity Type")
+    private String entityType;
+
+    /** Why the entity was removed. */
+    @Label("Cause")
+    private String cause;
+
+    private EntityDespawnEvent() {
+        super();
+    }
+
+    /**
+     * Commits a new event with the given values if the event is enabled.
+     * Nothing is allocated until the Flight Recorder is initialized, since no
+     * recording can observe the event before.
+     *
+     * @param entityType simple name of the class of the entity
+     * @param cause why the entity was removed
+     */
+    public static void emit(final String entityType, final String cause) {
+        if (!FlightRecorder.isInitialized()) {
+            return;
+        }
+        final EntityDespawnEvent event = new EntityDespawnEvent();
+        if (event.shouldCommit()) {
+            event.entityType = entityType;
+            event.cause = cause;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package it.unibo.coffebreak.impl.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event emitted when an entity is created during play.
+ *
+ * @author Alessandro Rebosio
+ */
+@Name("it.unibo.coffebreak.EntitySpawn")
+@Label("Entity Spawn")
+@Category({ "Coffee Break", "Entities" })
+@Description("An entity created during play")
+public final class EntitySpawnEvent extends Event {
+
+    /** Simple name of the class of the entity. */
+    @Label("Entity Type")
+    private String entityType;
+
+    /** Why the entity was created. */
+    @Label("Cause")
+    private String cause;
+
+    private EntitySpawnEvent() {
+        super();
+    }
+
+    /**
+     * Commits a new event with the given values if the event is enabled.
+     * Nothing is allocated until the Flight Recorder is initialized, since no
+     * recording can observe the event before.
+     *
+     * @param entityType simple name of the class of the entity
+     * @param cause why the entity was created
+     */
+    public static void emit(final String entityType, final String cause) {
+        if (!FlightRecorder.isInitialized()) {
+            return;
+        }
+        final EntitySpawnEvent event = new EntitySpawnEvent();
+        if (event.shouldCommit()) {
+            event.entityType = entityType;
+            event.cause = cause;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package it.unibo.coffebreak.impl.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event covering one frame drawn by the render thread.
+ *
+ * @author Alessandro Rebosio
+ */
+@Name("it.unibo.coffebreak.Frame")
+@Label("Frame")
+@Category({ "Coffee Break", "Engine" })
+@Description("A frame drawn by the render thread")
+public final class FrameEvent extends Event {
+
+    private static final FrameEvent DISABLED = new FrameEvent();
+
+    /** Number of the frame since the engine started. */
+    @Label("Frame")
+    private long frame;
+
+    /** Interpolation factor used to draw the frame. */
+    @Label("Alpha")
+    private float alpha;
+
+    private FrameEvent() {
+        super();
+    }
+
+    /**
+     * Creates and begins a new event. Until the Flight Recorder is initialized
+     * no recording can observe the event, so a shared instance that is never
+     * committed is returned instead, and nothing is allocated.
+     *
+     * @return the event to complete once the measured work is done
+     */
+    public static FrameEvent start() {
+        if (!FlightRecorder.isInitialized()) {
+            return DISABLED;
+        }
+        final FrameEvent event = new FrameEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it with the given values if it is enabled.
+     * Call {@link #start()} before the measured work and this method once
+     * the frame has been drawn.
+     *
+     * @param frame number of the frame since the engine started
+     * @param alpha interpolation factor used to draw the frame
+     */
+    public void complete(final long frame, final float alpha) {
+        if (this == DISABLED) {
+            return;
+        }
+        this.end();
+        if (this.shouldCommit()) {
+            this.frame = frame;
+            this.alpha = alpha;
+            this.commit();
+        }
+    }
+}
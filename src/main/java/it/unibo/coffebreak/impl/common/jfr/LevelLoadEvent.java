@@ -0,0 +1,70 @@
+package it.unibo.coffebreak.impl.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event covering the loading of the entities of the current map.
+ *
+ * @author Alessandro Rebosio
+ */
+@Name("it.unibo.coffebreak.LevelLoad")
+@Label("Level Load")
+@Category({ "Coffee Break", "Level" })
+@Description("The creation of the entities of the current map")
+public final class LevelLoadEvent extends Event {
+
+    private static final LevelLoadEvent DISABLED = new LevelLoadEvent();
+
+    /** Index of the level being played. */
+    @Label("Level")
+    private int level;
+
+    /** Number of entities created. */
+    @Label("Entities")
+    private int entities;
+
+    private LevelLoadEvent() {
+        super();
+    }
+
+    /**
+     * Creates and begins a new event. Until the Flight Recorder is initialized
+     * no recording can observe the event, so a shared instance that is never
+     * committed is returned instead, and nothing is allocated.
+     *
+     * @return the event to complete once the measured work is done
+     */
+    public static LevelLoadEvent start() {
+        if (!FlightRecorder.isInitialized()) {
+            return DISABLED;
+        }
+        final LevelLoadEvent event = new LevelLoadEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it with the given values if it is enabled.
+     * Call {@link #start()} before the measured work and this method once
+     * the entities have been created.
+     *
+     * @param level index of the level being played
+     * @param entities number of entities created
+     */
+    public void complete(final int level, final int entities) {
+        if (this == DISABLED) {
+            return;
+        }
+        this.end();
+        if (this.shouldCommit()) {
+            this.level = level;
+            this.entities = entities;
+            this.commit();
+        }
+    }
+}
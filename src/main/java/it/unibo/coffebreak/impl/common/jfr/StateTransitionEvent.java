@@ -0,0 +1,52 @@
+package it.unibo.coffebreak.impl.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event emitted when the model switches to another state.
+ *
+ * @author Alessandro Rebosio
+ */
+@Name("it.unibo.coffebreak.StateTransition")
+@Label("State Transition")
+@Category({ "Coffee Break", "Model" })
+@Description("A change of the model state")
+public final class StateTransitionEvent extends Event {
+
+    /** Simple name of the previous state, empty for the first one. */
+    @Label("From")
+    private String from;
+
+    /** Simple name of the new state. */
+    @Label("To")
+    private String to;
+
+    private StateTransitionEvent() {
+        super();
+    }
+
+    /**
+     * Commits a new event with the given values if the event is enabled.
+     * Nothing is allocated until the Flight Recorder is initialized, since no
+     * recording can observe the event before.
+     *
+     * @param from simple name of the previous state, empty for the first one
+     * @param to simple name of the new state
+     */
+    public static void emit(final String from, final String to) {
+        if (!FlightRecorder.isInitialized()) {
+            return;
+        }
+        final StateTransitionEvent event = new StateTransitionEvent();
+        if (event.shouldCommit()) {
+            event.from = from;
+            event.to = to;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package it.unibo.coffebreak.impl.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event covering one simulation tick of the model.
+ *
+ * @author Alessandro Rebosio
+ */
+@Name("it.unibo.coffebreak.Tick")
+@Label("Model Tick")
+@Category({ "Coffee Break", "Model" })
+@Description("A simulation tick of the model")
+public final class TickEvent extends Event {
+
+    private static final TickEvent DISABLED = new TickEvent();
+
+    /** Number of the tick since the model was created. */
+    @Label("Tick")
+    private long tick;
+
+    /** Simple name of the model state that handled the tick. */
+    @Label("State")
+    private String state;
+
+    /** Number of entities alive at the end of the tick. */
+    @Label("Entities")
+    private int entities;
+
+    private TickEvent() {
+        super();
+    }
+
+    /**
+     * Creates and begins a new event. Until the Flight Recorder is initialized
+     * no recording can observe the event, so a shared instance that is never
+     * committed is returned instead, and nothing is allocated.
+     *
+     * @return the event to complete once the measured work is done
+     */
+    public static TickEvent start() {
+        if (!FlightRecorder.isInitialized()) {
+            return DISABLED;
+        }
+        final TickEvent event = new TickEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it with the given values if it is enabled.
+     * Call {@link #start()} before the measured work and this method once
+     * the tick is over.
+     *
+     * @param tick number of the tick since the model was created
+     * @param state simple name of the model state that handled the tick
+     * @param entities number of entities alive at the end of the tick
+     */
+    public void complete(final long tick, final String state, final int entities) {
+        if (this == DISABLED) {
+            return;
+        }
+        this.end();
+        if (this.shouldCommit()) {
+            this.tick = tick;
+            this.state = state;
+            this.entities = entities;
+            this.commit();
+        }
+    }
+}
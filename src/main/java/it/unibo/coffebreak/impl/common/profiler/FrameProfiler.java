@@ -0,0 +1,245 @@
+package it.unibo.coffebreak.impl.common.profiler;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Records how long each phase of a frame takes, in nanoseconds.
+ * <p>
+ * Every {@link Phase} owns a fixed-size ring buffer of primitive longs
+ * allocated once at construction, so recording a sample never allocates and
+ * the most recent {@link #getCapacity()} samples are always available. Each
+ * phase is expected to be recorded by a single thread (simulation phases by
+ * the simulation thread, drawing phases by the render thread); readers may
+ * observe a sample that is being overwritten, which only matters for
+ * statistics and is accepted to keep recording lock-free.
+ * </p>
+ * <p>
+ * The engine that reports the timings creates its own profiler and hands it to
+ * the model and the view; everything else uses {@link #disabled()}.
+ * </p>
+ *
+ * @author Alessandro Rebosio
+ */
+public final class FrameProfiler {
+
+    /**
+     * Default number of samples kept for each phase.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final FrameProfiler DISABLED = new FrameProfiler(1, false);
+    private static final double PERCENT = 100.0;
+
+    private final boolean enabled;
+    private final int capacity;
+    private final long[][] samples;
+    private final long[] written;
+    private final long[] scratch;
+    private volatile boolean overlayVisible;
+
+    /**
+     * Creates a profiler keeping the given number of samples per phase.
+     *
+     * @param capacity the number of samples kept for each phase
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public FrameProfiler(final int capacity) {
+        this(capacity, true);
+    }
+
+    private FrameProfiler(final int capacity, final boolean enabled) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.samples = new long[Phase.values().length][capacity];
+        this.written = new long[Phase.values().length];
+        this.scratch = new long[capacity];
+    }
+
+    /**
+     * Returns a profiler that records nothing and never shows its overlay.
+     *
+     * @return the disabled profiler
+     */
+    public static FrameProfiler disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Records a sample for the given phase, overwriting the oldest one when the
+     * buffer is full. Does nothing if this profiler is disabled.
+     *
+     * @param phase the measured phase
+     * @param nanos the duration of the phase in nanoseconds
+     */
+    public void record(final Phase phase, final long nanos) {
+        if (this.enabled) {
+            final int index = phase.ordinal();
+            this.samples[index][(int) (this.written[index] % this.capacity)] = nanos;
+            this.written[index]++;
+        }
+    }
+
+    /**
+     * Records the time elapsed from the given start to now.
+     *
+     * @param phase the measured phase
+     * @param start the start of the phase, as returned by {@link System#nanoTime()}
+     */
+    public void stop(final Phase phase, final long start) {
+        this.record(phase, System.nanoTime() - start);
+    }
+
+    /**
+     * @return the number of samples kept for each phase
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Returns how many samples of the given phase are currently stored.
+     *
+     * @param phase the phase to inspect
+     * @return the number of stored samples, at most {@link #getCapacity()}
+     */
+    public int size(final Phase phase) {
+        return (int) Math.min(this.written[phase.ordinal()], this.capacity);
+    }
+
+    /**
+     * Returns a stored sample, counting back from the most recent one.
+     *
+     * @param phase the phase to inspect
+     * @param age   0 for the most recent sample, 1 for the previous one and so on
+     * @return the sample in nanoseconds
+     * @throws IndexOutOfBoundsException if age is not lower than {@link #size(Phase)}
+     */
+    public long sample(final Phase phase, final int age) {
+        Objects.checkIndex(age, this.size(phase));
+        final long position = this.written[phase.ordinal()] - 1 - age;
+        return this.samples[phase.ordinal()][(int) (position % this.capacity)];
+    }
+
+    /**
+     * Computes a percentile of the stored samples of the given phase, without
+     * allocating.
+     *
+     * @param phase      the phase to inspect
+     * @param percentile the percentile to compute, in the range [0, 100]
+     * @return the sample at the given percentile in nanoseconds, or 0 if no
+     *         sample has been recorded
+     * @throws IllegalArgumentException if percentile is out of range
+     */
+    public synchronized long percentile(final Phase phase, final double percentile) {
+        if (percentile < 0 || percentile > PERCENT) {
+            throw new IllegalArgumentException("Percentile must be in [0, 100]");
+        }
+        final int size = this.size(phase);
+        if (size == 0) {
+            return 0L;
+        }
+        System.arraycopy(this.samples[phase.ordinal()], 0, this.scratch, 0, size);
+        Arrays.sort(this.scratch, 0, size);
+        final int rank = (int) Math.ceil(percentile / PERCENT * size) - 1;
+        return this.scratch[Math.max(rank, 0)];
+    }
+
+    /**
+     * Shows or hides the on-screen overlay, unless this profiler is disabled.
+     */
+    public void toggleOverlay() {
+        this.overlayVisible = this.enabled && !this.overlayVisible;
+    }
+
+    /**
+     * @return true if the on-screen overlay should be drawn
+     */
+    public boolean isOverlayVisible() {
+        return this.overlayVisible;
+    }
+
+    /**
+     * Writes the stored samples as CSV: one column per phase, one row per sample
+     * from the oldest to the newest. Phases with fewer samples leave their
+     * trailing cells empty.
+     *
+     * @param out the writer to write to
+     * @throws IOException if writing fails
+     */
+    public void writeCsv(final Writer out) throws IOException {
+        final Phase[] phases = Phase.values();
+        out.write(String.join(",", Arrays.stream(phases).map(Phase::name).toList()));
+        out.write(System.lineSeparator());
+
+        final int rows = Arrays.stream(phases).mapToInt(this::size).max().orElse(0);
+        for (int row = 0; row < rows; row++) {
+            final StringBuilder line = new StringBuilder();
+            for (final Phase phase : phases) {
+                if (phase.ordinal() > 0) {
+                    line.append(',');
+                }
+                final int size = this.size(phase);
+                if (row < size) {
+                    line.append(this.sample(phase, size - 1 - row));
+                }
+            }
+            out.write(line.append(System.lineSeparator()).toString());
+        }
+    }
+
+    /**
+     * Writes the stored samples as CSV to the given file, creating its parent
+     * directories if needed.
+     *
+     * @param file the destination file
+     * @throws IOException if the file cannot be written
+     */
+    public void dumpCsv(final Path file) throws IOException {
+        final Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Writer out = Files.newBufferedWriter(file)) {
+            this.writeCsv(out);
+        }
+    }
+
+    /**
+     * Discards every stored sample.
+     */
+    public void reset() {
+        Arrays.fill(this.written, 0L);
+    }
+
+    /**
+     * The measured phases of a frame.
+     */
+    public enum Phase {
+        /** Processing of the queued input commands. */
+        INPUT,
+        /** A whole simulation tick. */
+        TICK,
+        /** The update of every entity's own logic. */
+        ENTITY_UPDATE,
+        /** Movement and collision handling of the physics entities. */
+        PHYSICS,
+        /** Transformation and removal of entities. */
+        TRANSFORM,
+        /** The check for the next map. */
+        NEXT_MAP,
+        /** Drawing of the game world. */
+        RENDER,
+        /** Drawing of the in-game HUD. */
+        HUD,
+        /** Time between two consecutive rendered frames. */
+        FRAME
+    }
+}
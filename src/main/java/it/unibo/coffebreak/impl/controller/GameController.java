@@ -1,7 +1,9 @@
 package it.unibo.coffebreak.impl.controller;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Queue;
+import java.util.SplittableRandom;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 import it.unibo.coffebreak.api.common.Loader;
@@ -9,11 +11,12 @@ import it.unibo.coffebreak.api.controller.Controller;
 import it.unibo.coffebreak.api.controller.action.Action;
 import it.unibo.coffebreak.api.controller.mapper.KeyActionMapper;
 import it.unibo.coffebreak.api.model.Model;
-import it.unibo.coffebreak.api.model.entities.Entity;
 import it.unibo.coffebreak.api.model.entities.character.MainCharacter;
 import it.unibo.coffebreak.api.model.leaderboard.entry.Entry;
+import it.unibo.coffebreak.api.model.snapshot.WorldSnapshot;
 import it.unibo.coffebreak.api.model.states.ModelState;
 import it.unibo.coffebreak.impl.common.Vector;
+import it.unibo.coffebreak.impl.common.profiler.FrameProfiler;
 import it.unibo.coffebreak.impl.controller.mapper.StandardKeyMapper;
 import it.unibo.coffebreak.impl.model.GameModel;
 
@@ -27,12 +30,15 @@ import it.unibo.coffebreak.impl.model.GameModel;
  * <li>Applying commands to the model</li>
  * <li>Managing the game loop updates</li>
  * </ul>
+ * Key presses and releases arrive on the event dispatch thread: both are
+ * only queued, in order, and applied to the model by {@link #processInput()}
+ * on the thread running the game loop.
  * 
  * @author Alessandro Rebosio
  */
 public class GameController implements Controller {
 
-    private final Queue<Action> commandQueue = new ConcurrentLinkedQueue<>();
+    private final Queue<Runnable> commandQueue = new ConcurrentLinkedQueue<>();
     private final KeyActionMapper input = new StandardKeyMapper();
     private final Model model;
 
@@ -46,16 +52,38 @@ public class GameController implements Controller {
         this.model = new GameModel(loader);
     }
 
+    /**
+     * Constructs a new {@code GameController} whose model and view record the
+     * phases of each frame in the given profiler.
+     *
+     * @param loader   the loader used to initialize the game model
+     * @param profiler the profiler the phases of each frame are recorded in
+     * @throws NullPointerException if profiler is null
+     */
+    public GameController(final Loader loader, final FrameProfiler profiler) {
+        this.model = new GameModel(loader, new SplittableRandom(), profiler);
+    }
+
+    /**
+     * Constructs a new {@code GameController} driving a deterministic model,
+     * whose randomness is drawn from a generator with the given seed.
+     *
+     * @param loader the loader used to initialize the game model
+     * @param seed   the seed of the random decisions of the game
+     */
+    public GameController(final Loader loader, final long seed) {
+        this.model = new GameModel(loader, new SplittableRandom(seed));
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void processInput() {
-        while (!this.commandQueue.isEmpty()) {
-            final Action action = this.commandQueue.poll();
-            if (action != null) {
-                model.handleAction(action);
-            }
+        Runnable command = this.commandQueue.poll();
+        while (command != null) {
+            command.run();
+            command = this.commandQueue.poll();
         }
     }
 
@@ -78,33 +106,50 @@ public class GameController implements Controller {
     @Override
     public void keyPressed(final int keyCode) {
         this.input.getAction(keyCode)
-                .ifPresent(this.commandQueue::add);
+                .ifPresent(this::submitAction);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void submitAction(final Action action) {
+        Objects.requireNonNull(action, "The action cannot be null");
+        this.commandQueue.add(() -> this.model.handleAction(action));
     }
 
     /**
      * {@inheritDoc}
      * <p>
-     * Creates and queues the appropriate action based on the key released.
-     * Handles stopping movement and other release-based actions.
+     * Queues the stop of the movement of the released key, applied with the
+     * actions of the pressed keys in the order the keys were hit.
      */
     @Override
     public void keyReleased(final int keyCode) {
-        this.input.getAction(keyCode).ifPresent(action -> {
-            this.model.getMainCharacter().ifPresent(character -> {
-                switch (action) {
-                    case LEFT, RIGHT -> {
-                        final var currentVelocity = character.getVelocity();
-                        character.setVelocity(new Vector(0.0f, currentVelocity.y()));
-                    }
-                    case UP, DOWN -> {
-                        final var currentVelocity = character.getVelocity();
-                        character.setVelocity(new Vector(currentVelocity.x(), 0.0f));
-                    }
-                    default -> {
-                        // Other release actions can be added here
-                    }
+        this.input.getAction(keyCode).ifPresent(action -> this.commandQueue.add(() -> this.release(action)));
+    }
+
+    /**
+     * Stops the movement of the main character along the axis of the released
+     * action.
+     *
+     * @param action the action of the released key
+     */
+    private void release(final Action action) {
+        this.model.getMainCharacter().ifPresent(character -> {
+            switch (action) {
+                case LEFT, RIGHT -> {
+                    final var currentVelocity = character.getVelocity();
+                    character.setVelocity(new Vector(0.0f, currentVelocity.y()));
+                }
+                case UP, DOWN -> {
+                    final var currentVelocity = character.getVelocity();
+                    character.setVelocity(new Vector(currentVelocity.x(), 0.0f));
                 }
-            });
+                default -> {
+                    // Other release actions can be added here
+                }
+            }
         });
     }
 
@@ -112,8 +157,16 @@ public class GameController implements Controller {
      * {@inheritDoc}
      */
     @Override
-    public List<Entity> getEntities() {
-        return this.model.getEntities();
+    public WorldSnapshot getSnapshot() {
+        return this.model.getSnapshot();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FrameProfiler getProfiler() {
+        return this.model.getProfiler();
     }
 
     /**
@@ -1,50 +1,178 @@
 package it.unibo.coffebreak.impl.core;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
 import it.unibo.coffebreak.api.common.Loader;
 import it.unibo.coffebreak.api.controller.Controller;
 import it.unibo.coffebreak.api.core.Engine;
 import it.unibo.coffebreak.impl.common.ResourceLoader;
+import it.unibo.coffebreak.impl.common.jfr.FrameEvent;
+import it.unibo.coffebreak.impl.common.profiler.FrameProfiler;
+import it.unibo.coffebreak.impl.common.profiler.FrameProfiler.Phase;
 import it.unibo.coffebreak.impl.controller.GameController;
 import it.unibo.coffebreak.impl.view.GameView;
 
 /**
  * Implementation of {@link Engine} that manages the game loop with a fixed
- * timestep.
- * This engine maintains a consistent frame rate (approximately 60 FPS) by using
- * a fixed period between frames and sleep-based timing control.
+ * simulation timestep.
+ * <p>
+ * Simulation and rendering run on two separate threads. The calling thread
+ * advances the model in slices of {@link Engine#FIXED_DELTA_TIME}, scheduled
+ * with {@link System#nanoTime()}, and the model publishes an immutable world
+ * snapshot at the end of every tick. A dedicated render thread draws the latest
+ * snapshot at its own frame rate, passing the fraction of a tick elapsed since
+ * that snapshot was published as an interpolation factor, so neither thread
+ * ever waits for the other.
+ * </p>
+ * <p>
+ * The engine owns the {@link FrameProfiler} the model and the view record the
+ * duration of every phase in, and writes it to {@link #PROFILE_FILE} when the
+ * game exits.
+ * </p>
  * 
  * @author Alessandro Rebosio
  */
 public class GameEngine implements Engine {
 
     /**
-     * The target frame period in milliseconds (16ms ≈ 60 FPS).
+     * The default number of rendered frames per second.
+     */
+    public static final int DEFAULT_FRAME_RATE = 60;
+
+    /**
+     * Maximum number of simulation ticks run back to back to catch up after a
+     * stall. Any backlog beyond this limit is dropped to avoid a spiral of death.
+     */
+    public static final int MAX_TICKS_PER_FRAME = 5;
+
+    /**
+     * The file the frame profile is written to when the game exits.
      */
-    private static final long PERIOD = 16L;
+    public static final Path PROFILE_FILE = Path.of(System.getProperty("user.home"), ".coffeBreak", "profile.csv");
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final long TICK_NANOS = NANOS_PER_SECOND / TICK_RATE;
 
     private final Loader loader = new ResourceLoader();
-    private final Controller controller = new GameController(this.loader);
-    private final GameView view = new GameView(this.controller, this.loader);
+    private final FrameProfiler profiler = new FrameProfiler(FrameProfiler.DEFAULT_CAPACITY);
+    private final Controller controller = new GameController(this.loader, this.profiler);
+    private final GameView view;
+
+    private final long framePeriod;
+    private volatile long lastTickTime = System.nanoTime();
+
+    /**
+     * Creates a new engine rendering at {@value #DEFAULT_FRAME_RATE} frames per
+     * second.
+     */
+    public GameEngine() {
+        this(DEFAULT_FRAME_RATE);
+    }
+
+    /**
+     * Creates a new engine actively rendering at the given frame rate.
+     * The simulation rate is not affected by this value.
+     *
+     * @param frameRate the target number of rendered frames per second
+     * @throws IllegalArgumentException if frameRate is not positive
+     */
+    public GameEngine(final int frameRate) {
+        this(frameRate, true);
+    }
+
+    /**
+     * Creates a new engine rendering at the given frame rate.
+     * The simulation rate is not affected by this value.
+     *
+     * @param frameRate       the target number of rendered frames per second
+     * @param activeRendering true to draw and flip each frame from the render
+     *                        thread, false to let Swing repaint the window
+     * @throws IllegalArgumentException if frameRate is not positive
+     */
+    public GameEngine(final int frameRate, final boolean activeRendering) {
+        if (frameRate <= 0) {
+            throw new IllegalArgumentException("Frame rate must be positive");
+        }
+        this.framePeriod = NANOS_PER_SECOND / frameRate;
+        this.view = new GameView(this.controller, this.loader, activeRendering);
+    }
 
     /**
      * {@inheritDoc}
      */
     @Override
     public void run() {
-        long previousTime = System.currentTimeMillis();
+        final Thread renderThread = new Thread(this::renderLoop, "render");
+        renderThread.setDaemon(true);
+        renderThread.start();
+
+        this.simulationLoop();
+
+        try {
+            renderThread.join();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        view.close();
+
+        try {
+            this.profiler.dumpCsv(PROFILE_FILE);
+        } catch (final IOException ex) {
+            System.err.println("Unable to write the frame profile: " + ex.getMessage()); // NOPMD suppressed as it is a false positive
+        }
+    }
+
+    /**
+     * Advances the model at {@link Engine#TICK_RATE} ticks per second until the
+     * game stops.
+     */
+    private void simulationLoop() {
+        long nextTick = System.nanoTime();
 
         while (controller.isRunning()) {
-            final long currentTime = System.currentTimeMillis();
-            final float deltaTime = (currentTime - previousTime) / 1000.0f;
+            int ticks = 0;
+            while (System.nanoTime() - nextTick >= 0 && ticks < MAX_TICKS_PER_FRAME) {
+                final long inputStart = System.nanoTime();
+                this.controller.processInput();
+                final long tickStart = System.nanoTime();
+                this.profiler.record(Phase.INPUT, tickStart - inputStart);
+                this.controller.updateModel(FIXED_DELTA_TIME);
+                this.profiler.stop(Phase.TICK, tickStart);
+                this.lastTickTime = nextTick;
+                nextTick += TICK_NANOS;
+                ticks++;
+            }
+            if (System.nanoTime() - nextTick >= TICK_NANOS) {
+                nextTick = System.nanoTime();
+            }
 
-            this.controller.processInput();
-            this.controller.updateModel(deltaTime);
-            this.view.update(deltaTime);
+            this.sleepUntil(nextTick);
+        }
+    }
 
-            this.sleepUntilNextFrame(currentTime);
+    /**
+     * Draws the latest published snapshot at the configured frame rate until the
+     * game stops.
+     */
+    private void renderLoop() {
+        long previousTime = System.nanoTime();
+        long frame = 0L;
+
+        while (controller.isRunning()) {
+            final FrameEvent event = FrameEvent.start();
+            final long currentTime = System.nanoTime();
+            final long frameTime = currentTime - previousTime;
             previousTime = currentTime;
+            this.profiler.record(Phase.FRAME, frameTime);
+
+            final float alpha = Math.min(1f, (float) (currentTime - this.lastTickTime) / TICK_NANOS);
+            this.view.update((float) frameTime / NANOS_PER_SECOND, alpha);
+            event.complete(frame++, alpha);
+
+            this.sleepUntilNextFrame(currentTime);
         }
-        view.close();
     }
 
     /**
@@ -53,16 +181,27 @@ public class GameEngine implements Engine {
      * this method sleeps the remaining time.
      *
      * @param cycleTime the timestamp when the current frame started (in
-     *                  milliseconds)
+     *                  nanoseconds, as returned by {@link System#nanoTime()})
      * @implNote This implementation silently swallows thread interruption
      *           exceptions,
      *           which should typically be handled more gracefully.
      */
     protected void sleepUntilNextFrame(final long cycleTime) {
-        final long dt = System.currentTimeMillis() - cycleTime;
-        if (dt < PERIOD) {
+        this.sleepUntil(cycleTime + this.framePeriod);
+    }
+
+    /**
+     * Sleeps until the given instant, returning immediately if it has already
+     * passed.
+     *
+     * @param deadline the instant to wait for, as returned by
+     *                 {@link System#nanoTime()}
+     */
+    private void sleepUntil(final long deadline) {
+        final long remaining = deadline - System.nanoTime();
+        if (remaining > 0) {
             try {
-                Thread.sleep(PERIOD - dt);
+                Thread.sleep(remaining / NANOS_PER_MILLI, (int) (remaining % NANOS_PER_MILLI));
             } catch (final InterruptedException ex) {
                 Thread.currentThread().interrupt();
             }
@@ -0,0 +1,131 @@
+package it.unibo.coffebreak.impl.core;
+
+import java.util.Objects;
+
+import it.unibo.coffebreak.api.controller.Controller;
+import it.unibo.coffebreak.api.controller.action.Action;
+import it.unibo.coffebreak.api.core.Engine;
+import it.unibo.coffebreak.impl.common.ResourceLoader;
+import it.unibo.coffebreak.impl.controller.GameController;
+import it.unibo.coffebreak.impl.model.states.ingame.InGameModelState;
+
+/**
+ * Implementation of {@link Engine} that runs the simulation without any view.
+ * <p>
+ * No window is created and the loop never sleeps: the model is advanced by
+ * {@link Engine#FIXED_DELTA_TIME} per tick as fast as the CPU allows, so the
+ * results are the same as an interactive run with the same inputs. Whenever
+ * the model leaves the in-game state (main menu, game over) an
+ * {@link Action#ENTER} is submitted so that the simulation keeps playing.
+ * </p>
+ * <p>
+ * Intended for soak runs, regression simulations and bots on machines without a
+ * display.
+ * </p>
+ * 
+ * @author Alessandro Rebosio
+ */
+public class HeadlessEngine implements Engine {
+
+    /**
+     * The default number of ticks simulated by a single run.
+     */
+    public static final long DEFAULT_TICKS = 100_000L;
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final Controller controller;
+    private final long maxTicks;
+
+    private long executedTicks;
+    private long elapsedNanos;
+
+    /**
+     * Creates a headless engine simulating {@value #DEFAULT_TICKS} ticks.
+     */
+    public HeadlessEngine() {
+        this(DEFAULT_TICKS);
+    }
+
+    /**
+     * Creates a headless engine simulating the given number of ticks.
+     *
+     * @param maxTicks the number of ticks to simulate
+     * @throws IllegalArgumentException if maxTicks is negative
+     */
+    public HeadlessEngine(final long maxTicks) {
+        this(new GameController(new ResourceLoader()), maxTicks);
+    }
+
+    /**
+     * Creates a headless engine simulating the given number of ticks of a
+     * deterministic game: runs with the same seed play the very same game.
+     *
+     * @param maxTicks the number of ticks to simulate
+     * @param seed     the seed of the random decisions of the game
+     * @throws IllegalArgumentException if maxTicks is negative
+     */
+    public HeadlessEngine(final long maxTicks, final long seed) {
+        this(new GameController(new ResourceLoader(), seed), maxTicks);
+    }
+
+    /**
+     * Creates a headless engine driving the given controller.
+     *
+     * @param controller the controller to drive
+     * @param maxTicks   the number of ticks to simulate
+     * @throws NullPointerException     if controller is null
+     * @throws IllegalArgumentException if maxTicks is negative
+     */
+    public HeadlessEngine(final Controller controller, final long maxTicks) {
+        if (maxTicks < 0) {
+            throw new IllegalArgumentException("The number of ticks cannot be negative");
+        }
+        this.controller = Objects.requireNonNull(controller, "The controller cannot be null");
+        this.maxTicks = maxTicks;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Runs until the tick budget is exhausted or the model stops, then reports
+     * the measured throughput on the standard output.
+     * </p>
+     */
+    @Override
+    public void run() {
+        final long start = System.nanoTime();
+
+        while (this.controller.isRunning() && this.executedTicks < this.maxTicks) {
+            if (!(this.controller.getGameState() instanceof InGameModelState)) {
+                this.controller.submitAction(Action.ENTER);
+            }
+            this.controller.processInput();
+            this.controller.updateModel(FIXED_DELTA_TIME);
+            this.executedTicks++;
+        }
+
+        this.elapsedNanos = System.nanoTime() - start;
+        System.out.println(String.format("Simulated %d ticks in %.3f s (%.0f ticks/s)", // NOPMD suppressed as it is a false positive
+                this.executedTicks, this.elapsedNanos / NANOS_PER_SECOND, this.getTicksPerSecond()));
+    }
+
+    /**
+     * Returns the number of ticks executed by the last run.
+     *
+     * @return the executed ticks
+     */
+    public long getExecutedTicks() {
+        return this.executedTicks;
+    }
+
+    /**
+     * Returns the throughput measured by the last run.
+     *
+     * @return the simulated ticks per second of wall-clock time, or 0 if nothing
+     *         was simulated
+     */
+    public double getTicksPerSecond() {
+        return this.elapsedNanos == 0 ? 0 : this.executedTicks * NANOS_PER_SECOND / this.elapsedNanos;
+    }
+}
@@ -3,20 +3,33 @@ package it.unibo.coffebreak.impl.model;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.SplittableRandom;
 
 import it.unibo.coffebreak.api.common.Loader;
 import it.unibo.coffebreak.api.controller.action.Action;
 import it.unibo.coffebreak.api.model.Model;
+import it.unibo.coffebreak.api.model.clock.GameClock;
 import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.entities.EntityHandle;
 import it.unibo.coffebreak.api.model.entities.character.MainCharacter;
 import it.unibo.coffebreak.api.model.leaderboard.Leaderboard;
 import it.unibo.coffebreak.api.model.leaderboard.entry.Entry;
 import it.unibo.coffebreak.api.model.level.LevelManager;
+import it.unibo.coffebreak.api.model.level.entity.PlatformGrid;
+import it.unibo.coffebreak.api.model.physics.BroadPhaseStrategy;
+import it.unibo.coffebreak.api.model.snapshot.WorldSnapshot;
 import it.unibo.coffebreak.api.model.states.ModelState;
 import it.unibo.coffebreak.impl.common.BoundigBox;
+import it.unibo.coffebreak.impl.common.jfr.StateTransitionEvent;
+import it.unibo.coffebreak.impl.common.jfr.TickEvent;
+import it.unibo.coffebreak.impl.common.profiler.FrameProfiler;
+import it.unibo.coffebreak.impl.model.clock.TimerWheelClock;
 import it.unibo.coffebreak.impl.model.leaderboard.GameLeaderboard;
 import it.unibo.coffebreak.impl.model.leaderboard.entry.ScoreEntry;
 import it.unibo.coffebreak.impl.model.level.GameLevelManager;
+import it.unibo.coffebreak.impl.model.snapshot.SnapshotBuffer;
+import it.unibo.coffebreak.impl.model.snapshot.Snapshots;
+import it.unibo.coffebreak.impl.model.states.ingame.InGameModelState;
 import it.unibo.coffebreak.impl.model.states.menu.MenuModelState;
 
 /**
@@ -33,11 +46,15 @@ import it.unibo.coffebreak.impl.model.states.menu.MenuModelState;
 public class GameModel implements Model {
 
     private final Leaderboard leaderBoard = new GameLeaderboard();
+    private final SnapshotBuffer snapshots = new SnapshotBuffer();
+    private final GameClock clock = new TimerWheelClock();
     private Optional<ModelState> currentState = Optional.empty();
 
     private final LevelManager levelManager;
+    private final FrameProfiler profiler;
     private BoundigBox gameBounds;
     private volatile boolean running;
+    private long tick;
 
     /**
      * Constructs a new {@code GameModel} with the specified game boundaries.
@@ -46,7 +63,39 @@ public class GameModel implements Model {
      * @param loader the loader used to load map resources
      */
     public GameModel(final Loader loader) {
-        this.levelManager = new GameLevelManager(loader);
+        this(loader, new SplittableRandom());
+    }
+
+    /**
+     * Constructs a new {@code GameModel} in which every random decision is
+     * drawn from the given generator.
+     * <p>
+     * As the timers of the game only count the elapsed game time, a model
+     * built with a seeded generator and fed the same actions and delta times
+     * replays the same game bit for bit.
+     * </p>
+     *
+     * @param loader the loader used to load map resources
+     * @param random the single source of randomness of the game
+     * @throws NullPointerException if random is null
+     */
+    public GameModel(final Loader loader, final SplittableRandom random) {
+        this(loader, random, FrameProfiler.disabled());
+    }
+
+    /**
+     * Constructs a new {@code GameModel} in which every random decision is
+     * drawn from the given generator, recording the phases of each tick in the
+     * given profiler.
+     *
+     * @param loader   the loader used to load map resources
+     * @param random   the single source of randomness of the game
+     * @param profiler the profiler the phases of each tick are recorded in
+     * @throws NullPointerException if random or profiler is null
+     */
+    public GameModel(final Loader loader, final SplittableRandom random, final FrameProfiler profiler) {
+        this.profiler = Objects.requireNonNull(profiler, "The profiler cannot be null");
+        this.levelManager = new GameLevelManager(loader, random, this.clock);
         this.running = true;
 
         this.setState(new MenuModelState());
@@ -57,8 +106,11 @@ public class GameModel implements Model {
      */
     @Override
     public final void setState(final ModelState newState) {
+        Objects.requireNonNull(newState, "The new State cannot be null");
+        StateTransitionEvent.emit(this.currentState.map(state -> state.getClass().getSimpleName()).orElse(""),
+                newState.getClass().getSimpleName());
         this.currentState.ifPresent(state -> state.onExit(this));
-        this.currentState = Optional.of(Objects.requireNonNull(newState, "The new State cannot be null"));
+        this.currentState = Optional.of(newState);
         this.currentState.ifPresent(state -> state.onEnter(this));
     }
 
@@ -122,6 +174,54 @@ public class GameModel implements Model {
         return this.levelManager.getEntities();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends Entity> List<T> entitiesOf(final Class<T> type) {
+        return this.levelManager.entitiesOf(type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Entity> resolve(final EntityHandle handle) {
+        return this.levelManager.resolve(handle);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FrameProfiler getProfiler() {
+        return this.profiler;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public WorldSnapshot getSnapshot() {
+        return this.snapshots.latest();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PlatformGrid getPlatformGrid() {
+        return this.levelManager.getPlatformGrid();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BroadPhaseStrategy getBroadPhaseStrategy() {
+        return this.levelManager.getBroadPhaseStrategy();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -130,6 +230,14 @@ public class GameModel implements Model {
         return this.levelManager.addEntity(entity);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void spawnEntity(final Entity entity) {
+        this.levelManager.spawnEntity(entity);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -225,15 +333,42 @@ public class GameModel implements Model {
      * {@inheritDoc}
      */
     @Override
+    public GameClock getClock() {
+        return this.clock;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The clock only advances while the game is being played, before the
+     * state updates, so that the timers expired during the tick are seen by
+     * the entities in the same tick.
+     * </p>
+     */
+    @Override
     public void update(final float deltaTime) {
-        this.currentState.ifPresent(state -> state.update(this, deltaTime));
+        final TickEvent event = TickEvent.start();
+        if (this.currentState.isPresent()) {
+            final ModelState state = this.currentState.get();
+            if (state instanceof InGameModelState) {
+                this.clock.advance(deltaTime);
+            }
+            state.update(this, deltaTime);
+        }
+        this.tick++;
+        this.snapshots.publish(Snapshots.world(this.tick, this));
+        event.complete(this.tick, this.getGameState().getClass().getSimpleName(), this.getEntities().size());
     }
 
     /**
-     * Updates the game bounds based on current level dimensions.
+     * Updates the game bounds based on current level dimensions, keeping the
+     * current ones while the size of the map does not change.
      */
     private void updateGameBounds() {
-        this.gameBounds = new BoundigBox(this.levelManager.getColumn(), this.levelManager.getRow())
-                .scale(BoundigBox.SIZE);
+        final int width = this.levelManager.getColumn() * BoundigBox.SIZE;
+        final int height = this.levelManager.getRow() * BoundigBox.SIZE;
+        if (this.gameBounds == null || this.gameBounds.width() != width || this.gameBounds.height() != height) {
+            this.gameBounds = new BoundigBox(width, height);
+        }
     }
 }
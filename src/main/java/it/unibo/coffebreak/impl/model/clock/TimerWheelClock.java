@@ -0,0 +1,187 @@
+package it.unibo.coffebreak.impl.model.clock;
+
+import java.util.Objects;
+
+import it.unibo.coffebreak.api.model.clock.GameClock;
+import it.unibo.coffebreak.api.model.clock.Timer;
+
+/**
+ * Implementation of {@link GameClock} keeping its timers in a hashed timer
+ * wheel.
+ * <p>
+ * Time is split in slots of one game tick, and each timer is linked into the
+ * bucket of the slot of its deadline, wrapped around a wheel of
+ * {@value #WHEEL_SIZE} buckets. Scheduling and cancelling are constant time,
+ * and an advance only visits the buckets of the slots it crosses, so the cost
+ * of a tick does not grow with the number of pending timers. Timers further
+ * than one turn of the wheel stay in their bucket until a later turn reaches
+ * their deadline.
+ * </p>
+ * <p>
+ * Expired timers run slot by slot, and in the order they were scheduled within
+ * a slot. Timers scheduled by a callback never run during the same advance,
+ * even with no delay. The buckets are only allocated by the first timer, so
+ * clocks that never schedule anything cost a few fields.
+ * </p>
+ * 
+ * @author Alessandro Rebosio
+ */
+public final class TimerWheelClock implements GameClock {
+
+    private static final int SLOTS_PER_SECOND = 60;
+    private static final int WHEEL_SIZE = 256;
+    private static final int MASK = WHEEL_SIZE - 1;
+
+    private Entry[] heads;
+    private Entry[] tails;
+    private double now;
+    private long slot;
+    private long round;
+    private int pending;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double now() {
+        return this.now;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Timer schedule(final float delay, final Runnable action) {
+        Objects.requireNonNull(action, "The action cannot be null");
+        if (delay < 0) {
+            throw new IllegalArgumentException("The delay cannot be negative");
+        }
+        if (this.heads == null) {
+            this.heads = new Entry[WHEEL_SIZE];
+            this.tails = new Entry[WHEEL_SIZE];
+        }
+        final Entry entry = new Entry(this, this.now + delay, this.round, action);
+        this.link(entry);
+        return entry;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void advance(final float deltaTime) {
+        if (deltaTime < 0) {
+            throw new IllegalArgumentException("Delta time cannot be negative");
+        }
+        this.now += deltaTime;
+        final long target = slotOf(this.now);
+        if (this.pending > 0) {
+            this.round++;
+            final long last = Math.min(target, this.slot + MASK);
+            for (long visited = this.slot; visited <= last; visited++) {
+                this.expire((int) (visited & MASK));
+            }
+        }
+        this.slot = target;
+    }
+
+    /**
+     * @return the number of timers waiting for their deadline
+     */
+    public int pendingTimers() {
+        return this.pending;
+    }
+
+    /**
+     * Runs the expired timers of a bucket, except those scheduled during this
+     * advance.
+     */
+    private void expire(final int bucket) {
+        Entry entry = this.heads[bucket];
+        while (entry != null) {
+            final Entry next = entry.next;
+            if (entry.deadline <= this.now && entry.round < this.round) {
+                this.unlink(entry);
+                entry.action.run();
+                // the callback may have cancelled the next timer
+                if (next != null && !next.isPending()) {
+                    entry = this.heads[bucket];
+                    continue;
+                }
+            }
+            entry = next;
+        }
+    }
+
+    /**
+     * Multiplying rather than dividing keeps whole seconds on the slot they
+     * start, so a deadline never lies in a slot after the time reaching it.
+     */
+    private static long slotOf(final double time) {
+        return (long) (time * SLOTS_PER_SECOND);
+    }
+
+    private void link(final Entry entry) {
+        final int bucket = (int) (slotOf(entry.deadline) & MASK);
+        entry.bucket = bucket;
+        entry.previous = this.tails[bucket];
+        if (this.tails[bucket] == null) {
+            this.heads[bucket] = entry;
+        } else {
+            this.tails[bucket].next = entry;
+        }
+        this.tails[bucket] = entry;
+        this.pending++;
+    }
+
+    private void unlink(final Entry entry) {
+        final int bucket = entry.bucket;
+        if (entry.previous == null) {
+            this.heads[bucket] = entry.next;
+        } else {
+            entry.previous.next = entry.next;
+        }
+        if (entry.next == null) {
+            this.tails[bucket] = entry.previous;
+        } else {
+            entry.next.previous = entry.previous;
+        }
+        entry.previous = null;
+        entry.next = null;
+        entry.bucket = -1;
+        this.pending--;
+    }
+
+    /**
+     * Timer linked into the bucket of its deadline.
+     */
+    private static final class Entry implements Timer {
+
+        private final TimerWheelClock clock;
+        private final double deadline;
+        private final long round;
+        private final Runnable action;
+        private int bucket = -1;
+        private Entry previous;
+        private Entry next;
+
+        Entry(final TimerWheelClock clock, final double deadline, final long round, final Runnable action) {
+            this.clock = clock;
+            this.deadline = deadline;
+            this.round = round;
+            this.action = action;
+        }
+
+        @Override
+        public void cancel() {
+            if (this.isPending()) {
+                this.clock.unlink(this);
+            }
+        }
+
+        @Override
+        public boolean isPending() {
+            return this.bucket >= 0;
+        }
+    }
+}
@@ -3,24 +3,48 @@ package it.unibo.coffebreak.impl.model.entities;
 import java.util.Objects;
 
 import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.entities.EntityHandle;
+import it.unibo.coffebreak.api.model.physics.Contacts;
 import it.unibo.coffebreak.impl.common.BoundigBox;
 import it.unibo.coffebreak.impl.common.Position;
 import it.unibo.coffebreak.impl.common.Vector;
+import it.unibo.coffebreak.impl.model.physics.ContactManifold;
 
 /**
  * An abstract base class for all game entities, providing common functionality
  * for position, dimension and velocity.
  * This class implements the {@link Entity} interface and serves as the
  * foundation for both static and dynamic game objects.
+ * <p>
+ * The position and velocity are kept as plain floats, so that the primitive
+ * methods such as {@link #translate(float, float)} update them in place, and
+ * the records returned by the getters are only built once the state changed.
+ * While bound to an {@link EntityStore}, the position, velocity and size live
+ * in the arrays of the store instead, and the entity is only a view over its
+ * slot.
+ * </p>
  * 
  * @see Entity
  * @author Grazia Bochdanovits de Kavna
  */
 public abstract class AbstractEntity implements Entity {
 
+    private final ContactManifold contactManifold = new ContactManifold();
     private BoundigBox dimension;
     private Position position;
+    private Position previousPosition;
     private Vector velocity;
+    private float x;
+    private float y;
+    private float previousX;
+    private float previousY;
+    private float vx;
+    private float vy;
+    private EntityStore store;
+    private int slot = -1;
+    private EntityHandle handle = EntityHandle.NONE;
+    private EntityHandles handles;
+    private boolean changed;
 
     /**
      * Constructs a new game entity with the specified position and dimension.
@@ -32,6 +56,11 @@ public abstract class AbstractEntity implements Entity {
     public AbstractEntity(final Position position, final BoundigBox dimension) {
         this.dimension = Objects.requireNonNull(dimension, "Dimension cannot be null");
         this.position = Objects.requireNonNull(position, "Position cannot be null");
+        this.previousPosition = position;
+        this.x = position.x();
+        this.y = position.y();
+        this.previousX = this.x;
+        this.previousY = this.y;
 
         this.velocity = new Vector();
     }
@@ -41,7 +70,26 @@ public abstract class AbstractEntity implements Entity {
      */
     @Override
     public void setDimension(final BoundigBox dimension) {
-        this.dimension = dimension.copy();
+        this.dimension = Objects.requireNonNull(dimension, "Dimension cannot be null");
+        if (this.store != null) {
+            this.store.setDimension(this.slot, dimension.width(), dimension.height());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Contacts getContacts() {
+        return this.contactManifold;
+    }
+
+    /**
+     * Forgets the contacts of the last tick, for entities that start a new
+     * life without moving through the physics engine first.
+     */
+    protected final void clearContacts() {
+        this.contactManifold.clear();
     }
 
     /**
@@ -60,7 +108,8 @@ public abstract class AbstractEntity implements Entity {
      */
     @Override
     public void setPosition(final Position position) {
-        this.position = position.copy();
+        this.position = Objects.requireNonNull(position, "Position cannot be null");
+        this.setPositionComponents(position.x(), position.y());
     }
 
     /**
@@ -68,9 +117,83 @@ public abstract class AbstractEntity implements Entity {
      */
     @Override
     public Position getPosition() {
+        final float currentX = this.getX();
+        final float currentY = this.getY();
+        if (currentX != this.position.x() || currentY != this.position.y()) {
+            this.position = new Position(currentX, currentY);
+        }
         return this.position;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float getX() {
+        return this.store == null ? this.x : this.store.x(this.slot);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float getY() {
+        return this.store == null ? this.y : this.store.y(this.slot);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setPositionComponents(final float x, final float y) {
+        if (this.store == null) {
+            this.x = x;
+            this.y = y;
+        } else {
+            this.store.setPosition(this.slot, x, y);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void translate(final float dx, final float dy) {
+        this.setPositionComponents(this.getX() + dx, this.getY() + dy);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clampToBounds(final float width, final float height) {
+        this.setPositionComponents(Math.max(0, Math.min(this.getX(), width - this.dimension.width())),
+                Math.max(0, Math.min(this.getY(), height - this.dimension.height())));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Position getPreviousPosition() {
+        if (this.previousX != this.previousPosition.x() || this.previousY != this.previousPosition.y()) {
+            this.previousPosition = new Position(this.previousX, this.previousY);
+        }
+        return this.previousPosition;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only the coordinates are copied, the position is built when read.
+     * </p>
+     */
+    @Override
+    public void storePreviousPosition() {
+        this.previousX = this.getX();
+        this.previousY = this.getY();
+    }
+
     /**
      * Sets the velocity of the entity.
      *
@@ -78,7 +201,21 @@ public abstract class AbstractEntity implements Entity {
      */
     @Override
     public final void setVelocity(final Vector vector) {
-        this.velocity = vector.copy();
+        this.velocity = Objects.requireNonNull(vector, "Velocity cannot be null");
+        this.setVelocityComponents(vector.x(), vector.y());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void setVelocityComponents(final float vx, final float vy) {
+        if (this.store == null) {
+            this.vx = vx;
+            this.vy = vy;
+        } else {
+            this.store.setVelocity(this.slot, vx, vy);
+        }
     }
 
     /**
@@ -86,33 +223,44 @@ public abstract class AbstractEntity implements Entity {
      */
     @Override
     public Vector getVelocity() {
+        final float currentX = this.getVelocityX();
+        final float currentY = this.getVelocityY();
+        if (currentX != this.velocity.x() || currentY != this.velocity.y()) {
+            this.velocity = new Vector(currentX, currentY);
+        }
         return this.velocity;
     }
 
     /**
-     * Checks if this entity intersects with another entity.
-     *
-     * @param entity the entity to check for intersection with
-     * @return {@code false} (to be implemented in subclasses)
+     * {@inheritDoc}
      */
     @Override
-    public boolean collidesWith(final Entity entity) {
-        return this.getPosition().x() <= entity.getPosition().x() + entity.getDimension().width()
-                && this.getPosition().x() + this.getDimension().width() >= entity.getPosition().x()
-                && this.getPosition().y() <= entity.getPosition().y() + entity.getDimension().height()
-                && this.getPosition().y() + this.getDimension().height() >= entity.getPosition().y();
+    public float getVelocityX() {
+        return this.store == null ? this.vx : this.store.vx(this.slot);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float getVelocityY() {
+        return this.store == null ? this.vy : this.store.vy(this.slot);
     }
 
     /**
-     * Called when this entity collides with another entity.
-     * This method should be implemented by subclasses to define specific collision
-     * behavior.
+     * Checks if this entity intersects with another entity.
      *
-     * @param other the entity that this entity collided with
+     * @param entity the entity to check for intersection with
+     * @return {@code false} (to be implemented in subclasses)
      */
     @Override
-    public void onCollision(final Entity other) {
-        // Default empty implementation
+    public boolean collidesWith(final Entity entity) {
+        final float otherX = entity.getX();
+        final float otherY = entity.getY();
+        return this.getX() <= otherX + entity.getDimension().width()
+                && this.getX() + this.dimension.width() >= otherX
+                && this.getY() <= otherY + entity.getDimension().height()
+                && this.getY() + this.dimension.height() >= otherY;
     }
 
     /**
@@ -127,4 +275,87 @@ public abstract class AbstractEntity implements Entity {
     public void update(final float deltaTime) {
         // Default empty implementation
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EntityHandle getHandle() {
+        return this.handle;
+    }
+
+    /**
+     * Records the handle issued to this entity by a table, or
+     * {@link EntityHandle#NONE} and null once the entity left the level.
+     */
+    final void setHandle(final EntityHandles handles, final EntityHandle handle) {
+        this.handles = handles;
+        this.handle = handle;
+    }
+
+    /**
+     * Tells the level that this entity changed in a way that may require it to
+     * leave the level or be replaced, such as being collected or destroyed, so
+     * that the level only checks the entities that changed. A change made
+     * while the entity is not part of a level is reported once it joins one.
+     */
+    protected final void markChanged() {
+        if (!this.changed) {
+            this.changed = true;
+            if (this.handles != null) {
+                this.handles.enqueue(this);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a change of this entity was not reported to the level yet.
+     */
+    final boolean isChanged() {
+        return this.changed;
+    }
+
+    /**
+     * Records whether a change of this entity is waiting to be reported.
+     */
+    final void setChanged(final boolean changed) {
+        this.changed = changed;
+    }
+
+    /**
+     * Checks whether this entity is a view over the given slot of the store.
+     */
+    final boolean isBoundTo(final EntityStore store, final int slot) {
+        return this.store == store && this.slot == slot;
+    }
+
+    /**
+     * Makes this entity a view over a slot of the store, after copying its
+     * state into it. The entity is first unbound from any previous slot.
+     */
+    final void bind(final EntityStore store, final int slot) {
+        if (this.store != null) {
+            this.unbind(this.store);
+        }
+        this.store = store;
+        this.slot = slot;
+        store.setPosition(slot, this.x, this.y);
+        store.setVelocity(slot, this.vx, this.vy);
+        store.setDimension(slot, this.dimension.width(), this.dimension.height());
+    }
+
+    /**
+     * Copies the state of the slot back into this entity and stops viewing
+     * the store, if the entity is bound to it.
+     */
+    final void unbind(final EntityStore store) {
+        if (this.store == store) {
+            this.x = store.x(this.slot);
+            this.y = store.y(this.slot);
+            this.vx = store.vx(this.slot);
+            this.vy = store.vy(this.slot);
+            this.store = null;
+            this.slot = -1;
+        }
+    }
 }
@@ -0,0 +1,182 @@
+package it.unibo.coffebreak.impl.model.entities;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.Optional;
+
+import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.entities.EntityHandle;
+
+/**
+ * Table issuing the {@link EntityHandle}s of the entities of a level.
+ * <p>
+ * Each entity joining the level takes a free slot of the table, and its
+ * handle pairs the slot with the generation of the slot. When the entity
+ * leaves, the generation of its slot is increased and the slot is reused by
+ * the next entity, so resolving a handle is an array access and a comparison,
+ * and stale handles are detected without keeping the entities they named.
+ * </p>
+ * <p>
+ * Handles are only issued to entities extending {@link AbstractEntity},
+ * which remember their own handle; the other entities get
+ * {@link EntityHandle#NONE}.
+ * </p>
+ * <p>
+ * The table also queues the entities of the level that reported a change
+ * through {@link AbstractEntity#markChanged()}, so that the level can visit
+ * them with {@link #pollChanged()} instead of scanning all of its entities.
+ * </p>
+ *
+ * @author Alessandro Rebosio
+ */
+public final class EntityHandles {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private Entity[] entities = new Entity[INITIAL_CAPACITY];
+    private int[] generations = new int[INITIAL_CAPACITY];
+    private int[] free = new int[INITIAL_CAPACITY];
+    private final Deque<AbstractEntity> changed = new ArrayDeque<>();
+    private int freeCount;
+    private int used;
+    private int size;
+
+    /**
+     * Issues a handle to an entity joining the level. An entity that already
+     * holds a live handle of this table keeps it, and the change an entity
+     * reported before joining is queued.
+     *
+     * @param entity the entity
+     * @return the handle of the entity, {@link EntityHandle#NONE} if it does
+     *         not extend {@link AbstractEntity}
+     * @throws NullPointerException if entity is null
+     */
+    public EntityHandle issue(final Entity entity) {
+        if (!(Objects.requireNonNull(entity, "The entity cannot be null") instanceof final AbstractEntity owner)) {
+            return EntityHandle.NONE;
+        }
+        if (this.resolveOrNull(owner.getHandle()) == owner) {
+            return owner.getHandle();
+        }
+        final int index;
+        if (this.freeCount > 0) {
+            index = this.free[--this.freeCount];
+        } else {
+            if (this.used == this.entities.length) {
+                this.grow();
+            }
+            index = this.used++;
+        }
+        this.entities[index] = owner;
+        this.size++;
+        final EntityHandle handle = new EntityHandle(index, this.generations[index]);
+        owner.setHandle(this, handle);
+        if (owner.isChanged()) {
+            this.changed.add(owner);
+        }
+        return handle;
+    }
+
+    /**
+     * Retires the handle of an entity leaving the level, so that it stops
+     * resolving and its slot can be reused.
+     *
+     * @param entity the entity
+     * @return true if the entity held a live handle of this table
+     * @throws NullPointerException if entity is null
+     */
+    public boolean retire(final Entity entity) {
+        if (!(Objects.requireNonNull(entity, "The entity cannot be null") instanceof final AbstractEntity owner)
+                || this.resolveOrNull(owner.getHandle()) != owner) {
+            return false;
+        }
+        final EntityHandle handle = owner.getHandle();
+        final int index = handle.index();
+        this.entities[index] = null;
+        this.generations[index]++;
+        this.free[this.freeCount++] = index;
+        this.size--;
+        owner.setHandle(null, EntityHandle.NONE);
+        owner.setChanged(false);
+        return true;
+    }
+
+    /**
+     * Retires the handles of all the entities, and forgets their changes.
+     */
+    public void clear() {
+        for (int index = 0; index < this.used; index++) {
+            if (this.entities[index] != null) {
+                this.retire(this.entities[index]);
+            }
+        }
+        this.changed.clear();
+    }
+
+    /**
+     * Takes the next entity of the level that reported a change, in the order
+     * the changes were reported. Each entity is returned once per change, and
+     * entities that left the level since are skipped.
+     *
+     * @return the next changed entity, or null if there is none
+     */
+    public Entity pollChanged() {
+        AbstractEntity entity = this.changed.poll();
+        while (entity != null && !(entity.isChanged() && this.resolveOrNull(entity.getHandle()) == entity)) {
+            entity = this.changed.poll();
+        }
+        if (entity != null) {
+            entity.setChanged(false);
+        }
+        return entity;
+    }
+
+    /**
+     * @param handle the handle to look up
+     * @return the entity named by the handle, or empty if the handle is stale
+     *         or was not issued by this table
+     * @throws NullPointerException if handle is null
+     */
+    public Optional<Entity> resolve(final EntityHandle handle) {
+        return Optional.ofNullable(this.resolveOrNull(Objects.requireNonNull(handle, "The handle cannot be null")));
+    }
+
+    /**
+     * @param handle the handle to check
+     * @return true if the handle still names an entity of the level
+     * @throws NullPointerException if handle is null
+     */
+    public boolean isLive(final EntityHandle handle) {
+        return this.resolveOrNull(Objects.requireNonNull(handle, "The handle cannot be null")) != null;
+    }
+
+    /**
+     * @return the number of live handles
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Queues an entity of this table that reported a change.
+     */
+    void enqueue(final AbstractEntity entity) {
+        this.changed.add(entity);
+    }
+
+    private Entity resolveOrNull(final EntityHandle handle) {
+        final int index = handle.index();
+        return index >= 0 && index < this.used && this.generations[index] == handle.generation()
+                ? this.entities[index]
+                : null;
+    }
+
+    private void grow() {
+        final int capacity = this.entities.length * 2;
+        this.entities = Arrays.copyOf(this.entities, capacity);
+        this.generations = Arrays.copyOf(this.generations, capacity);
+        this.free = Arrays.copyOf(this.free, capacity);
+    }
+}
@@ -0,0 +1,291 @@
+package it.unibo.coffebreak.impl.model.entities;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import it.unibo.coffebreak.api.model.entities.Entity;
+
+/**
+ * Struct-of-arrays storage of the state the physics engine reads and writes on
+ * every tick: the position, velocity and size of each entity, plus an integer
+ * kind and flags left to the engine.
+ * <p>
+ * The entities of the model are loaded into consecutive slots, in model order,
+ * once per tick. The slots of the entities the engine moves are then bound:
+ * entities extending {@link AbstractEntity} become views over their slot, their
+ * setters write the arrays, and their getters only build a new record once the
+ * stored values changed. The engine can then integrate them with tight loops
+ * over the arrays, without touching the entity objects nor allocating. Other
+ * entities keep their own state, so that reading a static entity never goes
+ * through the store.
+ * </p>
+ * <p>
+ * An entity stays bound to the same slot for as long as it keeps its place in
+ * the model. Entities that move to another slot or leave the model are
+ * unbound first, copying their state back into their own fields.
+ * </p>
+ *
+ * @author Alessandro Rebosio
+ */
+public final class EntityStore {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private Entity[] entities = new Entity[INITIAL_CAPACITY];
+    private Entity[] spare = new Entity[INITIAL_CAPACITY];
+    private boolean[] bound = new boolean[INITIAL_CAPACITY];
+    private float[] x = new float[INITIAL_CAPACITY];
+    private float[] y = new float[INITIAL_CAPACITY];
+    private float[] vx = new float[INITIAL_CAPACITY];
+    private float[] vy = new float[INITIAL_CAPACITY];
+    private float[] width = new float[INITIAL_CAPACITY];
+    private float[] height = new float[INITIAL_CAPACITY];
+    private int[] kinds = new int[INITIAL_CAPACITY];
+    private int[] flags = new int[INITIAL_CAPACITY];
+    private int count;
+
+    /**
+     * Loads the entities of the world into consecutive slots, in model order.
+     * Entities that are still in the slot they were bound to stay bound.
+     *
+     * @param entities the entities of the world
+     * @return the number of slots in use
+     * @throws NullPointerException if entities is null
+     */
+    public int load(final List<Entity> entities) {
+        Objects.requireNonNull(entities, "The entities cannot be null");
+        final int size = entities.size();
+        this.ensureCapacity(size);
+        // bulk copy into the spare array, then compare the two ticks slot by slot
+        final Entity[] previous = this.entities;
+        final Entity[] next = entities.toArray(this.spare);
+        for (int slot = 0; slot < this.count; slot++) {
+            if (this.bound[slot] && (slot >= size || next[slot] != previous[slot])) {
+                ((AbstractEntity) previous[slot]).unbind(this);
+                this.bound[slot] = false;
+            }
+        }
+        Arrays.fill(previous, 0, this.count, null);
+        this.entities = next;
+        this.spare = previous;
+
+        this.count = size;
+        Arrays.fill(this.kinds, 0, size, 0);
+        Arrays.fill(this.flags, 0, size, 0);
+        return size;
+    }
+
+    /**
+     * Makes the entity of the slot a view over it, copying its state into the
+     * arrays, unless it is already bound to the slot.
+     *
+     * @param slot the slot
+     * @return true if the entity is bound to the slot, false if it does not
+     *         extend {@link AbstractEntity}
+     */
+    public boolean bind(final int slot) {
+        if (this.entities[slot] instanceof final AbstractEntity view) {
+            if (!view.isBoundTo(this, slot)) {
+                view.bind(this, slot);
+            }
+            this.bound[slot] = true;
+        }
+        return this.bound[slot];
+    }
+
+    /**
+     * @return the number of slots in use
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * @param slot the slot
+     * @return the entity loaded in the slot
+     */
+    public Entity entity(final int slot) {
+        return this.entities[slot];
+    }
+
+    /**
+     * @param slot the slot
+     * @return true if the entity of the slot is a view over it, so that its
+     *         state can be read and written through the arrays
+     */
+    public boolean isBound(final int slot) {
+        return this.bound[slot];
+    }
+
+    /**
+     * @param slot the slot
+     * @return the x coordinate of the entity
+     */
+    public float x(final int slot) {
+        return this.x[slot];
+    }
+
+    /**
+     * @param slot the slot
+     * @return the y coordinate of the entity
+     */
+    public float y(final int slot) {
+        return this.y[slot];
+    }
+
+    /**
+     * @param slot the slot
+     * @return the horizontal velocity of the entity
+     */
+    public float vx(final int slot) {
+        return this.vx[slot];
+    }
+
+    /**
+     * @param slot the slot
+     * @return the vertical velocity of the entity
+     */
+    public float vy(final int slot) {
+        return this.vy[slot];
+    }
+
+    /**
+     * @param slot the slot
+     * @return the width of the entity
+     */
+    public float width(final int slot) {
+        return this.width[slot];
+    }
+
+    /**
+     * @param slot the slot
+     * @return the height of the entity
+     */
+    public float height(final int slot) {
+        return this.height[slot];
+    }
+
+    /**
+     * Moves the entity of a bound slot.
+     *
+     * @param slot the slot
+     * @param x    the new x coordinate
+     * @param y    the new y coordinate
+     */
+    public void setPosition(final int slot, final float x, final float y) {
+        this.x[slot] = x;
+        this.y[slot] = y;
+    }
+
+    /**
+     * Changes the velocity of the entity of a bound slot.
+     *
+     * @param slot the slot
+     * @param vx   the new horizontal velocity
+     * @param vy   the new vertical velocity
+     */
+    public void setVelocity(final int slot, final float vx, final float vy) {
+        this.vx[slot] = vx;
+        this.vy[slot] = vy;
+    }
+
+    /**
+     * Adds the increments to the vertical velocities of a range of slots,
+     * capping each of them to its limit.
+     * <p>
+     * The loop has no branch nor call, so that the JIT compiler can run it on
+     * several slots per instruction. Slots meant to be left untouched can be
+     * given an increment of {@code -0.0f} and an infinite limit, which leave
+     * every velocity bit for bit as it was.
+     * </p>
+     *
+     * @param from       the first slot, inclusive
+     * @param to         the last slot, exclusive
+     * @param increments the increment of each slot
+     * @param limits     the maximum vertical velocity of each slot
+     */
+    public void accelerate(final int from, final int to, final float[] increments, final float[] limits) {
+        final float[] velocities = this.vy;
+        for (int slot = from; slot < to; slot++) {
+            velocities[slot] = Math.min(velocities[slot] + increments[slot], limits[slot]);
+        }
+    }
+
+    /**
+     * Moves the entities of a range of slots by the given offsets, like
+     * {@link #accelerate(int, int, float[], float[])} with a loop the JIT
+     * compiler can vectorize. An offset of {@code -0.0f} leaves the coordinate
+     * unchanged.
+     *
+     * @param from the first slot, inclusive
+     * @param to   the last slot, exclusive
+     * @param dx   the horizontal offset of each slot
+     * @param dy   the vertical offset of each slot
+     */
+    public void advance(final int from, final int to, final float[] dx, final float[] dy) {
+        final float[] xs = this.x;
+        final float[] ys = this.y;
+        for (int slot = from; slot < to; slot++) {
+            xs[slot] += dx[slot];
+            ys[slot] += dy[slot];
+        }
+    }
+
+    /**
+     * @param slot the slot
+     * @return the kind stored for the slot, 0 after loading
+     */
+    public int kind(final int slot) {
+        return this.kinds[slot];
+    }
+
+    /**
+     * @param slot the slot
+     * @param kind the kind to store for the slot
+     */
+    public void setKind(final int slot, final int kind) {
+        this.kinds[slot] = kind;
+    }
+
+    /**
+     * @param slot the slot
+     * @return the flags stored for the slot, 0 after loading
+     */
+    public int flags(final int slot) {
+        return this.flags[slot];
+    }
+
+    /**
+     * @param slot  the slot
+     * @param flags the flags to store for the slot
+     */
+    public void setFlags(final int slot, final int flags) {
+        this.flags[slot] = flags;
+    }
+
+    /**
+     * Changes the size of the entity of a bound slot.
+     */
+    void setDimension(final int slot, final float width, final float height) {
+        this.width[slot] = width;
+        this.height[slot] = height;
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (this.entities.length < capacity) {
+            final int newCapacity = Math.max(capacity, this.entities.length * 2);
+            this.entities = Arrays.copyOf(this.entities, newCapacity);
+            this.spare = new Entity[newCapacity];
+            this.bound = Arrays.copyOf(this.bound, newCapacity);
+            this.x = Arrays.copyOf(this.x, newCapacity);
+            this.y = Arrays.copyOf(this.y, newCapacity);
+            this.vx = Arrays.copyOf(this.vx, newCapacity);
+            this.vy = Arrays.copyOf(this.vy, newCapacity);
+            this.width = Arrays.copyOf(this.width, newCapacity);
+            this.height = Arrays.copyOf(this.height, newCapacity);
+            this.kinds = Arrays.copyOf(this.kinds, newCapacity);
+            this.flags = Arrays.copyOf(this.flags, newCapacity);
+        }
+    }
+}
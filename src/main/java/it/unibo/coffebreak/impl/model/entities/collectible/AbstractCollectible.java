@@ -1,8 +1,8 @@
 package it.unibo.coffebreak.impl.model.entities.collectible;
 
-import it.unibo.coffebreak.api.model.entities.Entity;
 import it.unibo.coffebreak.api.model.entities.character.MainCharacter;
 import it.unibo.coffebreak.api.model.entities.collectible.Collectible;
+import it.unibo.coffebreak.api.model.physics.CollisionLayer;
 import it.unibo.coffebreak.impl.common.BoundigBox;
 import it.unibo.coffebreak.impl.common.Position;
 import it.unibo.coffebreak.impl.model.entities.AbstractEntity;
@@ -33,20 +33,11 @@ public abstract class AbstractCollectible extends AbstractEntity implements Coll
         this.value = value;
     }
 
-    /**
-     * {@inheritDoc}
-     * 
-     * Collectible do not perform any specific action on collision.
-     */
-    @Override
-    public void onCollision(final Entity other) {
-        // Default empty implementation
-    }
-
     /**
      * {@inheritDoc}
      * 
      * Marks this collectible as collected and applies its effect to the player.
+     * The collectible leaves the level at the end of the tick.
      *
      * @param player the character who collected the item
      */
@@ -54,6 +45,7 @@ public abstract class AbstractCollectible extends AbstractEntity implements Coll
     public void collect(final MainCharacter player) {
         if (!this.collected) {
             this.collected = true;
+            this.markChanged();
             this.applyEffect(player);
         }
     }
@@ -78,4 +70,15 @@ public abstract class AbstractCollectible extends AbstractEntity implements Coll
     protected void applyEffect(final MainCharacter character) {
         character.earnPoints(this.value);
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Collectibles are only picked up by Mario.
+     * </p>
+     */
+    @Override
+    public CollisionLayer getCollisionLayer() {
+        return CollisionLayer.PICKUP;
+    }
 }
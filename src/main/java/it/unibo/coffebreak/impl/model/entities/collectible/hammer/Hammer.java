@@ -1,5 +1,9 @@
 package it.unibo.coffebreak.impl.model.entities.collectible.hammer;
 
+import java.util.Objects;
+import java.util.Optional;
+
+import it.unibo.coffebreak.api.model.clock.GameClock;
 import it.unibo.coffebreak.api.model.entities.character.MainCharacter;
 import it.unibo.coffebreak.impl.common.BoundigBox;
 import it.unibo.coffebreak.impl.common.Position;
@@ -19,6 +23,8 @@ public class Hammer extends AbstractCollectible {
 
     private static final int VALUE = 500;
 
+    private final Optional<GameClock> clock;
+
     /**
      * Constructs a new Hammer with the specified position, dimensions, and point
      * value.
@@ -28,6 +34,20 @@ public class Hammer extends AbstractCollectible {
      */
     public Hammer(final Position position, final BoundigBox dimension) {
         super(position, dimension, VALUE);
+        this.clock = Optional.empty();
+    }
+
+    /**
+     * Constructs a new Hammer whose effect expires on the clock of the game.
+     *
+     * @param position  the 2D position of the hammer in the game world
+     * @param dimension the 2D dimension of the hammer in the game world
+     * @param clock     the clock of the game
+     * @throws NullPointerException if clock is null
+     */
+    public Hammer(final Position position, final BoundigBox dimension, final GameClock clock) {
+        super(position, dimension, VALUE);
+        this.clock = Optional.of(Objects.requireNonNull(clock, "The clock cannot be null"));
     }
 
     /**
@@ -40,6 +60,11 @@ public class Hammer extends AbstractCollectible {
     @Override
     protected void applyEffect(final MainCharacter character) {
         super.applyEffect(character);
-        character.changeState(WithHammerState::new);
+        if (this.clock.isPresent()) {
+            final GameClock gameClock = this.clock.get();
+            character.changeState(() -> new WithHammerState(gameClock));
+        } else {
+            character.changeState(WithHammerState::new);
+        }
     }
 }
@@ -2,6 +2,7 @@ package it.unibo.coffebreak.impl.model.entities.enemy;
 
 import it.unibo.coffebreak.api.model.entities.PhysicsEntity;
 import it.unibo.coffebreak.api.model.entities.enemy.Enemy;
+import it.unibo.coffebreak.api.model.physics.CollisionLayer;
 import it.unibo.coffebreak.impl.common.BoundigBox;
 import it.unibo.coffebreak.impl.common.Position;
 import it.unibo.coffebreak.impl.model.entities.AbstractEntity;
@@ -22,6 +23,8 @@ import it.unibo.coffebreak.impl.model.entities.AbstractEntity;
  * <li>Maintains destruction state for all enemy types</li>
  * <li>Provides base implementation for enemy lifecycle methods</li>
  * <li>Serves as foundation for specialized enemy implementations</li>
+ * <li>Can be brought back to life by an
+ * {@link it.unibo.coffebreak.impl.model.entities.enemy.pool.EnemyPool}</li>
  * </ul>
  *
  * @see Enemy
@@ -54,13 +57,15 @@ public abstract class AbstractEnemy extends AbstractEntity implements Enemy, Phy
     /**
      * {@inheritDoc}
      * <p>
-     * Marks the enemy as destroyed, removing it from gameplay.
+     * Marks the enemy as destroyed, removing it from gameplay at the end of the
+     * tick.
      * </p>
      */
     @Override
     public void destroy() {
         if (!this.isDestroyed) {
             this.isDestroyed = true;
+            this.markChanged();
         }
     }
 
@@ -78,6 +83,31 @@ public abstract class AbstractEnemy extends AbstractEntity implements Enemy, Phy
         return this.isDestroyed;
     }
 
+    /**
+     * Called when the enemy is released to a pool, after it left the level.
+     * Subclasses cancel here what they scheduled during their last life.
+     */
+    public void onRelease() {
+        // Default empty implementation
+    }
+
+    /**
+     * Brings a recycled enemy back to the state of a new one at the given
+     * position: alive, on a platform and moving right, with no contacts.
+     * Subclasses call it from their own reset method.
+     *
+     * @param position the position of the new life of the enemy
+     * @throws NullPointerException if position is null
+     */
+    protected void revive(final Position position) {
+        this.isDestroyed = false;
+        this.onPlatform = true;
+        this.movingRight = true;
+        this.setPosition(position);
+        this.storePreviousPosition();
+        this.clearContacts();
+    }
+
     /**
      * Inverts the current movement direction of the enemy.
      */
@@ -133,4 +163,15 @@ public abstract class AbstractEnemy extends AbstractEntity implements Enemy, Phy
     public int killValue() {
         return this.value;
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Enemies do not interact with each other nor with collectibles.
+     * </p>
+     */
+    @Override
+    public CollisionLayer getCollisionLayer() {
+        return CollisionLayer.ENEMY;
+    }
 }
@@ -1,9 +1,9 @@
 package it.unibo.coffebreak.impl.model.entities.enemy.barrel;
 
-import it.unibo.coffebreak.api.model.entities.Entity;
 import it.unibo.coffebreak.api.model.entities.enemy.barrel.Barrel;
 import it.unibo.coffebreak.api.model.entities.structure.Platform;
 import it.unibo.coffebreak.api.model.entities.structure.Tank;
+import it.unibo.coffebreak.api.model.physics.CollisionResponses;
 import it.unibo.coffebreak.impl.common.BoundigBox;
 import it.unibo.coffebreak.impl.common.Position;
 import it.unibo.coffebreak.impl.common.Vector;
@@ -36,7 +36,7 @@ public class GameBarrel extends AbstractEnemy implements Barrel {
 
     private static final float BARREL_SPEED = 40f;
 
-    private final boolean canTransformToFire;
+    private boolean canTransformToFire;
     private boolean isDestroyedByTank;
     private boolean hasFallen;
 
@@ -55,6 +55,22 @@ public class GameBarrel extends AbstractEnemy implements Barrel {
         this.setVelocity(new Vector(BARREL_SPEED, 0f));
     }
 
+    /**
+     * Resets a recycled barrel as if it was just constructed with the same
+     * dimension.
+     *
+     * @param position           the initial position of the barrel (cannot be null)
+     * @param canTransformToFire whether the barrel can turn into fire when destroyed
+     * @throws NullPointerException if position is null
+     */
+    public void reset(final Position position, final boolean canTransformToFire) {
+        this.revive(position);
+        this.canTransformToFire = canTransformToFire;
+        this.isDestroyedByTank = false;
+        this.hasFallen = false;
+        this.setVelocityComponents(BARREL_SPEED, 0f);
+    }
+
      /**
      * {@inheritDoc}
      * <p>
@@ -66,29 +82,23 @@ public class GameBarrel extends AbstractEnemy implements Barrel {
     @Override
     public void update(final float deltaTime) {
         if (isOnPlatform()) {
-            setVelocity(new Vector(getHorizontalSpeed(BARREL_SPEED), getVelocity().y()));
+            setVelocityComponents(getHorizontalSpeed(BARREL_SPEED), getVelocityY());
         }
     }
 
     /**
-     * {@inheritDoc}
-     * <p>
-     * Handles collisions with platforms to update the barrel's rolling direction.
-     * </p>
+     * Registers the responses of barrels to a contact: a barrel is destroyed by
+     * the tank, and lands on the platforms it touches to update its rolling
+     * direction.
      *
-     * @param other the entity this barrel collided with
+     * @param responses the registry to fill
      */
-    @Override
-    public void onCollision(final Entity other) {
-        switch (other) {
-            case final Tank tank -> {
-                isDestroyedByTank = true;
-                destroy();
-            }
-            case final Platform platform -> this.onPlatformLand();
-            default -> {
-            }
-        }
+    public static void registerResponses(final CollisionResponses responses) {
+        responses.register(GameBarrel.class, Tank.class, (barrel, tank) -> {
+            barrel.isDestroyedByTank = true;
+            barrel.destroy();
+        });
+        responses.register(GameBarrel.class, Platform.class, (barrel, platform) -> barrel.onPlatformLand());
     }
 
     /**
@@ -1,25 +1,36 @@
 package it.unibo.coffebreak.impl.model.entities.enemy.fire;
 
-import java.util.Random;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
-import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.clock.GameClock;
+import it.unibo.coffebreak.api.model.clock.Timer;
 import it.unibo.coffebreak.api.model.entities.enemy.fire.Fire;
 import it.unibo.coffebreak.api.model.entities.structure.Ladder;
 import it.unibo.coffebreak.api.model.entities.structure.Platform;
+import it.unibo.coffebreak.api.model.physics.CollisionResponses;
 import it.unibo.coffebreak.impl.common.BoundigBox;
 import it.unibo.coffebreak.impl.common.Position;
 import it.unibo.coffebreak.impl.common.Vector;
+import it.unibo.coffebreak.impl.model.clock.TimerWheelClock;
 import it.unibo.coffebreak.impl.model.entities.AbstractEntity;
 import it.unibo.coffebreak.impl.model.entities.enemy.AbstractEnemy;
 
 /**
  * Represents a fire entity in the game, which is a specific type of enemy.
+ * <p>
+ * A fire burns out after {@value #DEFAULT_LIFETIME} seconds without climbing,
+ * and may turn around every {@value #CHANGE_DIRECTION_INTERVAL} seconds, both
+ * timed by the clock of the game when one is given. Otherwise the fire keeps
+ * its own clock, advanced by its updates.
+ * </p>
  * 
  * @see Fire
  * @see AbstractEntity
  * @author Grazia Bochdanovits de Kavna
  */
-public class GameFire extends AbstractEnemy implements Fire {
+public final class GameFire extends AbstractEnemy implements Fire {
 
     private static final int VALUE = 200;
 
@@ -28,9 +39,12 @@ public class GameFire extends AbstractEnemy implements Fire {
     private static final float CHANGE_DIRECTION_INTERVAL = 2.0f;
     private static final float DEFAULT_LIFETIME = 15.0f;
 
-    private final Random random = new Random();
-    private float directionChangeElapsed;
-    private float lifeElapsed;
+    private final GameClock clock;
+    private final boolean ownsClock;
+    private RandomGenerator random;
+    private Timer lifetime;
+    private Timer directionChange;
+    private boolean directionChangeDue;
     private boolean climbing;
     private boolean ladderCollision;
 
@@ -41,35 +55,110 @@ public class GameFire extends AbstractEnemy implements Fire {
      * @param dimension the dimension of the fire in the game world
      */
     public GameFire(final Position position, final BoundigBox dimension) {
+        this(position, dimension, new SplittableRandom());
+    }
+
+    /**
+     * Constructs a new GameFire whose climbing and turning decisions are drawn
+     * from the given generator, so that a seeded generator always makes the
+     * fire move the same way.
+     *
+     * @param position  the initial position of the fire in 2D space
+     * @param dimension the dimension of the fire in the game world
+     * @param random    the generator of the decisions of the fire
+     * @throws NullPointerException if random is null
+     */
+    public GameFire(final Position position, final BoundigBox dimension, final RandomGenerator random) {
+        this(position, dimension, random, new TimerWheelClock(), true);
+    }
+
+    /**
+     * Constructs a new GameFire whose lifetime and turns are timed by the
+     * clock of the game.
+     *
+     * @param position  the initial position of the fire in 2D space
+     * @param dimension the dimension of the fire in the game world
+     * @param random    the generator of the decisions of the fire
+     * @param clock     the clock of the game
+     * @throws NullPointerException if random or clock are null
+     */
+    public GameFire(final Position position, final BoundigBox dimension, final RandomGenerator random,
+            final GameClock clock) {
+        this(position, dimension, random, clock, false);
+    }
+
+    private GameFire(final Position position, final BoundigBox dimension, final RandomGenerator random,
+            final GameClock clock, final boolean ownsClock) {
         super(position, dimension, VALUE);
 
+        this.random = Objects.requireNonNull(random, "The random generator cannot be null");
+        this.clock = Objects.requireNonNull(clock, "The clock cannot be null");
+        this.ownsClock = ownsClock;
         this.setVelocity(new Vector(FIRE_SPEED, 0f));
+        this.lifetime = this.clock.schedule(DEFAULT_LIFETIME, this::destroy);
+        this.scheduleDirectionChange();
     }
 
     /**
-     * Defines the behavior when this fire entity collides with another entity.
+     * Resets a recycled fire as if it was just constructed on the same clock.
      *
-     * @param other the entity that collided with this fire
+     * @param position  the initial position of the fire in 2D space
+     * @param dimension the dimension of the fire in the game world
+     * @param random    the generator of the decisions of the fire
+     * @throws NullPointerException if any argument is null
+     */
+    public void reset(final Position position, final BoundigBox dimension, final RandomGenerator random) {
+        this.revive(position);
+        this.setDimension(dimension);
+        this.random = Objects.requireNonNull(random, "The random generator cannot be null");
+        this.climbing = false;
+        this.ladderCollision = false;
+        this.directionChangeDue = false;
+        this.setVelocityComponents(FIRE_SPEED, 0f);
+        this.lifetime.cancel();
+        this.directionChange.cancel();
+        this.lifetime = this.clock.schedule(DEFAULT_LIFETIME, this::destroy);
+        this.scheduleDirectionChange();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Cancels the timers of the fire, so that they cannot expire during its
+     * next life.
+     * </p>
      */
     @Override
-    public void onCollision(final Entity other) {
-        switch (other) {
-            case final Platform platform -> {
-                this.onPlatformLand();
-                if (!ladderCollision) {
-                    this.climbing = false;
-                }
-            }
-            case final Ladder ladder -> {
-                this.ladderCollision = true;
-                    if (random.nextFloat() < CLIMB_PROBABILITY) {
-                        this.lifeElapsed = 0f;
-                        this.climbing = true;
-                        this.onPlatformLeave();
-                    }
-            }
-            default -> {
-            }
+    public void onRelease() {
+        this.lifetime.cancel();
+        this.directionChange.cancel();
+    }
+
+    /**
+     * Registers the responses of fires to a contact: a fire stops climbing on
+     * the platforms it reaches, and may start climbing the ladders it touches.
+     *
+     * @param responses the registry to fill
+     */
+    public static void registerResponses(final CollisionResponses responses) {
+        responses.register(GameFire.class, Platform.class, (fire, platform) -> fire.onPlatformContact());
+        responses.register(GameFire.class, Ladder.class, (fire, ladder) -> fire.onLadderContact());
+    }
+
+    private void onPlatformContact() {
+        this.onPlatformLand();
+        if (!ladderCollision) {
+            this.climbing = false;
+        }
+    }
+
+    private void onLadderContact() {
+        this.ladderCollision = true;
+        if (random.nextFloat() < CLIMB_PROBABILITY) {
+            this.lifetime.cancel();
+            this.lifetime = this.clock.schedule(DEFAULT_LIFETIME, this::destroy);
+            this.climbing = true;
+            this.onPlatformLeave();
         }
     }
 
@@ -78,28 +167,36 @@ public class GameFire extends AbstractEnemy implements Fire {
      */
     @Override
     public void update(final float deltaTime) {
+        if (ownsClock) {
+            clock.advance(deltaTime);
+        }
         ladderCollision = false;
-        directionChangeElapsed += deltaTime;
-        lifeElapsed += deltaTime;
 
-        if (lifeElapsed >= DEFAULT_LIFETIME) {
-            destroy();
+        if (isDestroyed()) {
             return;
         }
         if (climbing) {
-            setVelocity(new Vector(0f, -FIRE_SPEED));
+            setVelocityComponents(0f, -FIRE_SPEED);
             return;
         }
         if (isOnPlatform()) {
-            if (directionChangeElapsed >= CHANGE_DIRECTION_INTERVAL) {
+            if (directionChangeDue) {
                 if (random.nextBoolean()) {
                     invertDirection();
                 }
-                directionChangeElapsed = 0f;
+                directionChangeDue = false;
+                scheduleDirectionChange();
             }
-            setVelocity(new Vector(getHorizontalSpeed(FIRE_SPEED), 0f));
+            setVelocityComponents(getHorizontalSpeed(FIRE_SPEED), 0f);
         } else {
-            setVelocity(new Vector(0f, FIRE_SPEED));
+            setVelocityComponents(0f, FIRE_SPEED);
         }
     }
+
+    /**
+     * Schedules the next chance to turn around, counting the interval from now.
+     */
+    private void scheduleDirectionChange() {
+        this.directionChange = this.clock.schedule(CHANGE_DIRECTION_INTERVAL, () -> this.directionChangeDue = true);
+    }
 }
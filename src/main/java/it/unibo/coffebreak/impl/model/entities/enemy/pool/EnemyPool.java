@@ -0,0 +1,135 @@
+package it.unibo.coffebreak.impl.model.entities.enemy.pool;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.Optional;
+
+import it.unibo.coffebreak.impl.model.entities.enemy.AbstractEnemy;
+
+/**
+ * Bounded pool of enemies of one type, recycled once they leave the level
+ * instead of being left to the garbage collector.
+ * <p>
+ * The lifecycle of a pooled enemy is:
+ * <ol>
+ * <li>{@link #acquire()} hands out a released enemy, if any: the caller resets
+ * it with the reset method of its type, or builds a new enemy when the pool
+ * is empty;</li>
+ * <li>the enemy plays in the level;</li>
+ * <li>{@link #release(AbstractEnemy)} takes it back once removed from the
+ * level, calling {@link AbstractEnemy#onRelease()}. The enemy is only kept
+ * while the pool holds fewer than its capacity, so a burst of enemies does
+ * not pin memory for the rest of the game.</li>
+ * </ol>
+ * The pool counts the acquisitions it served (hits), those it could not serve
+ * (misses) and the releases it dropped, to size its capacity.
+ * </p>
+ *
+ * @param <T> the type of the pooled enemies
+ * @author Grazia Bochdanovits de Kavna
+ */
+public final class EnemyPool<T extends AbstractEnemy> {
+
+    /**
+     * The number of enemies kept by default for each type.
+     */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private final int capacity;
+    private final Deque<T> released;
+    private long hits;
+    private long misses;
+    private long dropped;
+
+    /**
+     * Creates a pool keeping {@value #DEFAULT_CAPACITY} enemies.
+     */
+    public EnemyPool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a pool keeping up to the given number of enemies. A pool of
+     * capacity 0 never recycles anything, and only counts the misses.
+     *
+     * @param capacity the maximum number of released enemies kept
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public EnemyPool(final int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The capacity cannot be negative");
+        }
+        this.capacity = capacity;
+        this.released = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Takes an enemy out of the pool. The enemy still holds the state of its
+     * last life, and must be reset before being added to the level.
+     *
+     * @return the most recently released enemy, or empty if the pool is empty
+     */
+    public Optional<T> acquire() {
+        final T enemy = this.released.pollLast();
+        if (enemy == null) {
+            this.misses++;
+            return Optional.empty();
+        }
+        this.hits++;
+        return Optional.of(enemy);
+    }
+
+    /**
+     * Gives back an enemy removed from the level. The enemy must not be used
+     * anymore by the caller, nor released twice.
+     *
+     * @param enemy the enemy to recycle
+     * @return true if the enemy is kept, false if the pool is full
+     * @throws NullPointerException if enemy is null
+     */
+    public boolean release(final T enemy) {
+        Objects.requireNonNull(enemy, "The enemy cannot be null").onRelease();
+        if (this.released.size() >= this.capacity) {
+            this.dropped++;
+            return false;
+        }
+        this.released.addLast(enemy);
+        return true;
+    }
+
+    /**
+     * @return the number of enemies waiting in the pool
+     */
+    public int size() {
+        return this.released.size();
+    }
+
+    /**
+     * @return the maximum number of enemies kept by the pool
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * @return the number of acquisitions served with a recycled enemy
+     */
+    public long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * @return the number of acquisitions that found the pool empty
+     */
+    public long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * @return the number of released enemies dropped because the pool was full
+     */
+    public long getDropped() {
+        return this.dropped;
+    }
+}
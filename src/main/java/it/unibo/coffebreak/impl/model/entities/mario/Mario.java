@@ -4,15 +4,18 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
 
-import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.clock.GameClock;
 import it.unibo.coffebreak.api.model.entities.PhysicsEntity;
 import it.unibo.coffebreak.api.model.entities.character.MainCharacter;
 import it.unibo.coffebreak.api.model.entities.character.lives.LivesManager;
 import it.unibo.coffebreak.api.model.entities.character.score.Score;
 import it.unibo.coffebreak.api.model.entities.character.states.CharacterState;
 import it.unibo.coffebreak.api.model.entities.collectible.Collectible;
+import it.unibo.coffebreak.api.model.entities.enemy.Enemy;
 import it.unibo.coffebreak.api.model.entities.npc.Princess;
 import it.unibo.coffebreak.api.model.entities.structure.Platform;
+import it.unibo.coffebreak.api.model.physics.CollisionLayer;
+import it.unibo.coffebreak.api.model.physics.CollisionResponses;
 import it.unibo.coffebreak.api.model.physics.Physics;
 import it.unibo.coffebreak.impl.common.BoundigBox;
 import it.unibo.coffebreak.impl.common.Position;
@@ -51,7 +54,7 @@ import it.unibo.coffebreak.impl.model.physics.GamePhysics;
  * @see PhysicsEntity
  * @author Grazia Bochdanovits de Kavna
  */
-public class Mario extends AbstractEntity implements MainCharacter, PhysicsEntity {
+public final class Mario extends AbstractEntity implements MainCharacter, PhysicsEntity {
 
     private static final float MAX_FALLING_SPEED = 150f;
 
@@ -59,6 +62,7 @@ public class Mario extends AbstractEntity implements MainCharacter, PhysicsEntit
     private final Physics physics = new GamePhysics();
     private final Score score = new GameScore();
 
+    private final Optional<GameClock> clock;
     private Optional<CharacterState> currentState = Optional.empty();
 
     private boolean onPlatform;
@@ -73,11 +77,29 @@ public class Mario extends AbstractEntity implements MainCharacter, PhysicsEntit
      * @param dimension the 2D dimension of the Mario (cannot be null)
      */
     public Mario(final Position position, final BoundigBox dimension) {
+        this(position, dimension, Optional.empty());
+    }
+
+    /**
+     * Creates a new Mario instance whose states are timed by the clock of the
+     * game.
+     *
+     * @param position  the initial position of Mario
+     * @param dimension the 2D dimension of the Mario (cannot be null)
+     * @param clock     the clock of the game
+     * @throws NullPointerException if clock is null
+     */
+    public Mario(final Position position, final BoundigBox dimension, final GameClock clock) {
+        this(position, dimension, Optional.of(Objects.requireNonNull(clock, "The clock cannot be null")));
+    }
+
+    private Mario(final Position position, final BoundigBox dimension, final Optional<GameClock> clock) {
         super(position, dimension);
 
+        this.clock = clock;
         this.isFacingRight = true;
 
-        this.changeState(NormalState::new);
+        this.changeState(this::newNormalState);
     }
 
     /**
@@ -92,7 +114,10 @@ public class Mario extends AbstractEntity implements MainCharacter, PhysicsEntit
      */
     @Override
     public void update(final float deltaTime) {
-        this.currentState.ifPresent(state -> state.update(this, deltaTime));
+        // no capturing lambda here: this runs every tick and must not allocate
+        if (this.currentState.isPresent()) {
+            this.currentState.get().update(this, deltaTime);
+        }
     }
 
     /**
@@ -102,7 +127,7 @@ public class Mario extends AbstractEntity implements MainCharacter, PhysicsEntit
      * @throws NullPointerException if newState is null
      */
     @Override
-    public final void changeState(final Supplier<CharacterState> stateSupplier) {
+    public void changeState(final Supplier<CharacterState> stateSupplier) {
         this.currentState.ifPresent(state -> state.onExit(this));
         this.currentState = Optional.of(Objects.requireNonNull(stateSupplier.get(), "NewState cannot be null"));
         this.currentState.ifPresent(state -> state.onEnter(this));
@@ -173,25 +198,21 @@ public class Mario extends AbstractEntity implements MainCharacter, PhysicsEntit
     }
 
     /**
-     * Handles collision with another entity by delegating to current state.
+     * Registers the responses of Mario to a contact. Contacts with enemies are
+     * delegated to his current state.
      *
-     * @param other the entity colliding with Mario
+     * @param responses the registry to fill
      */
-    @Override
-    public void onCollision(final Entity other) {
-        Objects.requireNonNull(other, "Colliding entity cannot be null");
-        switch (other) {
-            case final Platform platform -> {
-                this.onPlatformLand();
-                platform.destroy();
-            }
-            case final Collectible collectible -> collectible.collect(this);
-            case final Princess princess -> princess.rescue();
-            case final DonkeyKong donkey -> this.loseLife();
-            default -> {
-            }
-        }
-        this.currentState.ifPresent(state -> state.handleCollision(this, other));
+    public static void registerResponses(final CollisionResponses responses) {
+        responses.register(Mario.class, Platform.class, (mario, platform) -> {
+            mario.onPlatformLand();
+            platform.destroy();
+        });
+        responses.register(Mario.class, Collectible.class, (mario, collectible) -> collectible.collect(mario));
+        responses.register(Mario.class, Princess.class, (mario, princess) -> princess.rescue());
+        responses.register(Mario.class, DonkeyKong.class, (mario, donkey) -> mario.loseLife());
+        responses.register(Mario.class, Enemy.class,
+                (mario, enemy) -> mario.currentState.ifPresent(state -> state.handleCollision(mario, enemy)));
     }
 
     /**
@@ -207,7 +228,7 @@ public class Mario extends AbstractEntity implements MainCharacter, PhysicsEntit
      */
     @Override
     public CharacterState getCurrentState() {
-        return this.currentState.orElse(new NormalState());
+        return this.currentState.orElseGet(this::newNormalState);
     }
 
     /**
@@ -355,11 +376,11 @@ public class Mario extends AbstractEntity implements MainCharacter, PhysicsEntit
      * @param preserveX      whether to preserve the X component of current velocity
      */
     private void updateVelocity(final Vector movementVector, final boolean preserveX) {
-        final Vector currentVelocity = this.getVelocity();
-        final Vector newVelocity = preserveX
-                ? new Vector(currentVelocity.x(), movementVector.y())
-                : new Vector(movementVector.x(), currentVelocity.y());
-        this.setVelocity(newVelocity);
+        if (preserveX) {
+            this.setVelocityComponents(this.getVelocityX(), movementVector.y());
+        } else {
+            this.setVelocityComponents(movementVector.x(), this.getVelocityY());
+        }
     }
 
     /**
@@ -395,4 +416,19 @@ public class Mario extends AbstractEntity implements MainCharacter, PhysicsEntit
     private boolean canJump() {
         return this.onPlatform && !this.isJumping && this.currentState.map(CharacterState::canJump).orElse(false);
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Mario interacts with every other layer.
+     * </p>
+     */
+    @Override
+    public CollisionLayer getCollisionLayer() {
+        return CollisionLayer.PLAYER;
+    }
+
+    private CharacterState newNormalState() {
+        return this.clock.map(NormalState::new).orElseGet(NormalState::new);
+    }
 }
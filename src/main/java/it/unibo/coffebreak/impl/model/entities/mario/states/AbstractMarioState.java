@@ -1,17 +1,48 @@
 package it.unibo.coffebreak.impl.model.entities.mario.states;
 
-import it.unibo.coffebreak.api.model.entities.Entity;
+import java.util.Objects;
+
+import it.unibo.coffebreak.api.model.clock.GameClock;
 import it.unibo.coffebreak.api.model.entities.character.MainCharacter;
 import it.unibo.coffebreak.api.model.entities.character.states.CharacterState;
+import it.unibo.coffebreak.api.model.entities.enemy.Enemy;
+import it.unibo.coffebreak.impl.model.clock.TimerWheelClock;
 
 /**
  * Abstract base class for Mario's state implementations.
  * Provides default behavior for Mario's states in the game.
  * Concrete subclasses should implement state-specific collision handling.
+ * <p>
+ * The timers of a state are scheduled on the clock of the game it is given.
+ * A state built without one keeps its own clock, advanced by its updates.
+ * </p>
  * 
  * @author Grazia Bochdanovits de Kavna
  */
 public abstract class AbstractMarioState implements CharacterState {
+
+    private final GameClock clock;
+    private final boolean ownsClock;
+
+    /**
+     * Creates a state timed by its own clock, advanced by its updates.
+     */
+    protected AbstractMarioState() {
+        this.clock = new TimerWheelClock();
+        this.ownsClock = true;
+    }
+
+    /**
+     * Creates a state timed by the clock of the game.
+     * 
+     * @param clock the clock to schedule the timers of the state on
+     * @throws NullPointerException if clock is null
+     */
+    protected AbstractMarioState(final GameClock clock) {
+        this.clock = Objects.requireNonNull(clock, "The clock cannot be null");
+        this.ownsClock = false;
+    }
+
     /**
      * {@inheritDoc}
      * Default empty implementation. Can be overridden by subclasses for
@@ -38,15 +69,17 @@ public abstract class AbstractMarioState implements CharacterState {
 
     /**
      * {@inheritDoc}
-     * Default empty implementation. Can be overridden by subclasses for
-     * state-specific updates.
+     * Advances the clock of the state if it is its own. Can be overridden by
+     * subclasses for state-specific updates, calling this method first.
      * 
      * @param character the character to update
      * @param deltaTime the time elapsed since last update
      */
     @Override
     public void update(final MainCharacter character, final float deltaTime) {
-        // Default empty implementation
+        if (this.ownsClock) {
+            this.clock.advance(deltaTime);
+        }
     }
 
     /**
@@ -76,13 +109,28 @@ public abstract class AbstractMarioState implements CharacterState {
     }
 
     /**
-     * Handles collision with another entity.
+     * @return the clock to schedule the timers of the state on
+     */
+    protected final GameClock getClock() {
+        return this.clock;
+    }
+
+    /**
+     * @return true if the state advances its own clock, false if it is the
+     *         clock of the game
+     */
+    protected final boolean ownsClock() {
+        return this.ownsClock;
+    }
+
+    /**
+     * Handles collision with an enemy.
      * Must be implemented by concrete state classes to define state-specific
      * behavior.
      * 
      * @param character the character involved in the collision (typically Mario)
-     * @param other     the other entity involved in the collision
+     * @param enemy     the enemy involved in the collision
      */
     @Override
-    public abstract void handleCollision(MainCharacter character, Entity other);
+    public abstract void handleCollision(MainCharacter character, Enemy enemy);
 }
@@ -1,10 +1,12 @@
 package it.unibo.coffebreak.impl.model.entities.mario.states.normal;
 
-import it.unibo.coffebreak.api.model.entities.Entity;
+import java.util.Optional;
+
+import it.unibo.coffebreak.api.model.clock.GameClock;
 import it.unibo.coffebreak.api.model.entities.character.MainCharacter;
 import it.unibo.coffebreak.api.model.entities.character.states.CharacterState;
 import it.unibo.coffebreak.api.model.entities.enemy.Enemy;
-import it.unibo.coffebreak.api.model.entities.structure.Ladder;
+import it.unibo.coffebreak.api.model.physics.Contacts;
 import it.unibo.coffebreak.impl.model.entities.mario.Mario;
 import it.unibo.coffebreak.impl.model.entities.mario.states.AbstractMarioState;
 
@@ -27,56 +29,64 @@ public class NormalState extends AbstractMarioState {
 
     private static final float INVINCIBILITY_TIME = 2.0f;
 
-    private boolean canClimb;
-    private float invincibilityTimer;
+    private Optional<Contacts> contacts = Optional.empty();
+    private boolean invincible;
 
     /**
-     * Updates the normal state for each frame.
-     * Resets the climbing flag to false at the beginning of each update cycle.
-     * This ensures that climbing is only possible when actively colliding with a ladder.
-     * Also manages the invincibility timer to prevent rapid life loss.
+     * Creates a normal state timed by its own clock.
+     */
+    public NormalState() {
+        super();
+    }
+
+    /**
+     * Creates a normal state whose invincibility is timed by the clock of the
+     * game.
      * 
-     * @param character the main character (Mario) to update
-     * @param deltaTime the time elapsed since the last update in seconds
+     * @param clock the clock of the game
+     * @throws NullPointerException if clock is null
      */
-    @Override
-    public void update(final MainCharacter character, final float deltaTime) {
-        this.canClimb = false;
+    public NormalState(final GameClock clock) {
+        super(clock);
+    }
 
-        if (this.invincibilityTimer > 0) {
-            this.invincibilityTimer -= deltaTime;
-        }
+    /**
+     * {@inheritDoc}
+     * Keeps the contacts of the character to detect ladders.
+     * 
+     * @param character the character entering this state
+     */
+    @Override
+    public void onEnter(final MainCharacter character) {
+        this.contacts = Optional.ofNullable(character.getContacts());
     }
 
     /**
-     * Handles collisions with other entities.
-     * Includes invincibility timer to prevent rapid life loss from multiple
-     * collisions.
+     * Handles collisions with enemies.
+     * Mario stays invincible for {@value #INVINCIBILITY_TIME} seconds after
+     * losing a life, to prevent rapid life loss from multiple collisions.
      * 
      * @param character the Mario instance involved in the collision
-     * @param other     the entity colliding with Mario
+     * @param enemy     the enemy colliding with Mario
      */
     @Override
-    public void handleCollision(final MainCharacter character, final Entity other) {
-        switch (other) {
-            case final Enemy enemy -> {
-                if (this.invincibilityTimer <= 0) {
-                    character.loseLife();
-                    this.invincibilityTimer = INVINCIBILITY_TIME; 
-                }
-            }
-            case final Ladder ladder -> this.canClimb = true;
-            default -> {
-            }
+    public void handleCollision(final MainCharacter character, final Enemy enemy) {
+        if (!this.invincible) {
+            character.loseLife();
+            this.invincible = true;
+            this.getClock().schedule(INVINCIBILITY_TIME, () -> this.invincible = false);
         }
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Mario can climb while he touched a ladder during the last tick.
+     * </p>
      */
     @Override
     public boolean canClimb() {
-        return this.canClimb;
+        return this.contacts.map(Contacts::touchesLadder).orElse(false);
     }
 
     /**
@@ -1,6 +1,9 @@
 package it.unibo.coffebreak.impl.model.entities.mario.states.withhammer;
 
-import it.unibo.coffebreak.api.model.entities.Entity;
+import java.util.Optional;
+
+import it.unibo.coffebreak.api.model.clock.GameClock;
+import it.unibo.coffebreak.api.model.clock.Timer;
 import it.unibo.coffebreak.api.model.entities.character.MainCharacter;
 import it.unibo.coffebreak.api.model.entities.enemy.Enemy;
 import it.unibo.coffebreak.impl.model.entities.mario.states.AbstractMarioState;
@@ -12,7 +15,8 @@ import it.unibo.coffebreak.impl.model.entities.mario.states.normal.NormalState;
  * <ul>
  * <li>Mario can destroy barrels and other breakable entities on collision</li>
  * <li>Maintains normal movement capabilities</li>
- * <li>Automatically expires after {@value #HAMMER_DURATION} milliseconds</li>
+ * <li>Automatically expires after {@value #HAMMER_DURATION} milliseconds of
+ * game time</li>
  * <li>Allows use of special hammer attacks</li>
  * </ul>
  *
@@ -36,24 +40,53 @@ public class WithHammerState extends AbstractMarioState {
      */
     public static final long HAMMER_DURATION = 7000;
 
+    private static final float MILLIS_PER_SECOND = 1000f;
+
     private boolean didDesoyedEnemy;
+    private boolean expired;
+    private Optional<Timer> expiration = Optional.empty();
 
     /**
-     * The system time in milliseconds when this hammer state will expire.
+     * Creates a hammer state timed by its own clock.
      */
-    private long expirationTime;
+    public WithHammerState() {
+        super();
+    }
+
+    /**
+     * Creates a hammer state expiring on the clock of the game, so that the
+     * hammer does not wear out while the game is paused.
+     * 
+     * @param clock the clock of the game
+     * @throws NullPointerException if clock is null
+     */
+    public WithHammerState(final GameClock clock) {
+        super(clock);
+    }
 
     /**
      * Called when entering hammer state. Initializes:
      * <ul>
-     * <li>Expiration timer ({@code currentTime + HAMMER_DURATION})</li>
+     * <li>Expiration timer, expiring after {@code HAMMER_DURATION}</li>
      * </ul>
      *
      * @param character the Mario instance transitioning to this state (non-null)
      */
     @Override
     public void onEnter(final MainCharacter character) {
-        this.expirationTime = System.currentTimeMillis() + HAMMER_DURATION;
+        this.expired = false;
+        this.expiration = Optional.of(this.getClock().schedule(HAMMER_DURATION / MILLIS_PER_SECOND,
+                () -> this.expired = true));
+    }
+
+    /**
+     * Cancels the expiration timer when Mario leaves the state before it ran.
+     *
+     * @param character the Mario instance leaving this state
+     */
+    @Override
+    public void onExit(final MainCharacter character) {
+        this.expiration.ifPresent(Timer::cancel);
     }
 
     /**
@@ -68,8 +101,9 @@ public class WithHammerState extends AbstractMarioState {
      */
     @Override
     public void update(final MainCharacter character, final float deltaTime) {
+        super.update(character, deltaTime);
         if (this.isExpired()) {
-            character.changeState(NormalState::new);
+            character.changeState(this.ownsClock() ? NormalState::new : () -> new NormalState(this.getClock()));
         }
         this.didDesoyedEnemy = false;
     }
@@ -79,19 +113,16 @@ public class WithHammerState extends AbstractMarioState {
      * <ul>
      * <li>Destroys barrels on contact</li>
      * <li>Damages enemies</li>
-     * <li>Ignores non-breakable entities</li>
      * </ul>
      *
      * @param character the Mario instance involved in collision (non-null)
-     * @param other     the colliding entity (non-null)
+     * @param enemy     the colliding enemy (non-null)
      */
     @Override
-    public void handleCollision(final MainCharacter character, final Entity other) {
-        if (other instanceof final Enemy enemy) {
-            enemy.destroy();
-            character.earnPoints(enemy.killValue());
-            this.didDesoyedEnemy = true;
-        }
+    public void handleCollision(final MainCharacter character, final Enemy enemy) {
+        enemy.destroy();
+        character.earnPoints(enemy.killValue());
+        this.didDesoyedEnemy = true;
     }
 
     /**
@@ -105,9 +136,10 @@ public class WithHammerState extends AbstractMarioState {
     /**
      * Checks if the hammer state has expired.
      *
-     * @return true if the current time is past the expiration time, false otherwise
+     * @return true if the hammer was held for {@value #HAMMER_DURATION}
+     *         milliseconds of game time, false otherwise
      */
     protected boolean isExpired() {
-        return System.currentTimeMillis() >= expirationTime;
+        return this.expired;
     }
 }
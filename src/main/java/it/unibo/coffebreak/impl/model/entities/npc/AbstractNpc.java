@@ -1,6 +1,6 @@
 package it.unibo.coffebreak.impl.model.entities.npc;
 
-import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.physics.CollisionLayer;
 import it.unibo.coffebreak.impl.common.BoundigBox;
 import it.unibo.coffebreak.impl.common.Position;
 import it.unibo.coffebreak.impl.model.entities.AbstractEntity;
@@ -27,13 +27,12 @@ public abstract class AbstractNpc extends AbstractEntity {
 
     /**
      * {@inheritDoc}
-     * Default empty implementation. Subclasses should override this method
-     * to define specific collision behavior for the NPC.
-     *
-     * @param other the entity that collided with this NPC
+     * <p>
+     * NPCs react when Mario reaches them.
+     * </p>
      */
     @Override
-    public void onCollision(final Entity other) {
-        // Default empty implementation
+    public CollisionLayer getCollisionLayer() {
+        return CollisionLayer.TRIGGER;
     }
 }
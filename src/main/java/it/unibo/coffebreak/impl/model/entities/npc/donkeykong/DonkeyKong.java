@@ -1,13 +1,20 @@
 package it.unibo.coffebreak.impl.model.entities.npc.donkeykong;
 
+import java.util.Objects;
 import java.util.Optional;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
+import it.unibo.coffebreak.api.model.clock.GameClock;
 import it.unibo.coffebreak.api.model.entities.enemy.barrel.Barrel;
 import it.unibo.coffebreak.api.model.entities.npc.Antagonist;
+import it.unibo.coffebreak.api.model.physics.CollisionLayer;
 import it.unibo.coffebreak.impl.common.BoundigBox;
 import it.unibo.coffebreak.impl.common.Position;
+import it.unibo.coffebreak.impl.common.jfr.EntitySpawnEvent;
+import it.unibo.coffebreak.impl.model.clock.TimerWheelClock;
 import it.unibo.coffebreak.impl.model.entities.enemy.barrel.GameBarrel;
+import it.unibo.coffebreak.impl.model.entities.enemy.pool.EnemyPool;
 import it.unibo.coffebreak.impl.model.entities.npc.AbstractNpc;
 
 /**
@@ -17,6 +24,11 @@ import it.unibo.coffebreak.impl.model.entities.npc.AbstractNpc;
  * at regular intervals. The character follows the classic Donkey Kong behavior
  * from the arcade game.
  * </p>
+ * <p>
+ * The throws are timed by the clock of the game when one is given; otherwise
+ * Donkey Kong keeps its own clock, advanced by {@link #tryThrowBarrel(float)}.
+ * The barrels are recycled from the pool of the level when one is given.
+ * </p>
  * 
  * @see Antagonist
  * @see AbstractNpc
@@ -30,10 +42,13 @@ public class DonkeyKong extends AbstractNpc implements Antagonist {
     private static final int BARREL_THROW_INTERVAL = 3;
     private static final float FIRE_BARREL_PROBABILITY = 0.6f;
 
-    private final Random random = new Random();
+    private final RandomGenerator random;
+    private final GameClock clock;
+    private final boolean ownsClock;
+    private final EnemyPool<GameBarrel> barrels;
 
     private final boolean canThrowBarrel;
-    private float lastThrowTime;
+    private boolean throwDue;
 
     private boolean isThrowing;
 
@@ -47,9 +62,55 @@ public class DonkeyKong extends AbstractNpc implements Antagonist {
      * @throws NullPointerException     if position or dimension are null
      */
     public DonkeyKong(final Position position, final BoundigBox dimension, final boolean canThrowBarrel) {
+        this(position, dimension, canThrowBarrel, new SplittableRandom());
+    }
+
+    /**
+     * Constructs a new Donkey Kong entity choosing the kind of the barrels it
+     * throws with the given generator, so that a seeded generator always
+     * throws the same barrels.
+     *
+     * @param position       the initial position of Donkey Kong (cannot be null)
+     * @param dimension      the dimension of the pauline in the game world
+     * @param canThrowBarrel true if Donkey Kong is allowed to throw barrels, false otherwise
+     * @param random         the generator deciding whether a barrel is on fire
+     * @throws NullPointerException if position, dimension or random are null
+     */
+    public DonkeyKong(final Position position, final BoundigBox dimension, final boolean canThrowBarrel,
+            final RandomGenerator random) {
+        this(position, dimension, canThrowBarrel, random, new TimerWheelClock(), true, new EnemyPool<>(0));
+    }
+
+    /**
+     * Constructs a new Donkey Kong entity throwing barrels taken from the
+     * given pool, at the intervals of the clock of the game.
+     *
+     * @param position       the initial position of Donkey Kong (cannot be null)
+     * @param dimension      the dimension of the pauline in the game world
+     * @param canThrowBarrel true if Donkey Kong is allowed to throw barrels, false otherwise
+     * @param random         the generator deciding whether a barrel is on fire
+     * @param clock          the clock of the game
+     * @param barrels        the pool the barrels are recycled from
+     * @throws NullPointerException if position, dimension, random, clock or barrels are null
+     */
+    public DonkeyKong(final Position position, final BoundigBox dimension, final boolean canThrowBarrel,
+            final RandomGenerator random, final GameClock clock, final EnemyPool<GameBarrel> barrels) {
+        this(position, dimension, canThrowBarrel, random, clock, false, barrels);
+    }
+
+    private DonkeyKong(final Position position, final BoundigBox dimension, final boolean canThrowBarrel,
+            final RandomGenerator random, final GameClock clock, final boolean ownsClock,
+            final EnemyPool<GameBarrel> barrels) {
         super(position, dimension);
 
         this.canThrowBarrel = canThrowBarrel;
+        this.random = Objects.requireNonNull(random, "The random generator cannot be null");
+        this.clock = Objects.requireNonNull(clock, "The clock cannot be null");
+        this.ownsClock = ownsClock;
+        this.barrels = Objects.requireNonNull(barrels, "The barrel pool cannot be null");
+        if (canThrowBarrel) {
+            this.scheduleThrow();
+        }
     }
 
     /**
@@ -60,24 +121,40 @@ public class DonkeyKong extends AbstractNpc implements Antagonist {
      */
     @Override
     public Optional<Barrel> tryThrowBarrel(final float deltaTime) {
-        this.lastThrowTime += deltaTime;
-        if (this.lastThrowTime >= BARREL_THROW_INTERVAL && this.canThrowBarrel) {
-            this.lastThrowTime = 0;
+        if (this.ownsClock) {
+            this.clock.advance(deltaTime);
+        }
+        if (this.throwDue) {
+            this.throwDue = false;
             this.isThrowing = true;
+            this.scheduleThrow();
 
             final float handX = super.getPosition().x() + super.getDimension().width() / 3f;
             final float handY = super.getPosition().y() + super.getDimension().height() / 2f;
 
             final Position spawnPosition = new Position(handX, handY);
+            final boolean onFire = random.nextFloat() < FIRE_BARREL_PROBABILITY;
 
-            return Optional.of(new GameBarrel(spawnPosition, new BoundigBox(),
-                    random.nextFloat() < FIRE_BARREL_PROBABILITY));
+            final Optional<GameBarrel> recycled = this.barrels.acquire();
+            EntitySpawnEvent.emit(GameBarrel.class.getSimpleName(), recycled.isPresent() ? "recycled" : "thrown");
+            if (recycled.isPresent()) {
+                recycled.get().reset(spawnPosition, onFire);
+                return Optional.of(recycled.get());
+            }
+            return Optional.of(new GameBarrel(spawnPosition, new BoundigBox(), onFire));
         }
 
         this.isThrowing = false;
         return Optional.empty();
     }
 
+    /**
+     * Schedules the next throw, counting the interval from now.
+     */
+    private void scheduleThrow() {
+        this.clock.schedule(BARREL_THROW_INTERVAL, () -> this.throwDue = true);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -85,4 +162,16 @@ public class DonkeyKong extends AbstractNpc implements Antagonist {
     public boolean isThrowing() {
         return this.isThrowing;
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Donkey Kong hurts Mario like any enemy, and is not tested against the
+     * barrels it throws.
+     * </p>
+     */
+    @Override
+    public CollisionLayer getCollisionLayer() {
+        return CollisionLayer.ENEMY;
+    }
 }
@@ -4,6 +4,8 @@ import it.unibo.coffebreak.api.model.entities.Entity;
 import it.unibo.coffebreak.api.model.entities.character.MainCharacter;
 import it.unibo.coffebreak.api.model.entities.enemy.fire.Fire;
 import it.unibo.coffebreak.api.model.entities.structure.Ladder;
+import it.unibo.coffebreak.api.model.physics.CollisionResponses;
+import it.unibo.coffebreak.api.model.physics.CollisionLayer;
 import it.unibo.coffebreak.impl.common.BoundigBox;
 import it.unibo.coffebreak.impl.common.Position;
 import it.unibo.coffebreak.impl.model.entities.AbstractEntity;
@@ -34,25 +36,18 @@ public abstract class AbstractLadder extends AbstractEntity implements Ladder {
     }
 
     /**
-     * Handles collision logic when another entity interacts with this ladder.
-     * Currently, this method has no implemented logic.
+     * Registers the responses of ladders to a contact: a climbing character
+     * and any fire touching the ladder are centered on it.
      * 
-     * @param other the entity that collided with the ladder
+     * @param responses the registry to fill
      */
-    @Override
-    public void onCollision(final Entity other) {
-        switch (other) {
-            case final MainCharacter character -> {
-                if (character.isClimbing()) {
-                    this.centerCharacterOnLadder(character);
-                }
-            }
-            case final Fire fire -> {
-                this.centerCharacterOnLadder(fire);
-            }
-            default -> {
+    public static void registerResponses(final CollisionResponses responses) {
+        responses.register(AbstractLadder.class, MainCharacter.class, (ladder, character) -> {
+            if (character.isClimbing()) {
+                ladder.centerCharacterOnLadder(character);
             }
-        }
+        });
+        responses.register(AbstractLadder.class, Fire.class, AbstractLadder::centerCharacterOnLadder);
     }
 
     /**
@@ -65,11 +60,21 @@ public abstract class AbstractLadder extends AbstractEntity implements Ladder {
      * @param entity the entity to center on the ladder
      */
     private void centerCharacterOnLadder(final Entity entity) {
-        final float ladderCenterX = this.getPosition().x() + this.getDimension().width() / 2f;
+        final float ladderCenterX = this.getX() + this.getDimension().width() / 2f;
         final float characterHalfWidth = entity.getDimension().width() / 2f;
         final float centeredX = ladderCenterX - characterHalfWidth;
 
-        final var currentPos = entity.getPosition();
-        entity.setPosition(new Position(centeredX, currentPos.y()));
+        entity.setPositionComponents(centeredX, entity.getY());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Ladders only interact with the entities that can climb them.
+     * </p>
+     */
+    @Override
+    public CollisionLayer getCollisionLayer() {
+        return CollisionLayer.CLIMBABLE;
     }
 }
@@ -2,6 +2,8 @@ package it.unibo.coffebreak.impl.model.entities.structure.platform;
 
 import it.unibo.coffebreak.api.model.entities.Entity;
 import it.unibo.coffebreak.api.model.entities.structure.Platform;
+import it.unibo.coffebreak.api.model.physics.CollisionLayer;
+import it.unibo.coffebreak.api.model.physics.CollisionResponses;
 import it.unibo.coffebreak.impl.common.BoundigBox;
 import it.unibo.coffebreak.impl.common.Position;
 import it.unibo.coffebreak.impl.model.entities.AbstractEntity;
@@ -41,16 +43,20 @@ public abstract class AbstractPlatform extends AbstractEntity implements Platfor
     }
 
     /**
-     * {@inheritDoc}
-     * <p>
+     * Registers the response of platforms to a contact.
+     *
+     * @param responses the registry to fill
+     */
+    public static void registerResponses(final CollisionResponses responses) {
+        responses.register(AbstractPlatform.class, Entity.class, AbstractPlatform::placeOnTop);
+    }
+
+    /**
      * Positions any colliding entity on top of this platform to prevent
      * intersection.
-     * </p>
      */
-    @Override
-    public void onCollision(final Entity other) {
-        other.setPosition(new Position(other.getPosition().x(),
-                this.getPosition().y() - other.getDimension().height()));
+    private void placeOnTop(final Entity other) {
+        other.setPositionComponents(other.getX(), this.getY() - other.getDimension().height());
     }
 
     /**
@@ -68,4 +74,15 @@ public abstract class AbstractPlatform extends AbstractEntity implements Platfor
     public void destroy() {
         // Default empty implementation
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Platforms only interact with the entities standing on them.
+     * </p>
+     */
+    @Override
+    public CollisionLayer getCollisionLayer() {
+        return CollisionLayer.STATIC_GEOMETRY;
+    }
 }
@@ -44,10 +44,15 @@ public class BreakablePlatform extends AbstractPlatform {
 
     /**
      * {@inheritDoc}
+     * The first break is reported to the level, which updates the platform
+     * grid.
      */
     @Override
     public void destroy() {
-        this.broken = true;
+        if (!this.broken) {
+            this.broken = true;
+            this.markChanged();
+        }
     }
 
     /**
@@ -1,8 +1,9 @@
 package it.unibo.coffebreak.impl.model.entities.structure.tank;
 
-import it.unibo.coffebreak.api.model.entities.Entity;
 import it.unibo.coffebreak.api.model.entities.enemy.barrel.Barrel;
 import it.unibo.coffebreak.api.model.entities.structure.Tank;
+import it.unibo.coffebreak.api.model.physics.CollisionLayer;
+import it.unibo.coffebreak.api.model.physics.CollisionResponses;
 import it.unibo.coffebreak.impl.common.BoundigBox;
 import it.unibo.coffebreak.impl.common.Position;
 import it.unibo.coffebreak.impl.model.entities.AbstractEntity;
@@ -38,15 +39,13 @@ public class GameTank extends AbstractEntity implements Tank {
     }
 
     /**
-     * Handles collision events with other game entities.
+     * Registers the response of the tank to a contact: the first barrel rolling
+     * into it lights it up.
      *
-     * @param other the entity that collided with this tank
+     * @param responses the registry to fill
      */
-    @Override
-    public void onCollision(final Entity other) {
-        if (other instanceof Barrel && !isActive) {
-            this.isActive = true;
-        }
+    public static void registerResponses(final CollisionResponses responses) {
+        responses.register(GameTank.class, Barrel.class, (tank, barrel) -> tank.isActive = true);
     }
 
     /**
@@ -56,4 +55,15 @@ public class GameTank extends AbstractEntity implements Tank {
     public boolean isActive() {
         return this.isActive;
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The tank reacts to the barrels rolling into it.
+     * </p>
+     */
+    @Override
+    public CollisionLayer getCollisionLayer() {
+        return CollisionLayer.TRIGGER;
+    }
 }
@@ -1,15 +1,23 @@
 package it.unibo.coffebreak.impl.model.level;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.SplittableRandom;
 
 import it.unibo.coffebreak.api.common.Loader;
+import it.unibo.coffebreak.api.model.clock.GameClock;
 import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.entities.EntityHandle;
 import it.unibo.coffebreak.api.model.entities.character.MainCharacter;
 import it.unibo.coffebreak.api.model.level.LevelManager;
 import it.unibo.coffebreak.api.model.level.bonus.Bonus;
 import it.unibo.coffebreak.api.model.level.entity.EntityManager;
+import it.unibo.coffebreak.api.model.level.entity.PlatformGrid;
 import it.unibo.coffebreak.api.model.level.maps.MapsManager;
+import it.unibo.coffebreak.api.model.physics.BroadPhaseStrategy;
+import it.unibo.coffebreak.impl.common.jfr.LevelLoadEvent;
+import it.unibo.coffebreak.impl.model.clock.TimerWheelClock;
 import it.unibo.coffebreak.impl.model.level.bonus.GameBonus;
 import it.unibo.coffebreak.impl.model.level.entity.GameEntityManager;
 import it.unibo.coffebreak.impl.model.level.maps.GameMapsManager;
@@ -19,6 +27,11 @@ import it.unibo.coffebreak.impl.model.level.maps.GameMapsManager;
  * Handles the logic and state of a game level, including entity management,
  * main character access, bonus calculation, and level progression.
  * Delegates entity and map management to specialized managers.
+ * <p>
+ * The bonus decays at the intervals of the clock of the game, which is also
+ * given to the entities. A manager built without a clock keeps its own,
+ * advanced by {@link #calculateBonus(float)}.
+ * </p>
  * 
  * @author Filippo Ricciotti
  */
@@ -29,12 +42,14 @@ public class GameLevelManager implements LevelManager {
     private static final int MAX_BONUS = 9000;
     private static final int SUPPLY = 1000;
 
-    private final EntityManager entityManager = new GameEntityManager();
+    private final EntityManager entityManager;
     private final Bonus levelBonus = new GameBonus();
     private final MapsManager mapsManager;
+    private final GameClock clock;
+    private final boolean ownsClock;
 
     private int levelIndex;
-    private float bonusElapsedTime;
+    private boolean bonusDue;
 
     /**
      * Constructs a new {@code GameLevelManager} using the specified {@link Loader}.
@@ -43,7 +58,30 @@ public class GameLevelManager implements LevelManager {
      * @param loader the loader used to initialize the game maps manager
      */
     public GameLevelManager(final Loader loader) {
+        this(loader, new SplittableRandom(), new TimerWheelClock(), true);
+    }
+
+    /**
+     * Constructs a new {@code GameLevelManager} whose entities draw their
+     * randomness from the given generator, and whose timers are scheduled on
+     * the clock of the game.
+     *
+     * @param loader the loader used to initialize the game maps manager
+     * @param random the generator of the random decisions of the entities
+     * @param clock  the clock of the game, advanced by its owner
+     * @throws NullPointerException if random or clock are null
+     */
+    public GameLevelManager(final Loader loader, final SplittableRandom random, final GameClock clock) {
+        this(loader, random, clock, false);
+    }
+
+    private GameLevelManager(final Loader loader, final SplittableRandom random, final GameClock clock,
+            final boolean ownsClock) {
         this.mapsManager = new GameMapsManager(loader);
+        this.clock = Objects.requireNonNull(clock, "The clock cannot be null");
+        this.ownsClock = ownsClock;
+        this.entityManager = new GameEntityManager(random, clock);
+        this.scheduleBonus();
     }
 
     /**
@@ -54,6 +92,22 @@ public class GameLevelManager implements LevelManager {
         return this.entityManager.getEntities();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends Entity> List<T> entitiesOf(final Class<T> type) {
+        return this.entityManager.entitiesOf(type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Entity> resolve(final EntityHandle handle) {
+        return this.entityManager.resolve(handle);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -62,6 +116,22 @@ public class GameLevelManager implements LevelManager {
         return this.entityManager.getMainCharacter();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PlatformGrid getPlatformGrid() {
+        return this.entityManager.getPlatformGrid();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BroadPhaseStrategy getBroadPhaseStrategy() {
+        return this.mapsManager.getBroadPhaseStrategy();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -70,6 +140,14 @@ public class GameLevelManager implements LevelManager {
         return this.entityManager.addEntity(entity);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void spawnEntity(final Entity entity) {
+        this.entityManager.spawnEntity(entity);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -83,8 +161,10 @@ public class GameLevelManager implements LevelManager {
      */
     @Override
     public void loadCurrentEntities() {
+        final LevelLoadEvent event = LevelLoadEvent.start();
         this.levelBonus.setBonus(this.getBonusAmount());
         this.entityManager.loadEntities(this.mapsManager.currentMap(), this.mapsManager.canDonkeyThrowBarrel());
+        event.complete(this.getLevelIndex(), this.getEntities().size());
     }
 
     /**
@@ -100,10 +180,13 @@ public class GameLevelManager implements LevelManager {
      */
     @Override
     public void calculateBonus(final float deltaTime) {
-        this.bonusElapsedTime += deltaTime;
-        if (this.bonusElapsedTime >= BONUS_INTERVAL) {
+        if (this.ownsClock) {
+            this.clock.advance(deltaTime);
+        }
+        if (this.bonusDue) {
+            this.bonusDue = false;
             this.levelBonus.calculate();
-            this.bonusElapsedTime = 0;
+            this.scheduleBonus();
         }
     }
 
@@ -120,7 +203,7 @@ public class GameLevelManager implements LevelManager {
      */
     @Override
     public void advance() {
-        if (this.mapsManager.advance(this.getEntities())) {
+        if (this.mapsManager.advance(this.entityManager)) {
             this.getMainCharacter().ifPresent(p -> p.earnPoints(this.getBonusValue()));
             if (this.mapsManager.shouldIncreaseLevelIndex()) {
                 this.levelIndex++;
@@ -162,6 +245,13 @@ public class GameLevelManager implements LevelManager {
         this.levelIndex = 0;
     }
 
+    /**
+     * Schedules the next decay of the bonus, counting the interval from now.
+     */
+    private void scheduleBonus() {
+        this.clock.schedule(BONUS_INTERVAL, () -> this.bonusDue = true);
+    }
+
     /**
      * method that returns the correct bonus depending on the level.
      * 
@@ -0,0 +1,133 @@
+package it.unibo.coffebreak.impl.model.level.entity;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import it.unibo.coffebreak.api.model.entities.Entity;
+
+/**
+ * Records the structural changes of the level requested during a tick, so
+ * that the list of entities never changes while it is being iterated.
+ * <p>
+ * Commands are recorded and applied on the simulation thread, in the order
+ * they were recorded, by {@link #playback(Target)}, the sync point of the
+ * tick. Each command is stored in three parallel arrays, reused from one tick
+ * to the next, so recording a command does not allocate once the buffer
+ * reached the size of the busiest tick.
+ * </p>
+ *
+ * @author Filippo Ricciotti
+ */
+public final class EntityCommandBuffer {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Entity[] added = new Entity[INITIAL_CAPACITY];
+    private Entity[] removed = new Entity[INITIAL_CAPACITY];
+    private String[] causes = new String[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Records an entity to add to the level.
+     *
+     * @param entity the entity to add
+     * @throws NullPointerException if entity is null
+     */
+    public void spawn(final Entity entity) {
+        this.record(Objects.requireNonNull(entity, "The entity cannot be null"), null, null);
+    }
+
+    /**
+     * Records an entity to remove from the level.
+     *
+     * @param entity the entity to remove
+     * @param cause  why the entity leaves the level
+     * @throws NullPointerException if entity or cause are null
+     */
+    public void despawn(final Entity entity, final String cause) {
+        this.record(null, Objects.requireNonNull(entity, "The entity cannot be null"),
+                Objects.requireNonNull(cause, "The cause cannot be null"));
+    }
+
+    /**
+     * Records an entity to replace with another one, such as a barrel turning
+     * into fire.
+     *
+     * @param from the entity leaving the level
+     * @param to   the entity taking its place
+     * @throws NullPointerException if from or to are null
+     */
+    public void transform(final Entity from, final Entity to) {
+        this.record(Objects.requireNonNull(to, "The new entity cannot be null"),
+                Objects.requireNonNull(from, "The old entity cannot be null"), "transformed");
+    }
+
+    /**
+     * @return true if no command is waiting to be applied
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Applies the recorded commands in order, removals before additions within
+     * a command, and empties the buffer. Commands recorded by the target while
+     * the buffer is played back are applied too.
+     *
+     * @param target the level receiving the changes
+     * @return the number of commands applied
+     * @throws NullPointerException if target is null
+     */
+    public int playback(final Target target) {
+        Objects.requireNonNull(target, "The target cannot be null");
+        int applied = 0;
+        while (applied < this.size) {
+            if (this.removed[applied] != null) {
+                target.remove(this.removed[applied], this.causes[applied]);
+            }
+            if (this.added[applied] != null) {
+                target.add(this.added[applied]);
+            }
+            applied++;
+        }
+        Arrays.fill(this.added, 0, applied, null);
+        Arrays.fill(this.removed, 0, applied, null);
+        Arrays.fill(this.causes, 0, applied, null);
+        this.size = 0;
+        return applied;
+    }
+
+    /**
+     * The level the commands are applied to.
+     */
+    public interface Target {
+
+        /**
+         * Adds an entity to the level.
+         *
+         * @param entity the entity to add
+         */
+        void add(Entity entity);
+
+        /**
+         * Removes an entity from the level.
+         *
+         * @param entity the entity to remove
+         * @param cause  why the entity leaves the level
+         */
+        void remove(Entity entity, String cause);
+    }
+
+    private void record(final Entity entity, final Entity replaced, final String cause) {
+        if (this.size == this.added.length) {
+            final int capacity = this.size * 2;
+            this.added = Arrays.copyOf(this.added, capacity);
+            this.removed = Arrays.copyOf(this.removed, capacity);
+            this.causes = Arrays.copyOf(this.causes, capacity);
+        }
+        this.added[this.size] = entity;
+        this.removed[this.size] = replaced;
+        this.causes[this.size] = cause;
+        this.size++;
+    }
+}
@@ -0,0 +1,266 @@
+package it.unibo.coffebreak.impl.model.level.entity;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.entities.EntityHandle;
+import it.unibo.coffebreak.api.model.level.entity.EntityIndex;
+import it.unibo.coffebreak.impl.model.entities.EntityHandles;
+
+/**
+ * Implementation of {@link EntityIndex} keeping, next to the list of all the
+ * entities, one array-backed bucket for each type that was queried.
+ * <p>
+ * A bucket is filled by scanning the entities the first time its type is
+ * queried, and is then kept up to date as entities are added and removed, so
+ * a query costs a map lookup and the scans of the callers only visit the
+ * entities they are interested in.
+ * </p>
+ * <p>
+ * The index also issues the handles of the entities as they are added, and
+ * retires them as they are removed, and hands out the entities that reported
+ * a change.
+ * </p>
+ * <p>
+ * Each list remembers the position of its entities by the slot of their
+ * handle, and removes an entity by moving its last entity in its place, so
+ * removing entities costs as much as the number of entities removed, however
+ * large the level. The entities therefore keep the order they were added in
+ * only until an entity is removed.
+ * </p>
+ * 
+ * @author Filippo Ricciotti
+ */
+public class GameEntityIndex implements EntityIndex {
+
+    private final SlotList entities = new SlotList();
+    private final List<Entity> view = Collections.unmodifiableList(this.entities);
+    private final Map<Class<?>, Bucket> bucketsByType = new HashMap<>();
+    private final List<Bucket> buckets = new ArrayList<>();
+    private final Set<Entity> marked = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final List<Entity> removed = new ArrayList<>();
+    private final EntityHandles handles = new EntityHandles();
+
+    /**
+     * @return an unmodifiable view of all the entities
+     */
+    public List<Entity> getEntities() {
+        return this.view;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> List<T> entitiesOf(final Class<T> type) {
+        Bucket bucket = this.bucketsByType.get(Objects.requireNonNull(type, "The type cannot be null"));
+        if (bucket == null) {
+            bucket = new Bucket(type);
+            for (int i = 0; i < this.entities.size(); i++) {
+                bucket.offer(this.entities.get(i));
+            }
+            this.bucketsByType.put(type, bucket);
+            this.buckets.add(bucket);
+        }
+        // every entity of the bucket passed type.isInstance
+        return (List<T>) bucket.view;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Entity> resolve(final EntityHandle handle) {
+        return this.handles.resolve(handle);
+    }
+
+    /**
+     * Adds an entity, and to the bucket of each type it is an instance of,
+     * issuing its handle.
+     * 
+     * @param entity the entity to add
+     * @return true, as the entities are kept in a list
+     * @throws NullPointerException if the entity is null
+     */
+    public boolean add(final Entity entity) {
+        Objects.requireNonNull(entity, "The entity cannot be null");
+        this.handles.issue(entity);
+        for (final Bucket bucket : this.buckets) {
+            bucket.offer(entity);
+        }
+        return this.entities.add(entity);
+    }
+
+    /**
+     * Takes the next entity that reported a change since it was last returned,
+     * such as a collected item or a destroyed enemy.
+     * 
+     * @return the next changed entity, or null if there is none
+     */
+    public Entity pollChanged() {
+        return this.handles.pollChanged();
+    }
+
+    /**
+     * Marks an entity to be removed by the next {@link #removeMarked()}, so
+     * that the entities to remove can be picked while iterating the buckets.
+     * 
+     * @param entity the entity to remove
+     * @return true if the entity was not marked yet
+     */
+    public boolean markRemoved(final Entity entity) {
+        if (this.marked.add(entity)) {
+            this.removed.add(entity);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes the marked entities, in the order they were marked, from the
+     * list and from the buckets of their types, and retires their handles.
+     * Only the positions of the removed entities are visited.
+     * 
+     * @return true if any entity was removed
+     */
+    public boolean removeMarked() {
+        if (this.removed.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < this.removed.size(); i++) {
+            final Entity entity = this.removed.get(i);
+            this.entities.remove(entity);
+            for (final Bucket bucket : this.buckets) {
+                if (bucket.type.isInstance(entity)) {
+                    bucket.entities.remove(entity);
+                }
+            }
+            this.handles.retire(entity);
+        }
+        this.removed.clear();
+        this.marked.clear();
+        return true;
+    }
+
+    /**
+     * Removes all the entities, keeping the buckets of the queried types, and
+     * retires their handles.
+     */
+    public void clear() {
+        this.handles.clear();
+        this.entities.clear();
+        this.removed.clear();
+        this.marked.clear();
+        for (final Bucket bucket : this.buckets) {
+            bucket.entities.clear();
+        }
+    }
+
+    /**
+     * The entities of one type, with the view handed out to the callers.
+     */
+    private static final class Bucket {
+
+        private final Class<?> type;
+        private final SlotList entities = new SlotList();
+        private final List<Entity> view = Collections.unmodifiableList(this.entities);
+
+        Bucket(final Class<?> type) {
+            this.type = type;
+        }
+
+        void offer(final Entity entity) {
+            if (this.type.isInstance(entity)) {
+                this.entities.add(entity);
+            }
+        }
+    }
+
+    /**
+     * List of entities that remembers the position of each entity by the slot
+     * of its handle, and removes an entity by moving the last one in its
+     * place. Entities without a handle are looked up by scanning the list.
+     */
+    private static final class SlotList extends AbstractList<Entity> {
+
+        private static final int INITIAL_CAPACITY = 64;
+
+        private final List<Entity> entities = new ArrayList<>();
+        private int[] positions = new int[INITIAL_CAPACITY];
+
+        @Override
+        public Entity get(final int index) {
+            return this.entities.get(index);
+        }
+
+        @Override
+        public int size() {
+            return this.entities.size();
+        }
+
+        @Override
+        public boolean add(final Entity entity) {
+            this.place(entity, this.entities.size());
+            return this.entities.add(entity);
+        }
+
+        @Override
+        public void clear() {
+            this.entities.clear();
+        }
+
+        /**
+         * Removes the entity, moving the last entity in its place.
+         */
+        void remove(final Entity entity) {
+            final int position = this.positionOf(entity);
+            if (position < 0) {
+                return;
+            }
+            final int last = this.entities.size() - 1;
+            final Entity moved = this.entities.remove(last);
+            if (position != last) {
+                this.entities.set(position, moved);
+                this.place(moved, position);
+            }
+        }
+
+        private void place(final Entity entity, final int position) {
+            final int slot = entity.getHandle().index();
+            if (slot < 0) {
+                return;
+            }
+            if (slot >= this.positions.length) {
+                this.positions = Arrays.copyOf(this.positions, Math.max(slot + 1, this.positions.length * 2));
+            }
+            this.positions[slot] = position;
+        }
+
+        private int positionOf(final Entity entity) {
+            final int slot = entity.getHandle().index();
+            if (slot >= 0 && slot < this.positions.length) {
+                final int position = this.positions[slot];
+                if (position < this.entities.size() && this.entities.get(position) == entity) {
+                    return position;
+                }
+            }
+            for (int i = 0; i < this.entities.size(); i++) {
+                if (this.entities.get(i) == entity) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -1,24 +1,31 @@
 package it.unibo.coffebreak.impl.model.level.entity;
 
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.SplittableRandom;
 import java.util.stream.IntStream;
 
+import it.unibo.coffebreak.api.model.clock.GameClock;
 import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.entities.EntityHandle;
 import it.unibo.coffebreak.api.model.entities.character.MainCharacter;
 import it.unibo.coffebreak.api.model.entities.collectible.Collectible;
 import it.unibo.coffebreak.api.model.entities.enemy.Enemy;
 import it.unibo.coffebreak.api.model.entities.enemy.barrel.Barrel;
+import it.unibo.coffebreak.api.model.entities.structure.Platform;
 import it.unibo.coffebreak.impl.common.BoundigBox;
 import it.unibo.coffebreak.impl.common.Position;
+import it.unibo.coffebreak.impl.common.jfr.EntityDespawnEvent;
+import it.unibo.coffebreak.impl.common.jfr.EntitySpawnEvent;
+import it.unibo.coffebreak.impl.model.clock.TimerWheelClock;
 import it.unibo.coffebreak.impl.model.entities.collectible.coin.Coin;
 import it.unibo.coffebreak.impl.model.entities.collectible.hammer.Hammer;
+import it.unibo.coffebreak.impl.model.entities.enemy.barrel.GameBarrel;
 import it.unibo.coffebreak.impl.model.entities.enemy.fire.GameFire;
+import it.unibo.coffebreak.impl.model.entities.enemy.pool.EnemyPool;
 import it.unibo.coffebreak.impl.model.entities.mario.Mario;
 import it.unibo.coffebreak.impl.model.entities.npc.donkeykong.DonkeyKong;
 import it.unibo.coffebreak.impl.model.entities.npc.pauline.Pauline;
@@ -27,16 +34,44 @@ import it.unibo.coffebreak.impl.model.entities.structure.platform.breakable.Brea
 import it.unibo.coffebreak.impl.model.entities.structure.platform.normal.NormalPlatform;
 import it.unibo.coffebreak.impl.model.entities.structure.tank.GameTank;
 import it.unibo.coffebreak.api.model.level.entity.EntityManager;
+import it.unibo.coffebreak.api.model.level.entity.PlatformGrid;
 
 /**
  * Implementation of the {@link EntityManager} interface for managing game
  * entities.
+ * <p>
+ * Entities making random decisions get their own generator, split from the
+ * one of the manager in the order they are created, so that a seeded manager
+ * always creates entities behaving the same way. Their timers are all
+ * scheduled on the clock of the manager.
+ * </p>
+ * <p>
+ * The entities are kept in a {@link GameEntityIndex}, so that the lookups by
+ * type only visit the entities of that type.
+ * </p>
+ * <p>
+ * Structural changes requested during a tick are recorded in an
+ * {@link EntityCommandBuffer} and applied together by
+ * {@link #transformEntities()}, with a single compaction of the entities.
+ * </p>
+ * <p>
+ * Barrels and fires leaving the level, destroyed or cleared by a reload, are
+ * released to a pool of their type, from which Donkey Kong and the barrel
+ * transformations take the next ones.
+ * </p>
  * 
  * @author Filippo Ricciotti
  */
 public class GameEntityManager implements EntityManager {
 
-    private final List<Entity> entities = new LinkedList<>();
+    private final GameEntityIndex entities = new GameEntityIndex();
+    private final EntityCommandBuffer commands = new EntityCommandBuffer();
+    private final EntityCommandBuffer.Target playback = new Playback();
+    private final GamePlatformGrid platformGrid = new GamePlatformGrid();
+    private final SplittableRandom random;
+    private final GameClock clock;
+    private final EnemyPool<GameBarrel> barrelPool = new EnemyPool<>();
+    private final EnemyPool<GameFire> firePool = new EnemyPool<>();
     private MainCharacter character;
 
     private int row;
@@ -46,8 +81,24 @@ public class GameEntityManager implements EntityManager {
      * Constructs a new {@code GameEntityManager} and initializes the character
      * state
      * by invoking {@link #resetCharacter()}.
+     * The entities are timed by a clock of the manager, which is never
+     * advanced, so none of their timers ever expires.
      */
     public GameEntityManager() {
+        this(new SplittableRandom(), new TimerWheelClock());
+    }
+
+    /**
+     * Constructs a new {@code GameEntityManager} drawing the randomness of its
+     * entities from the given generator, and timing them with the given clock.
+     *
+     * @param random the generator split for each entity making random decisions
+     * @param clock  the clock scheduling the timers of the entities
+     * @throws NullPointerException if random or clock are null
+     */
+    public GameEntityManager(final SplittableRandom random, final GameClock clock) {
+        this.random = Objects.requireNonNull(random, "The random generator cannot be null");
+        this.clock = Objects.requireNonNull(clock, "The clock cannot be null");
         this.resetCharacter();
     }
 
@@ -57,7 +108,23 @@ public class GameEntityManager implements EntityManager {
      */
     @Override
     public List<Entity> getEntities() {
-        return Collections.unmodifiableList(entities);
+        return this.entities.getEntities();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends Entity> List<T> entitiesOf(final Class<T> type) {
+        return this.entities.entitiesOf(type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Entity> resolve(final EntityHandle handle) {
+        return this.entities.resolve(handle);
     }
 
     /**
@@ -73,11 +140,25 @@ public class GameEntityManager implements EntityManager {
      * {@inheritDoc}
      */
     @Override
+    public PlatformGrid getPlatformGrid() {
+        return this.platformGrid;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The platform grid is rebuilt along with the entities.
+     */
+    @Override
     public void loadEntities(final List<String> map, final boolean canDonkeyThrowBarrel) {
+        this.applyCommands();
+        for (final Enemy enemy : this.entities.entitiesOf(Enemy.class)) {
+            this.release(enemy);
+        }
         this.entities.clear();
 
         this.row = map.size();
         this.column = map.isEmpty() ? 0 : map.get(0).length();
+        this.platformGrid.reset(this.column, this.row);
         final List<Character> ids = List.of('M', 'D', 'R', 'T');
         final Map<Character, List<Integer>> sizes = findSize(map, ids);
 
@@ -112,13 +193,15 @@ public class GameEntityManager implements EntityManager {
                     case 'M' -> {
                         this.character.resetBehaviour();
                         this.character.setPosition(position);
+                        this.character.storePreviousPosition();
                         this.addEntity(this.character);
                     }
                     case 'D' ->
-                        this.addEntity(new DonkeyKong(position, bb, canDonkeyThrowBarrel));
-                    case 'F' -> this.addEntity(new GameFire(position, bb));
+                        this.addEntity(new DonkeyKong(position, bb, canDonkeyThrowBarrel, this.random.split(),
+                                this.clock, this.barrelPool));
+                    case 'F' -> this.addEntity(this.newFire(position, bb));
                     case 'T' -> this.addEntity(new GameTank(position, bb));
-                    case 'H' -> this.addEntity(new Hammer(position, bb));
+                    case 'H' -> this.addEntity(new Hammer(position, bb, this.clock));
                     case 'C' -> this.addEntity(new Coin(position, bb));
                     case 'L' -> this.addEntity(new NormalLadder(position, bb));
                     default -> {
@@ -130,28 +213,62 @@ public class GameEntityManager implements EntityManager {
 
     /**
      * {@inheritDoc}
+     * Platforms are also marked in the platform grid.
      * 
      * @throws NullPointerException if the entity is null
      */
     @Override
     public boolean addEntity(final Entity entity) {
-        return this.entities.add(Objects.requireNonNull(entity, "The entity cannot be null"));
+        if (Objects.requireNonNull(entity, "The entity cannot be null") instanceof final Platform platform) {
+            this.platformGrid.refresh(platform);
+        }
+        return this.entities.add(entity);
     }
 
     /**
      * {@inheritDoc}
+     * Applied at the end of the tick, with the entities spawned during it.
      */
     @Override
-    public void transformEntities() {
-        final List<? extends Entity> toAdd = entities.stream()
-                .filter(e -> e instanceof final Barrel barrel && barrel.canTransformToFire())
-                .map(barrel -> new GameFire(barrel.getPosition(), barrel.getDimension()))
-                .toList();
+    public void spawnEntity(final Entity entity) {
+        this.commands.spawn(entity);
+    }
 
-        this.entities.removeIf(e -> (e instanceof final Collectible collectible && collectible.isCollected())
-                || (e instanceof final Enemy enemy && enemy.isDestroyed()));
+    /**
+     * {@inheritDoc}
+     * Only the entities that reported a change during the tick are checked,
+     * so a tick in which nothing was collected nor destroyed does no work. The
+     * changes are recorded in the command buffer, then applied with the ones
+     * recorded during the tick; broken platforms are updated in the platform
+     * grid right away.
+     */
+    @Override
+    public void transformEntities() {
+        for (Entity entity = this.entities.pollChanged(); entity != null; entity = this.entities.pollChanged()) {
+            if (entity instanceof final Barrel barrel && barrel.canTransformToFire()) {
+                final GameFire fire = this.newFire(barrel.getPosition(), barrel.getDimension());
+                EntitySpawnEvent.emit(fire.getClass().getSimpleName(), "transformed");
+                this.commands.transform(barrel, fire);
+            } else if (entity instanceof final Collectible collectible && collectible.isCollected()) {
+                this.commands.despawn(collectible, "collected");
+            } else if (entity instanceof final Enemy enemy && enemy.isDestroyed()) {
+                this.commands.despawn(enemy, "destroyed");
+            } else if (entity instanceof final Platform platform && platform.isBroken()) {
+                this.platformGrid.refresh(platform);
+            }
+        }
+        this.applyCommands();
+    }
 
-        this.entities.addAll(toAdd);
+    /**
+     * Applies the recorded commands, then removes the despawned entities in a
+     * single pass.
+     */
+    private void applyCommands() {
+        if (!this.commands.isEmpty()) {
+            this.commands.playback(this.playback);
+            this.entities.removeMarked();
+        }
     }
 
     /**
@@ -159,7 +276,7 @@ public class GameEntityManager implements EntityManager {
      */
     @Override
     public final void resetCharacter() {
-        this.character = new Mario(new Position(0, 0), new BoundigBox());
+        this.character = new Mario(new Position(0, 0), new BoundigBox(), this.clock);
     }
 
     /**
@@ -212,6 +329,62 @@ public class GameEntityManager implements EntityManager {
 
     }
 
+    /**
+     * Creates a fire, recycling a released one if any.
+     * 
+     * @param position  the position of the fire
+     * @param dimension the dimension of the fire
+     * @return the fire, ready to be added to the level
+     */
+    private GameFire newFire(final Position position, final BoundigBox dimension) {
+        final SplittableRandom fireRandom = this.random.split();
+        final Optional<GameFire> recycled = this.firePool.acquire();
+        if (recycled.isPresent()) {
+            recycled.get().reset(position, dimension, fireRandom);
+            return recycled.get();
+        }
+        return new GameFire(position, dimension, fireRandom, this.clock);
+    }
+
+    /**
+     * Releases an enemy leaving the level to the pool of its type.
+     * 
+     * @param enemy the enemy leaving the level
+     */
+    private void release(final Enemy enemy) {
+        if (enemy instanceof final GameBarrel barrel) {
+            this.barrelPool.release(barrel);
+        } else if (enemy instanceof final GameFire fire) {
+            this.firePool.release(fire);
+        }
+    }
+
+    /**
+     * Applies the commands of the buffer to the entities of the manager.
+     */
+    private final class Playback implements EntityCommandBuffer.Target {
+
+        @Override
+        public void add(final Entity entity) {
+            GameEntityManager.this.addEntity(entity);
+        }
+
+        /**
+         * Marks the entity for the compaction following the playback, so an
+         * entity despawned twice, like a destroyed barrel turning into fire,
+         * is only released once.
+         */
+        @Override
+        public void remove(final Entity entity, final String cause) {
+            if (GameEntityManager.this.entities.markRemoved(entity)) {
+                EntityDespawnEvent.emit(entity.getClass().getSimpleName(), cause);
+                if (entity instanceof final Enemy enemy) {
+                    GameEntityManager.this.release(enemy);
+                }
+            }
+        }
+    }
+
     /**
      * Method that can tell wether a ladder is present at the given
      * coordinates.
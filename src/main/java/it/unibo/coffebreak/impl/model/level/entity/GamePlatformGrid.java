@@ -0,0 +1,145 @@
+package it.unibo.coffebreak.impl.model.level.entity;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import it.unibo.coffebreak.api.model.entities.structure.Platform;
+import it.unibo.coffebreak.api.model.level.entity.PlatformGrid;
+import it.unibo.coffebreak.impl.common.BoundigBox;
+
+/**
+ * Implementation of {@link PlatformGrid} storing one byte per map tile.
+ * <p>
+ * Tiles are {@link BoundigBox#SIZE} pixels wide, the same scale used to place
+ * the entities of the map, so every platform covers whole tiles.
+ * </p>
+ * 
+ * @author Alessandro Rebosio
+ */
+public class GamePlatformGrid implements PlatformGrid {
+
+    private static final byte EMPTY = 0;
+    private static final byte SOLID = 1;
+    private static final byte BROKEN = 2;
+
+    private byte[] tiles = new byte[0];
+    private int columns;
+    private int rows;
+
+    /**
+     * Clears the grid and resizes it to the given number of tiles.
+     * 
+     * @param columns the number of columns of the map
+     * @param rows    the number of rows of the map
+     * @throws IllegalArgumentException if a size is negative
+     */
+    public void reset(final int columns, final int rows) {
+        if (columns < 0 || rows < 0) {
+            throw new IllegalArgumentException("Grid size cannot be negative");
+        }
+        this.columns = columns;
+        this.rows = rows;
+        if (this.tiles.length == columns * rows) {
+            Arrays.fill(this.tiles, EMPTY);
+        } else {
+            this.tiles = new byte[columns * rows];
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isPlatformAt(final int column, final int row) {
+        return this.inside(column, row) && this.tiles[row * this.columns + column] != EMPTY;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isBrokenAt(final int column, final int row) {
+        return this.inside(column, row) && this.tiles[row * this.columns + column] == BROKEN;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A tile {@code (c, r)} is touched when
+     * {@code x <= (c + 1) * SIZE && x + width >= c * SIZE}, and likewise on the
+     * y axis, so only the tiles in that range are looked up.
+     * </p>
+     */
+    @Override
+    public boolean touchesPlatform(final float x, final float y, final float width, final float height) {
+        final int minColumn = Math.max(0, (int) Math.ceil(x / BoundigBox.SIZE) - 1);
+        final int maxColumn = Math.min(this.columns - 1, (int) Math.floor((x + width) / BoundigBox.SIZE));
+        final int minRow = Math.max(0, (int) Math.ceil(y / BoundigBox.SIZE) - 1);
+        final int maxRow = Math.min(this.rows - 1, (int) Math.floor((y + height) / BoundigBox.SIZE));
+
+        for (int row = minRow; row <= maxRow; row++) {
+            final int offset = row * this.columns;
+            for (int column = minColumn; column <= maxColumn; column++) {
+                if (this.tiles[offset + column] != EMPTY) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The tops of the rows crossed by the bottom edge are visited from the
+     * nearest one, each row on the columns touched by the entity.
+     * </p>
+     */
+    @Override
+    public float sweepDown(final float x, final float y, final float width, final float height,
+            final float distance) {
+        final float bottom = y + height;
+
+        final int minColumn = Math.max(0, (int) Math.ceil(x / BoundigBox.SIZE) - 1);
+        final int maxColumn = Math.min(this.columns - 1, (int) Math.floor((x + width) / BoundigBox.SIZE));
+        final int firstRow = Math.max(0, (int) Math.floor(bottom / BoundigBox.SIZE) + 1);
+        final int lastRow = Math.min(this.rows - 1, (int) Math.floor((bottom + distance) / BoundigBox.SIZE));
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            final int offset = row * this.columns;
+            for (int column = minColumn; column <= maxColumn; column++) {
+                if (this.tiles[offset + column] != EMPTY) {
+                    return Math.min(distance, row * BoundigBox.SIZE - bottom);
+                }
+            }
+        }
+        return distance;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * It is also used to add the platforms of a newly loaded map. Tiles outside
+     * of the grid are ignored.
+     * </p>
+     */
+    @Override
+    public void refresh(final Platform platform) {
+        Objects.requireNonNull(platform, "The platform cannot be null");
+        final byte state = platform.isBroken() ? BROKEN : SOLID;
+        final int column = (int) (platform.getPosition().x() / BoundigBox.SIZE);
+        final int row = (int) (platform.getPosition().y() / BoundigBox.SIZE);
+        final int width = platform.getDimension().width() / BoundigBox.SIZE;
+        final int height = platform.getDimension().height() / BoundigBox.SIZE;
+
+        for (int r = Math.max(0, row); r < Math.min(this.rows, row + height); r++) {
+            for (int c = Math.max(0, column); c < Math.min(this.columns, column + width); c++) {
+                this.tiles[r * this.columns + c] = state;
+            }
+        }
+    }
+
+    private boolean inside(final int column, final int row) {
+        return column >= 0 && column < this.columns && row >= 0 && row < this.rows;
+    }
+}
@@ -5,9 +5,10 @@ import java.util.Comparator;
 import java.util.List;
 
 import it.unibo.coffebreak.api.common.Loader;
-import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.level.entity.EntityIndex;
 import it.unibo.coffebreak.api.model.level.maps.MapsManager;
 import it.unibo.coffebreak.api.model.level.maps.state.MapState;
+import it.unibo.coffebreak.api.model.physics.BroadPhaseStrategy;
 import it.unibo.coffebreak.impl.model.level.maps.state.map1.GameMapOne;
 import it.unibo.coffebreak.impl.model.level.maps.state.map4.GameMapFour;
 
@@ -53,7 +54,7 @@ public class GameMapsManager implements MapsManager {
      * {@inheritDoc}
      */
     @Override
-    public boolean advance(final List<Entity> entities) {
+    public boolean advance(final EntityIndex entities) {
         if (this.shouldAdvance(entities)) {
             this.mapIndex++;
             if (this.mapIndex >= this.maps.size()) {
@@ -81,11 +82,11 @@ public class GameMapsManager implements MapsManager {
     /**
      * Determines if the level should advance based on the current entities.
      * 
-     * @param entities the list of entities in the level
+     * @param entities the entities in the level, indexed by type
      * @return true if the level should advance, false otherwise
      */
     @Override
-    public boolean shouldAdvance(final List<Entity> entities) {
+    public boolean shouldAdvance(final EntityIndex entities) {
         return this.getMaps().shouldAdvance(entities);
     }
 
@@ -120,6 +121,14 @@ public class GameMapsManager implements MapsManager {
         return this.maps.get(this.mapIndex).canDonkeyThrowBarrel();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BroadPhaseStrategy getBroadPhaseStrategy() {
+        return this.getMaps().getBroadPhaseStrategy();
+    }
+
     /**
      * {@inheritDoc}
      */
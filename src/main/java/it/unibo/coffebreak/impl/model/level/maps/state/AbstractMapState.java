@@ -4,8 +4,9 @@ import java.util.Collections;
 import java.util.List;
 
 import it.unibo.coffebreak.api.common.Loader;
-import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.level.entity.EntityIndex;
 import it.unibo.coffebreak.api.model.level.maps.state.MapState;
+import it.unibo.coffebreak.api.model.physics.BroadPhaseStrategy;
 
 /**
  * Abstract base class for map states, providing common logic for loading
@@ -62,11 +63,11 @@ public abstract class AbstractMapState implements MapState {
      * Determines if the level should advance based on the current entities.
      * This must be implemented by subclasses.
      *
-     * @param entities the list of entities in the level
+     * @param entities the entities in the level, indexed by type
      * @return true if the level should advance, false otherwise
      */
     @Override
-    public abstract boolean shouldAdvance(List<Entity> entities);
+    public abstract boolean shouldAdvance(EntityIndex entities);
 
     /**
      * Determines whether Donkey is allowed to throw a barrel in the current map
@@ -79,4 +80,16 @@ public abstract class AbstractMapState implements MapState {
      */
     @Override
     public abstract boolean canDonkeyThrowBarrel();
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Maps use a {@link BroadPhaseStrategy#UNIFORM_GRID} unless they override
+     * this method.
+     * </p>
+     */
+    @Override
+    public BroadPhaseStrategy getBroadPhaseStrategy() {
+        return BroadPhaseStrategy.UNIFORM_GRID;
+    }
 }
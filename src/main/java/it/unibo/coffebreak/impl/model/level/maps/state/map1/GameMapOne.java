@@ -3,8 +3,9 @@ package it.unibo.coffebreak.impl.model.level.maps.state.map1;
 import java.util.List;
 
 import it.unibo.coffebreak.api.common.Loader;
-import it.unibo.coffebreak.api.model.entities.Entity;
 import it.unibo.coffebreak.api.model.entities.npc.Princess;
+import it.unibo.coffebreak.api.model.level.entity.EntityIndex;
+import it.unibo.coffebreak.api.model.physics.BroadPhaseStrategy;
 import it.unibo.coffebreak.impl.model.level.maps.state.AbstractMapState;
 
 /**
@@ -34,11 +35,14 @@ public class GameMapOne extends AbstractMapState {
      * </p>
      */
     @Override
-    public boolean shouldAdvance(final List<Entity> entities) {
-        return entities.stream()
-                .filter(Princess.class::isInstance)
-                .map(Princess.class::cast)
-                .anyMatch(Princess::isRescued);
+    public boolean shouldAdvance(final EntityIndex entities) {
+        final List<Princess> princesses = entities.entitiesOf(Princess.class);
+        for (int i = 0; i < princesses.size(); i++) {
+            if (princesses.get(i).isRescued()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -49,4 +53,16 @@ public class GameMapOne extends AbstractMapState {
         return true;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Barrels roll along the girders in rows, so sorting them along the x axis
+     * keeps the candidates of each barrel to its own row.
+     * </p>
+     */
+    @Override
+    public BroadPhaseStrategy getBroadPhaseStrategy() {
+        return BroadPhaseStrategy.SWEEP_AND_PRUNE;
+    }
+
 }
@@ -3,7 +3,7 @@ package it.unibo.coffebreak.impl.model.level.maps.state.map4;
 import java.util.List;
 
 import it.unibo.coffebreak.api.common.Loader;
-import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.level.entity.EntityIndex;
 import it.unibo.coffebreak.impl.model.entities.structure.platform.breakable.BreakablePlatform;
 import it.unibo.coffebreak.impl.model.level.maps.state.AbstractMapState;
 
@@ -34,11 +34,14 @@ public class GameMapFour extends AbstractMapState {
      * </p>
      */
     @Override
-    public boolean shouldAdvance(final List<Entity> entities) {
-        return entities.stream()
-                .filter(BreakablePlatform.class::isInstance)
-                .map(BreakablePlatform.class::cast)
-                .noneMatch(bp -> !bp.isBroken());
+    public boolean shouldAdvance(final EntityIndex entities) {
+        final List<BreakablePlatform> platforms = entities.entitiesOf(BreakablePlatform.class);
+        for (int i = 0; i < platforms.size(); i++) {
+            if (!platforms.get(i).isBroken()) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -0,0 +1,72 @@
+package it.unibo.coffebreak.impl.model.physics;
+
+import java.util.Arrays;
+
+/**
+ * Reusable list of the contacts found during a tick, each stored as the pair of
+ * broad phase indices of the two entities that touch.
+ * <p>
+ * The arrays only grow, so once they fit the busiest tick no further
+ * allocation happens.
+ * </p>
+ *
+ * @author Alessandro Rebosio
+ */
+final class ContactBuffer {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] first = new int[INITIAL_CAPACITY];
+    private int[] second = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Appends a contact between the entities with the given indices.
+     *
+     * @param a the index of the first entity
+     * @param b the index of the second entity
+     */
+    void add(final int a, final int b) {
+        if (this.size == this.first.length) {
+            this.first = Arrays.copyOf(this.first, this.size * 2);
+            this.second = Arrays.copyOf(this.second, this.size * 2);
+        }
+        this.first[this.size] = a;
+        this.second[this.size] = b;
+        this.size++;
+    }
+
+    /**
+     * Returns the index of the first entity of a contact.
+     *
+     * @param contact the position of the contact in the buffer
+     * @return the index of the first entity
+     */
+    int first(final int contact) {
+        return this.first[contact];
+    }
+
+    /**
+     * Returns the index of the second entity of a contact.
+     *
+     * @param contact the position of the contact in the buffer
+     * @return the index of the second entity
+     */
+    int second(final int contact) {
+        return this.second[contact];
+    }
+
+    /**
+     * @return the number of contacts in the buffer
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Removes every contact, keeping the allocated arrays.
+     */
+    void clear() {
+        this.size = 0;
+    }
+}
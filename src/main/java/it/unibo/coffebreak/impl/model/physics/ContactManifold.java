@@ -0,0 +1,151 @@
+package it.unibo.coffebreak.impl.model.physics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.physics.Contacts;
+import it.unibo.coffebreak.impl.common.Position;
+
+/**
+ * The {@link Contacts} of one entity, as filled by the physics engine.
+ * <p>
+ * The entities hand it out through the read-only {@link Contacts} interface;
+ * only the engine, which reaches it through {@link #of(Entity)}, records the
+ * contacts and settles them. The engine also
+ * records where the entity stood once its contacts were resolved: as long as
+ * the entity does not move, the manifold still describes it at the next tick.
+ * </p>
+ *
+ * @author Alessandro Rebosio
+ */
+public final class ContactManifold implements Contacts {
+
+    /** Kind bit of the contacts with a platform. */
+    public static final int PLATFORM = 1;
+    /** Kind bit of the contacts with a ladder. */
+    public static final int LADDER = 1 << 1;
+    /** Kind bit of the contacts with an enemy. */
+    public static final int ENEMY = 1 << 2;
+
+    private final List<Entity> contacts = new ArrayList<>();
+    private final List<Entity> view = Collections.unmodifiableList(this.contacts);
+    private int kinds;
+    private boolean settled;
+    private float settledX;
+    private float settledY;
+
+    /**
+     * Returns the manifold behind the contacts of an entity, which entities
+     * extending {@code AbstractEntity} keep.
+     *
+     * @param entity the entity
+     * @return the manifold of the entity, or null if its contacts are not kept
+     *         in a manifold
+     */
+    static ContactManifold of(final Entity entity) {
+        return entity.getContacts() instanceof final ContactManifold manifold ? manifold : null;
+    }
+
+    /**
+     * Removes every contact, before the contacts of a new tick are generated.
+     */
+    public void clear() {
+        this.contacts.clear();
+        this.kinds = 0;
+        this.settled = false;
+    }
+
+    /**
+     * Records a contact with the given entity.
+     *
+     * @param other    the entity touched
+     * @param kindBits the kind bits of the entity touched, a combination of
+     *                 {@link #PLATFORM}, {@link #LADDER} and {@link #ENEMY},
+     *                 computed once when the entity was loaded for the tick
+     */
+    public void add(final Entity other, final int kindBits) {
+        this.contacts.add(other);
+        this.kinds |= kindBits;
+    }
+
+    /**
+     * Marks the contacts as resolved for the entity standing at the given
+     * position.
+     *
+     * @param position the position of the entity once its contacts were handled
+     */
+    public void settle(final Position position) {
+        this.settle(position.x(), position.y());
+    }
+
+    /**
+     * Same as {@link #settle(Position)}, for callers that read the coordinates
+     * of the entity directly.
+     *
+     * @param x the x coordinate of the entity once its contacts were handled
+     * @param y the y coordinate of the entity once its contacts were handled
+     */
+    public void settle(final float x, final float y) {
+        this.settled = true;
+        this.settledX = x;
+        this.settledY = y;
+    }
+
+    /**
+     * Checks whether the manifold still describes an entity at the given
+     * position, that is whether the entity has not moved since its contacts
+     * were resolved.
+     *
+     * @param position the current position of the entity
+     * @return true if the contacts are still valid for that position
+     */
+    public boolean isSettledAt(final Position position) {
+        return this.isSettledAt(position.x(), position.y());
+    }
+
+    /**
+     * Same as {@link #isSettledAt(Position)}, for callers that read the
+     * coordinates of the entity directly.
+     *
+     * @param x the current x coordinate of the entity
+     * @param y the current y coordinate of the entity
+     * @return true if the contacts are still valid for that position
+     */
+    public boolean isSettledAt(final float x, final float y) {
+        return this.settled && this.settledX == x && this.settledY == y;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean touchesPlatform() {
+        return (this.kinds & PLATFORM) != 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean touchesLadder() {
+        return (this.kinds & LADDER) != 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean touchesEnemy() {
+        return (this.kinds & ENEMY) != 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Entity> contacts() {
+        return this.view;
+    }
+}
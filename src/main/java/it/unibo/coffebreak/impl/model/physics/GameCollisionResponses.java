@@ -0,0 +1,225 @@
+package it.unibo.coffebreak.impl.model.physics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.physics.CollisionResponses;
+import it.unibo.coffebreak.impl.model.entities.collectible.coin.Coin;
+import it.unibo.coffebreak.impl.model.entities.collectible.hammer.Hammer;
+import it.unibo.coffebreak.impl.model.entities.enemy.barrel.GameBarrel;
+import it.unibo.coffebreak.impl.model.entities.enemy.fire.GameFire;
+import it.unibo.coffebreak.impl.model.entities.mario.Mario;
+import it.unibo.coffebreak.impl.model.entities.npc.donkeykong.DonkeyKong;
+import it.unibo.coffebreak.impl.model.entities.npc.pauline.Pauline;
+import it.unibo.coffebreak.impl.model.entities.structure.ladder.AbstractLadder;
+import it.unibo.coffebreak.impl.model.entities.structure.ladder.normal.NormalLadder;
+import it.unibo.coffebreak.impl.model.entities.structure.platform.AbstractPlatform;
+import it.unibo.coffebreak.impl.model.entities.structure.platform.breakable.BreakablePlatform;
+import it.unibo.coffebreak.impl.model.entities.structure.platform.normal.NormalPlatform;
+import it.unibo.coffebreak.impl.model.entities.structure.tank.GameTank;
+
+/**
+ * {@link CollisionResponses} backed by a square table with one row and one
+ * column per kind.
+ * <p>
+ * While the table is being built, a kind is added the first time an entity of
+ * a new concrete class is looked up, and its row and column are filled by
+ * matching the class against the registered pairs of types. Registering a
+ * response afterwards fills the whole table again. Dispatching a contact then
+ * costs a single array access, whatever the number of responses.
+ * </p>
+ * <p>
+ * {@link #freeze(List)} gives a kind to each concrete class of the game up
+ * front and stops the table from changing: a frozen table is only read, so
+ * the engines can dispatch through it from any thread. Classes it does not
+ * know, such as test doubles, get {@link #UNRESOLVED} and their responses are
+ * matched on each contact instead.
+ * </p>
+ * <p>
+ * A table that is not frozen is not thread safe.
+ * </p>
+ *
+ * @author Alessandro Rebosio
+ */
+public final class GameCollisionResponses implements CollisionResponses {
+
+    /**
+     * Kind returned by a frozen table for the classes it was not given.
+     */
+    public static final int UNRESOLVED = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final List<Class<? extends Entity>> GAME_ENTITIES = List.of(Mario.class, GameBarrel.class,
+            GameFire.class, NormalPlatform.class, BreakablePlatform.class, NormalLadder.class, GameTank.class,
+            Coin.class, Hammer.class, DonkeyKong.class, Pauline.class);
+
+    private final List<Rule> rules = new ArrayList<>();
+    private final Map<Class<?>, Integer> kinds = new IdentityHashMap<>();
+    private Class<?>[] classes = new Class<?>[INITIAL_CAPACITY];
+    private BiConsumer<Entity, Entity>[] table = newTable(INITIAL_CAPACITY);
+    private int capacity = INITIAL_CAPACITY;
+    private int count;
+    private boolean frozen;
+
+    /**
+     * Creates a frozen registry holding the responses of every entity of the
+     * game, whose classes are resolved up front.
+     *
+     * @return the new registry
+     */
+    public static GameCollisionResponses create() {
+        final GameCollisionResponses responses = new GameCollisionResponses();
+        registerGameResponses(responses);
+        responses.freeze(GAME_ENTITIES);
+        return responses;
+    }
+
+    /**
+     * Registers the responses of every entity of the game. New entity types
+     * add their own {@code registerResponses} call here, and their class to
+     * the ones resolved by {@link #create()}.
+     *
+     * @param responses the registry to fill
+     * @throws NullPointerException if responses is null
+     */
+    public static void registerGameResponses(final CollisionResponses responses) {
+        Objects.requireNonNull(responses, "The responses cannot be null");
+        Mario.registerResponses(responses);
+        GameBarrel.registerResponses(responses);
+        GameFire.registerResponses(responses);
+        AbstractPlatform.registerResponses(responses);
+        AbstractLadder.registerResponses(responses);
+        GameTank.registerResponses(responses);
+    }
+
+    /**
+     * Gives a kind to each of the given classes, then stops the table from
+     * changing.
+     *
+     * @param types the concrete classes of the entities to resolve
+     * @throws NullPointerException  if types or any of its elements are null
+     * @throws IllegalStateException if the table is already frozen
+     */
+    public void freeze(final List<Class<? extends Entity>> types) {
+        this.checkNotFrozen();
+        for (final Class<? extends Entity> type : Objects.requireNonNull(types, "The types cannot be null")) {
+            if (!this.kinds.containsKey(Objects.requireNonNull(type, "The type cannot be null"))) {
+                this.addKind(type);
+            }
+        }
+        this.frozen = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if the table is frozen
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <A extends Entity, B extends Entity> void register(final Class<A> kind, final Class<B> otherKind,
+            final BiConsumer<? super A, ? super B> response) {
+        Objects.requireNonNull(kind, "The kind cannot be null");
+        Objects.requireNonNull(otherKind, "The other kind cannot be null");
+        Objects.requireNonNull(response, "The response cannot be null");
+        this.checkNotFrozen();
+
+        // only stored in the cells whose classes are assignable to both kinds
+        this.rules.add(new Rule(kind, otherKind, (BiConsumer<Entity, Entity>) response));
+        for (int i = 0; i < this.count; i++) {
+            for (int j = 0; j < this.count; j++) {
+                this.table[i * this.capacity + j] = this.resolve(this.classes[i], this.classes[j]);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the kind of the class of the entity, or {@link #UNRESOLVED} if
+     *         the table is frozen and was not given that class
+     */
+    @Override
+    public int kindOf(final Entity entity) {
+        final Class<?> type = Objects.requireNonNull(entity, "The entity cannot be null").getClass();
+        final Integer kind = this.kinds.get(type);
+        if (kind != null) {
+            return kind;
+        }
+        return this.frozen ? UNRESOLVED : this.addKind(type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void respond(final Entity entity, final int kind, final Entity other, final int otherKind) {
+        final BiConsumer<Entity, Entity> response = kind == UNRESOLVED || otherKind == UNRESOLVED
+                ? this.resolve(entity.getClass(), other.getClass())
+                : this.table[kind * this.capacity + otherKind];
+        if (response != null) {
+            response.accept(entity, other);
+        }
+    }
+
+    private void checkNotFrozen() {
+        if (this.frozen) {
+            throw new IllegalStateException("The responses are frozen");
+        }
+    }
+
+    private int addKind(final Class<?> type) {
+        if (this.count == this.capacity) {
+            this.grow();
+        }
+        final int kind = this.count++;
+        this.classes[kind] = type;
+        this.kinds.put(type, kind);
+        for (int other = 0; other < this.count; other++) {
+            this.table[kind * this.capacity + other] = this.resolve(type, this.classes[other]);
+            this.table[other * this.capacity + kind] = this.resolve(this.classes[other], type);
+        }
+        return kind;
+    }
+
+    /**
+     * Chains every rule matching the pair of classes, in registration order.
+     */
+    private BiConsumer<Entity, Entity> resolve(final Class<?> type, final Class<?> otherType) {
+        BiConsumer<Entity, Entity> response = null;
+        for (final Rule rule : this.rules) {
+            if (rule.kind().isAssignableFrom(type) && rule.otherKind().isAssignableFrom(otherType)) {
+                response = response == null ? rule.response() : response.andThen(rule.response());
+            }
+        }
+        return response;
+    }
+
+    private void grow() {
+        final int newCapacity = this.capacity * 2;
+        final BiConsumer<Entity, Entity>[] newTable = newTable(newCapacity);
+        for (int row = 0; row < this.count; row++) {
+            System.arraycopy(this.table, row * this.capacity, newTable, row * newCapacity, this.count);
+        }
+        this.table = newTable;
+        this.classes = Arrays.copyOf(this.classes, newCapacity);
+        this.capacity = newCapacity;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Entity, Entity>[] newTable(final int capacity) {
+        return (BiConsumer<Entity, Entity>[]) new BiConsumer<?, ?>[capacity * capacity];
+    }
+
+    /**
+     * A response registered for a pair of types.
+     */
+    private record Rule(Class<?> kind, Class<?> otherKind, BiConsumer<Entity, Entity> response) {
+    }
+}
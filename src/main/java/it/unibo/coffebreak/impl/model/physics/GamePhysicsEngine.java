@@ -1,16 +1,31 @@
 package it.unibo.coffebreak.impl.model.physics;
 
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import it.unibo.coffebreak.api.model.Model;
 import it.unibo.coffebreak.api.model.entities.Entity;
 import it.unibo.coffebreak.api.model.entities.PhysicsEntity;
+import it.unibo.coffebreak.api.model.entities.enemy.Enemy;
+import it.unibo.coffebreak.api.model.entities.structure.Ladder;
 import it.unibo.coffebreak.api.model.entities.structure.Platform;
+import it.unibo.coffebreak.api.model.level.entity.PlatformGrid;
+import it.unibo.coffebreak.api.model.physics.BroadPhase;
+import it.unibo.coffebreak.api.model.physics.BroadPhaseStrategy;
+import it.unibo.coffebreak.api.model.physics.CollisionLayer;
+import it.unibo.coffebreak.api.model.physics.CollisionResponses;
 import it.unibo.coffebreak.api.model.physics.Physics;
 import it.unibo.coffebreak.api.model.physics.PhysicsEngine;
 import it.unibo.coffebreak.impl.common.BoundigBox;
-import it.unibo.coffebreak.impl.common.Position;
-import it.unibo.coffebreak.impl.common.Vector;
+import it.unibo.coffebreak.impl.common.jfr.CollisionPassEvent;
+import it.unibo.coffebreak.impl.model.entities.EntityStore;
+import it.unibo.coffebreak.impl.model.physics.broadphase.BroadPhases;
+import it.unibo.coffebreak.impl.model.physics.broadphase.UniformGridBroadPhase;
 
 /**
  * Unified physics engine implementation that coordinates physics calculations
@@ -33,58 +48,297 @@ import it.unibo.coffebreak.impl.common.Vector;
  * <li><strong>Extensible Design:</strong> Easy to add new physics or collision
  * behaviors</li>
  * </ul>
+ * <p>
+ * The entities of each tick are loaded into an {@link EntityStore}. Unless the
+ * engine is created without struct-of-arrays storage, the entities it moves
+ * become views over the store, and {@link #updateEntity(Entity, Model, float)}
+ * only records how each of them must move: gravity, movement and world bounds
+ * are then applied by {@link #endTick(Model)} with loops over the arrays of
+ * the store, one pass per step.
+ * </p>
+ * <p>
+ * Each tick then runs in two phases. Integration only touches the slot of each
+ * entity and reads the platform grid, so it can be split into chunks of
+ * consecutive slots run in parallel on a {@link ForkJoinPool}. Broad phase
+ * updates, contact generation and responses follow on the calling thread, in
+ * model order. As every slot goes through the same arithmetic whatever the
+ * chunk it falls in, parallel and sequential engines move the entities to the
+ * very same positions.
+ * </p>
+ * <p>
+ * Gravity and movement are applied in batch by default: the branches of each
+ * slot only fill per-slot increments and offsets, which are then added to the
+ * arrays of the store by loops the JIT compiler turns into vector
+ * instructions. The scalar loops can be switched back at runtime with
+ * {@link #setBatchIntegration(boolean)}; both give the same results.
+ * </p>
  * 
  * @author Alessandro Rebosio
  */
 public class GamePhysicsEngine implements PhysicsEngine {
 
     private static final String ENTITY_NULL = "Entity cannot be null";
+    private static final String MODEL_NULL = "Model cannot be null";
+    private static final float DEFAULT_MAX_FALLING_SPEED = 200f;
+    /** Slots integrated by a single task, so that small worlds are never split. */
+    private static final int PARALLEL_CHUNK = 1024;
+
+    private static final int INTEGRATED = 1;
+    private static final int WAS_ON_PLATFORM = 1 << 1;
+    private static final int DEFERRED = 1 << 2;
+    private static final int GRAVITY = 1 << 3;
+    private static final int SWEPT = 1 << 4;
 
     private final Physics physics = new GamePhysics();
+    private final float gravity = this.physics.gravity().y();
+    private final Map<BroadPhaseStrategy, BroadPhase> broadPhases = new EnumMap<>(BroadPhaseStrategy.class);
+    private final boolean followMapStrategy;
+    private final ContactBuffer contacts = new ContactBuffer();
+    private final CollisionResponses responses;
+    private final EntityStore store = new EntityStore();
+    private final boolean structOfArrays;
+    private final ForkJoinPool pool;
+    private BroadPhase broadPhase;
+    private ContactManifold[] manifolds = new ContactManifold[0];
+    private int[] manifoldKinds = new int[0];
+    private int[] layerMasks = new int[0];
+    private int[] layerBits = new int[0];
+    private float[] maxFallingSpeeds = new float[0];
+    private float[] deltaTimes = new float[0];
+    private float[] increments = new float[0];
+    private float[] limits = new float[0];
+    private float[] offsetsX = new float[0];
+    private float[] offsetsY = new float[0];
+    private boolean batchIntegration = true;
+    private int count;
 
     /**
-     * Creates a new physics engine with default physics configuration.
+     * Creates a new physics engine with the default responses, the broad phase
+     * chosen by the current map, struct-of-arrays storage and large worlds
+     * integrated on the common pool.
+     * 
+     * @see Model#getBroadPhaseStrategy()
      */
     public GamePhysicsEngine() {
-        // Physics constants are now embedded in the class
+        this(GameCollisionResponses.create());
+    }
+
+    /**
+     * Creates a new physics engine resolving contacts with the given
+     * responses, with the broad phase chosen by the current map,
+     * struct-of-arrays storage and large worlds integrated on the common pool.
+     * 
+     * @param responses the responses to run on each contact
+     * @throws NullPointerException if responses is null
+     */
+    public GamePhysicsEngine(final CollisionResponses responses) {
+        this(responses, null, ForkJoinPool.commonPool(), true);
+    }
+
+    /**
+     * Creates a new physics engine that always uses the given broad phase,
+     * whatever the map, with the default responses, struct-of-arrays storage
+     * and large worlds integrated on the common pool.
+     * 
+     * @param broadPhase the broad phase to use
+     * @throws NullPointerException if broadPhase is null
+     */
+    public GamePhysicsEngine(final BroadPhase broadPhase) {
+        this(GameCollisionResponses.create(), Objects.requireNonNull(broadPhase, "The broad phase cannot be null"),
+                ForkJoinPool.commonPool(), true);
+    }
+
+    /**
+     * Creates a new physics engine.
+     * 
+     * @param responses      the responses to run on each contact
+     * @param broadPhase     the broad phase to always use, or null to use the
+     *                       one chosen by the current map
+     * @param pool           the pool running the integration chunks of large
+     *                       worlds, or null to integrate on the calling thread
+     * @param structOfArrays whether the entities are integrated over the arrays
+     *                       of an {@link EntityStore}, instead of one by one
+     *                       through their records
+     * @throws NullPointerException     if responses is null
+     * @throws IllegalArgumentException if a pool is given without
+     *                                  struct-of-arrays storage, which it
+     *                                  needs to split the world in chunks
+     * @see Model#getBroadPhaseStrategy()
+     */
+    public GamePhysicsEngine(final CollisionResponses responses, final BroadPhase broadPhase,
+            final ForkJoinPool pool, final boolean structOfArrays) {
+        if (pool != null && !structOfArrays) {
+            throw new IllegalArgumentException("A pool needs struct-of-arrays storage");
+        }
+        this.responses = Objects.requireNonNull(responses, "The responses cannot be null");
+        this.followMapStrategy = broadPhase == null;
+        this.broadPhase = this.followMapStrategy ? new UniformGridBroadPhase() : broadPhase;
+        this.pool = pool;
+        this.structOfArrays = structOfArrays;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void beginTick(final Model model) {
+        Objects.requireNonNull(model, MODEL_NULL);
+        if (this.followMapStrategy) {
+            this.broadPhase = this.broadPhases.computeIfAbsent(model.getBroadPhaseStrategy(),
+                    BroadPhases::create);
+        }
+        final List<Entity> entities = model.getEntities();
+        this.count = this.store.load(entities);
+        this.broadPhase.rebuild(entities, model.getGameBound());
+
+        if (this.layerMasks.length < this.count) {
+            this.manifolds = new ContactManifold[this.count];
+            this.manifoldKinds = new int[this.count];
+            this.layerMasks = new int[this.count];
+            this.layerBits = new int[this.count];
+            this.maxFallingSpeeds = new float[this.count];
+            this.deltaTimes = new float[this.count];
+            this.increments = new float[this.count];
+            this.limits = new float[this.count];
+            this.offsetsX = new float[this.count];
+            this.offsetsY = new float[this.count];
+        }
+        for (int i = 0; i < this.count; i++) {
+            final Entity entity = this.store.entity(i);
+            final CollisionLayer layer = entity.getCollisionLayer();
+            this.manifolds[i] = ContactManifold.of(entity);
+            this.layerMasks[i] = layer.mask();
+            this.layerBits[i] = layer.bit();
+            this.store.setKind(i, this.responses.kindOf(entity));
+            this.manifoldKinds[i] = manifoldKindOf(entity);
+        }
+        Arrays.fill(this.manifolds, this.count, this.manifolds.length, null);
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Only gravity, movement and world bounds are applied here: contacts are
+     * resolved by {@link #endTick(Model)} once every entity has moved. Entities
+     * bound to the store of the tick are not moved yet: their parameters are
+     * recorded, and they are integrated together at the start of
+     * {@link #endTick(Model)}.
+     * </p>
      */
     @Override
     public void updateEntity(final Entity entity, final Model model, final float deltaTime) {
         Objects.requireNonNull(entity, ENTITY_NULL);
-        Objects.requireNonNull(model, "Model cannot be null");
+        Objects.requireNonNull(model, MODEL_NULL);
 
         if (deltaTime < 0) {
             throw new IllegalArgumentException("Delta time cannot be negative");
         }
 
-        final boolean wasOnPlatform = this.isOnPlatform(entity, model);
+        final int index = this.broadPhase.indexOf(entity);
+        if (this.structOfArrays && index >= 0 && index < this.count && this.store.entity(index) == entity
+                && this.store.bind(index)) {
+            this.defer(index, entity, deltaTime);
+            return;
+        }
+
+        final ContactManifold manifold = ContactManifold.of(entity);
+        final boolean wasOnPlatform = manifold != null && manifold.isSettledAt(entity.getX(), entity.getY())
+                ? manifold.touchesPlatform()
+                : this.isOnPlatform(entity, model);
 
         if (!wasOnPlatform) {
             this.applyGravity(entity, deltaTime);
-        } else {
-            if (entity.getVelocity() != null) {
-                final Vector currentVelocity = entity.getVelocity();
-                if (currentVelocity.y() > 0) {
-                    entity.setVelocity(new Vector(currentVelocity.x(), 0f));
+        } else if (entity.getVelocityY() > 0) {
+            entity.setVelocityComponents(entity.getVelocityX(), 0f);
+        }
+
+        this.applySweptMovement(entity, model, deltaTime);
+        final BoundigBox bounds = model.getGameBound();
+        entity.clampToBounds(bounds.width(), bounds.height());
+        this.broadPhase.refresh(entity);
+
+        if (index >= 0 && index < this.count && this.store.entity(index) == entity) {
+            this.store.setFlags(index, wasOnPlatform ? INTEGRATED | WAS_ON_PLATFORM : INTEGRATED);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Contacts are generated first: every moved entity looks up its broad
+     * phase candidates, and a pair of two moved entities is only kept by the
+     * one that comes first in model order, so each unordered pair is stored
+     * once. Pairs whose {@link CollisionLayer}s do not interact are dropped
+     * before the bounding boxes are compared, even if the broad phase reported
+     * them. The contacts are then dispatched in the order they were found,
+     * running the {@link CollisionResponses} of each side once, looked up by
+     * the kinds cached in {@link #beginTick(Model)}. Both sides
+     * also record the contact in their {@link ContactManifold}, which then
+     * tells whether a moved entity ended the tick on a platform.
+     * </p>
+     */
+    @Override
+    public void endTick(final Model model) {
+        Objects.requireNonNull(model, MODEL_NULL);
+
+        this.integrateDeferred(model);
+
+        final CollisionPassEvent event = CollisionPassEvent.start();
+        this.contacts.clear();
+        for (int i = 0; i < this.count; i++) {
+            if (this.manifolds[i] != null) {
+                this.manifolds[i].clear();
+            }
+        }
+        int pairsTested = 0;
+        for (int i = 0; i < this.count; i++) {
+            if (this.isIntegrated(i)) {
+                final Entity entity = this.store.entity(i);
+                final List<Entity> candidates = this.broadPhase.candidates(entity);
+                for (int k = 0; k < candidates.size(); k++) {
+                    final Entity other = candidates.get(k);
+                    final int j = this.broadPhase.indexOf(other);
+                    if (j != i && !(j < i && this.isIntegrated(j))
+                            && (this.layerMasks[i] & this.layerBits[j]) != 0) {
+                        pairsTested++;
+                        if (entity.collidesWith(other)) {
+                            this.contacts.add(i, j);
+                        }
+                    }
                 }
             }
         }
 
-        this.applyMovement(entity, deltaTime);
-        this.handleCollisions(entity, model);
+        for (int c = 0; c < this.contacts.size(); c++) {
+            final int i = this.contacts.first(c);
+            final int j = this.contacts.second(c);
+            final Entity entity = this.store.entity(i);
+            final Entity other = this.store.entity(j);
+            if (this.manifolds[i] != null) {
+                this.manifolds[i].add(other, this.manifoldKinds[j]);
+            }
+            if (this.manifolds[j] != null) {
+                this.manifolds[j].add(entity, this.manifoldKinds[i]);
+            }
+            this.responses.respond(entity, this.store.kind(i), other, this.store.kind(j));
+            this.responses.respond(other, this.store.kind(j), entity, this.store.kind(i));
+        }
 
-        final boolean isOnPlatformNow = this.isOnPlatform(entity, model);
-        if (entity instanceof PhysicsEntity physicsEntity) {
-            if (!wasOnPlatform && isOnPlatformNow) {
-                physicsEntity.onPlatformLand();
-            } else if (wasOnPlatform && !isOnPlatformNow) {
-                physicsEntity.onPlatformLeave();
+        for (int i = 0; i < this.count; i++) {
+            final ContactManifold manifold = this.manifolds[i];
+            if (this.isIntegrated(i) && manifold != null
+                    && this.store.entity(i) instanceof final PhysicsEntity physicsEntity) {
+                final boolean wasOnPlatform = (this.store.flags(i) & WAS_ON_PLATFORM) != 0;
+                final boolean isOnPlatformNow = manifold.touchesPlatform();
+                if (!wasOnPlatform && isOnPlatformNow) {
+                    physicsEntity.onPlatformLand();
+                } else if (wasOnPlatform && !isOnPlatformNow) {
+                    physicsEntity.onPlatformLeave();
+                }
+                manifold.settle(physicsEntity.getX(), physicsEntity.getY());
             }
         }
+        event.complete(pairsTested, this.contacts.size());
     }
 
     /**
@@ -97,23 +351,15 @@ public class GamePhysicsEngine implements PhysicsEngine {
             throw new IllegalArgumentException("Delta time cannot be negative");
         }
 
-        if (entity.getVelocity() != null) {
-            final boolean affectedByGravity = !(entity instanceof PhysicsEntity)
-                    || ((PhysicsEntity) entity).isAffectedByGravity();
+        final boolean affectedByGravity = !(entity instanceof PhysicsEntity)
+                || ((PhysicsEntity) entity).isAffectedByGravity();
 
-            if (affectedByGravity) {
-                final Vector currentVelocity = entity.getVelocity();
-                final Vector gravityVector = this.physics.gravity().mul(deltaTime);
-
-                float newVerticalVelocity = currentVelocity.y() + gravityVector.y();
-
-                final float maxFallingSpeed = entity instanceof PhysicsEntity
-                        ? ((PhysicsEntity) entity).getMaxFallingSpeed()
-                        : 200f;
-                newVerticalVelocity = Math.min(newVerticalVelocity, maxFallingSpeed);
-
-                entity.setVelocity(new Vector(currentVelocity.x(), newVerticalVelocity));
-            }
+        if (affectedByGravity) {
+            final float maxFallingSpeed = entity instanceof PhysicsEntity
+                    ? ((PhysicsEntity) entity).getMaxFallingSpeed()
+                    : DEFAULT_MAX_FALLING_SPEED;
+            entity.setVelocityComponents(entity.getVelocityX(),
+                    Math.min(entity.getVelocityY() + this.gravity * deltaTime, maxFallingSpeed));
         }
     }
 
@@ -127,11 +373,10 @@ public class GamePhysicsEngine implements PhysicsEngine {
             throw new IllegalArgumentException("Delta time cannot be negative");
         }
 
-        final Vector velocity = entity.getVelocity();
-        if (velocity != null && (velocity.x() != 0.0f || velocity.y() != 0.0f)) {
-            final Position currentPosition = entity.getPosition();
-            final Vector displacement = new Vector(velocity.x() * deltaTime, velocity.y() * deltaTime);
-            entity.setPosition(currentPosition.sum(displacement));
+        final float vx = entity.getVelocityX();
+        final float vy = entity.getVelocityY();
+        if (vx != 0.0f || vy != 0.0f) {
+            entity.translate(vx * deltaTime, vy * deltaTime);
         }
     }
 
@@ -139,53 +384,282 @@ public class GamePhysicsEngine implements PhysicsEngine {
      * {@inheritDoc}
      */
     @Override
-    public void handleCollisions(final Entity entity, final Model model) {
+    public boolean isOnPlatform(final Entity entity, final Model model) {
         Objects.requireNonNull(entity, ENTITY_NULL);
-        Objects.requireNonNull(model, "Model cannot be null");
+        Objects.requireNonNull(model, MODEL_NULL);
 
-        this.handleWorldBoundaryCollisions(entity, model);
+        return model.getPlatformGrid().touchesPlatform(entity);
+    }
 
-        model.getEntities().stream()
-                .filter(other -> !other.equals(entity))
-                .filter(entity::collidesWith)
-                .forEach(other -> {
-                    entity.onCollision(other);
-                    other.onCollision(entity);
-                });
+    /**
+     * Chooses how the entities bound to the store are integrated, from the
+     * next tick on.
+     * 
+     * @param enabled true to apply gravity and movement with the batch loops
+     *                of the {@link EntityStore}, false to use one scalar loop
+     *                per step
+     */
+    public void setBatchIntegration(final boolean enabled) {
+        this.batchIntegration = enabled;
     }
 
     /**
-     * {@inheritDoc}
+     * Computes the {@link ContactManifold} kind bits of an entity, once per
+     * slot and tick, so that recording a contact needs no type check.
      */
-    @Override
-    public boolean isOnPlatform(final Entity entity, final Model model) {
-        Objects.requireNonNull(entity, ENTITY_NULL);
-        Objects.requireNonNull(model, "Model cannot be null");
+    private static int manifoldKindOf(final Entity entity) {
+        if (entity instanceof Platform) {
+            return ContactManifold.PLATFORM;
+        } else if (entity instanceof Ladder) {
+            return ContactManifold.LADDER;
+        } else if (entity instanceof Enemy) {
+            return ContactManifold.ENEMY;
+        }
+        return 0;
+    }
 
-        return model.getEntities().stream()
-                .filter(Platform.class::isInstance)
-                .map(Platform.class::cast)
-                .anyMatch(entity::collidesWith);
+    private boolean isIntegrated(final int index) {
+        return (this.store.flags(index) & INTEGRATED) != 0;
+    }
+
+    /**
+     * Records how the entity of a bound slot must move, sampling the state of
+     * the entity that can change during the tick.
+     */
+    private void defer(final int index, final Entity entity, final float deltaTime) {
+        int flags = INTEGRATED | DEFERRED;
+        if (entity instanceof final PhysicsEntity physicsEntity) {
+            if (physicsEntity.isAffectedByGravity()) {
+                flags |= physicsEntity.canStandOnPlatforms() ? GRAVITY | SWEPT : GRAVITY;
+            }
+            this.maxFallingSpeeds[index] = physicsEntity.getMaxFallingSpeed();
+        } else {
+            flags |= GRAVITY;
+            this.maxFallingSpeeds[index] = DEFAULT_MAX_FALLING_SPEED;
+        }
+        this.store.setFlags(index, flags);
+        this.deltaTimes[index] = deltaTime;
     }
 
     /**
-     * Handles collisions between an entity and the world boundaries.
+     * Applies gravity, movement and world bounds to the deferred slots, then
+     * refreshes them in the broad phase.
      * <p>
-     * This method ensures entities stay within the game world bounds by
-     * clamping their position to the valid area.
+     * The ground check reads the manifolds of the previous tick, so it must run
+     * before they are cleared. Worlds larger than a chunk are integrated on the
+     * pool, if any; the broad phase is always refreshed on the calling thread.
      * </p>
-     * 
-     * @param entity the entity to check
-     * @param model  the game model containing world boundaries
      */
-    private void handleWorldBoundaryCollisions(final Entity entity, final Model model) {
-        final Position current = entity.getPosition();
+    private void integrateDeferred(final Model model) {
+        final PlatformGrid grid = model.getPlatformGrid();
         final BoundigBox bounds = model.getGameBound();
-        final BoundigBox size = entity.getDimension();
+        if (this.pool != null && this.count > PARALLEL_CHUNK) {
+            this.pool.invoke(new Integration(this, grid, bounds, 0, this.count));
+        } else {
+            this.integrate(grid, bounds, 0, this.count);
+        }
 
-        final float newX = Math.max(0, Math.min(current.x(), bounds.width() - size.width()));
-        final float newY = Math.max(0, Math.min(current.y(), bounds.height() - size.height()));
+        for (int i = 0; i < this.count; i++) {
+            if ((this.store.flags(i) & DEFERRED) != 0) {
+                this.broadPhase.refresh(this.store.entity(i));
+            }
+        }
+    }
 
-        entity.setPosition(new Position(newX, newY));
+    /**
+     * Integrates the deferred slots in the given range, with the same
+     * arithmetic as the path used for unbound entities. Only the slots of the
+     * range are written, so disjoint ranges can be integrated concurrently.
+     */
+    private void integrate(final PlatformGrid grid, final BoundigBox bounds, final int from, final int to) {
+        final EntityStore slots = this.store;
+
+        for (int i = from; i < to; i++) {
+            final int flags = slots.flags(i);
+            if ((flags & DEFERRED) != 0) {
+                final float x = slots.x(i);
+                final float y = slots.y(i);
+                final ContactManifold manifold = this.manifolds[i];
+                final boolean onPlatform = manifold != null && manifold.isSettledAt(x, y)
+                        ? manifold.touchesPlatform()
+                        : grid.touchesPlatform(x, y, slots.width(i), slots.height(i));
+                if (onPlatform) {
+                    slots.setFlags(i, flags | WAS_ON_PLATFORM);
+                }
+            }
+        }
+
+        if (this.batchIntegration) {
+            this.integrateBatch(grid, from, to);
+        } else {
+            this.integrateScalar(grid, from, to);
+        }
+
+        for (int i = from; i < to; i++) {
+            if ((slots.flags(i) & DEFERRED) != 0) {
+                slots.setPosition(i,
+                        Math.max(0, Math.min(slots.x(i), bounds.width() - slots.width(i))),
+                        Math.max(0, Math.min(slots.y(i), bounds.height() - slots.height(i))));
+            }
+        }
+    }
+
+    /**
+     * Applies gravity, then movement, to the deferred slots in the given range
+     * with one loop per step.
+     */
+    private void integrateScalar(final PlatformGrid grid, final int from, final int to) {
+        final EntityStore slots = this.store;
+        final float gravity = this.gravity;
+
+        for (int i = from; i < to; i++) {
+            final int flags = slots.flags(i);
+            if ((flags & DEFERRED) != 0) {
+                final float vy = slots.vy(i);
+                if ((flags & WAS_ON_PLATFORM) != 0) {
+                    if (vy > 0) {
+                        slots.setVelocity(i, slots.vx(i), 0f);
+                    }
+                } else if ((flags & GRAVITY) != 0) {
+                    slots.setVelocity(i, slots.vx(i),
+                            Math.min(vy + gravity * this.deltaTimes[i], this.maxFallingSpeeds[i]));
+                }
+            }
+        }
+
+        for (int i = from; i < to; i++) {
+            final int flags = slots.flags(i);
+            if ((flags & DEFERRED) != 0) {
+                final float deltaTime = this.deltaTimes[i];
+                final float vx = slots.vx(i);
+                final float vy = slots.vy(i);
+                final float x = slots.x(i);
+                final float y = slots.y(i);
+                if (vy > 0 && (flags & SWEPT) != 0) {
+                    final float movedX = x + vx * deltaTime;
+                    slots.setPosition(i, movedX,
+                            y + grid.sweepDown(movedX, y, slots.width(i), slots.height(i), vy * deltaTime));
+                } else if (vx != 0.0f || vy != 0.0f) {
+                    slots.setPosition(i, x + vx * deltaTime, y + vy * deltaTime);
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies gravity, then movement, to the deferred slots in the given range
+     * like {@link #integrateScalar(PlatformGrid, int, int)}, with the batch
+     * loops of the store.
+     * <p>
+     * Each slot first gets its increment and offsets, computed with the same
+     * operations as the scalar loops. Slots that must not change get
+     * {@code -0.0f}, the only value whose addition leaves any float unchanged.
+     * </p>
+     */
+    private void integrateBatch(final PlatformGrid grid, final int from, final int to) {
+        final EntityStore slots = this.store;
+        final float gravity = this.gravity;
+
+        for (int i = from; i < to; i++) {
+            final int flags = slots.flags(i);
+            this.increments[i] = -0.0f;
+            this.limits[i] = Float.POSITIVE_INFINITY;
+            if ((flags & DEFERRED) != 0) {
+                if ((flags & WAS_ON_PLATFORM) != 0) {
+                    if (slots.vy(i) > 0) {
+                        slots.setVelocity(i, slots.vx(i), 0f);
+                    }
+                } else if ((flags & GRAVITY) != 0) {
+                    this.increments[i] = gravity * this.deltaTimes[i];
+                    this.limits[i] = this.maxFallingSpeeds[i];
+                }
+            }
+        }
+        slots.accelerate(from, to, this.increments, this.limits);
+
+        for (int i = from; i < to; i++) {
+            final int flags = slots.flags(i);
+            this.offsetsX[i] = -0.0f;
+            this.offsetsY[i] = -0.0f;
+            if ((flags & DEFERRED) != 0) {
+                final float deltaTime = this.deltaTimes[i];
+                final float vx = slots.vx(i);
+                final float vy = slots.vy(i);
+                if (vy > 0 && (flags & SWEPT) != 0) {
+                    this.offsetsX[i] = vx * deltaTime;
+                    this.offsetsY[i] = grid.sweepDown(slots.x(i) + this.offsetsX[i], slots.y(i),
+                            slots.width(i), slots.height(i), vy * deltaTime);
+                } else if (vx != 0.0f || vy != 0.0f) {
+                    this.offsetsX[i] = vx * deltaTime;
+                    this.offsetsY[i] = vy * deltaTime;
+                }
+            }
+        }
+        slots.advance(from, to, this.offsetsX, this.offsetsY);
+    }
+
+    /**
+     * Moves the entity like {@link #applyMovement(Entity, float)}, but stops a
+     * falling entity on the first platform its bottom edge would cross.
+     * <p>
+     * Without this, a step longer than the thickness of a platform makes the
+     * entity pass through it before any overlap is detected. The entity is
+     * moved horizontally first, as horizontal speeds stay well below a tile per
+     * step, then swept downwards against the platform grid. Entities that do
+     * not stand on platforms, or ignore gravity such as Mario on a ladder, move
+     * freely.
+     * </p>
+     * 
+     * @param entity    the entity to move
+     * @param model     the game model holding the platform grid
+     * @param deltaTime the time elapsed since the last update
+     */
+    private void applySweptMovement(final Entity entity, final Model model, final float deltaTime) {
+        final float vy = entity.getVelocityY();
+        if (vy <= 0
+                || !(entity instanceof final PhysicsEntity physicsEntity)
+                || !physicsEntity.canStandOnPlatforms() || !physicsEntity.isAffectedByGravity()) {
+            this.applyMovement(entity, deltaTime);
+            return;
+        }
+
+        entity.translate(entity.getVelocityX() * deltaTime, 0);
+        entity.translate(0, model.getPlatformGrid().sweepDown(entity.getX(), entity.getY(),
+                entity.getDimension().width(), entity.getDimension().height(), vy * deltaTime));
+    }
+
+    /**
+     * Integrates a range of slots, splitting it in halves until each task holds
+     * at most {@link #PARALLEL_CHUNK} slots.
+     */
+    private static final class Integration extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient GamePhysicsEngine engine;
+        private final transient PlatformGrid grid;
+        private final transient BoundigBox bounds;
+        private final int from;
+        private final int to;
+
+        Integration(final GamePhysicsEngine engine, final PlatformGrid grid, final BoundigBox bounds,
+                final int from, final int to) {
+            this.engine = engine;
+            this.grid = grid;
+            this.bounds = bounds;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= PARALLEL_CHUNK) {
+                this.engine.integrate(this.grid, this.bounds, this.from, this.to);
+            } else {
+                final int middle = (this.from + this.to) >>> 1;
+                invokeAll(new Integration(this.engine, this.grid, this.bounds, this.from, middle),
+                        new Integration(this.engine, this.grid, this.bounds, middle, this.to));
+            }
+        }
     }
 }
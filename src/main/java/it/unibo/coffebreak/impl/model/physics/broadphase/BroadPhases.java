@@ -0,0 +1,35 @@
+package it.unibo.coffebreak.impl.model.physics.broadphase;
+
+import java.util.Objects;
+
+import it.unibo.coffebreak.api.model.physics.BroadPhase;
+import it.unibo.coffebreak.api.model.physics.BroadPhaseStrategy;
+
+/**
+ * Creates the {@link BroadPhase} implementation of each
+ * {@link BroadPhaseStrategy}.
+ * 
+ * @author Alessandro Rebosio
+ */
+public final class BroadPhases {
+
+    private BroadPhases() {
+    }
+
+    /**
+     * Creates a new, empty broad phase of the given kind: a
+     * {@link NaiveBroadPhase}, a {@link UniformGridBroadPhase} or a
+     * {@link SweepAndPruneBroadPhase}.
+     * 
+     * @param strategy the kind of broad phase
+     * @return the new broad phase
+     * @throws NullPointerException if strategy is null
+     */
+    public static BroadPhase create(final BroadPhaseStrategy strategy) {
+        return switch (Objects.requireNonNull(strategy, "The strategy cannot be null")) {
+            case NAIVE -> new NaiveBroadPhase();
+            case UNIFORM_GRID -> new UniformGridBroadPhase();
+            case SWEEP_AND_PRUNE -> new SweepAndPruneBroadPhase();
+        };
+    }
+}
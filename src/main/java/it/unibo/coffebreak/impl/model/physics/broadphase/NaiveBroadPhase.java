@@ -0,0 +1,81 @@
+package it.unibo.coffebreak.impl.model.physics.broadphase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.physics.BroadPhase;
+import it.unibo.coffebreak.impl.common.BoundigBox;
+
+/**
+ * {@link BroadPhase} that only discards pairs by layer: every entity whose
+ * layer interacts is a candidate for every other one, giving O(n²) exact tests
+ * per tick.
+ * <p>
+ * Kept as the reference implementation to compare the other broad phases
+ * against.
+ * </p>
+ * 
+ * @author Alessandro Rebosio
+ */
+public final class NaiveBroadPhase implements BroadPhase {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final SlotIndex indices = new SlotIndex();
+    private final List<Entity> result = new ArrayList<>();
+    private List<Entity> entities = List.of();
+    private int[] layers = new int[INITIAL_CAPACITY];
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rebuild(final List<Entity> entities, final BoundigBox worldBounds) {
+        this.entities = Objects.requireNonNull(entities, "The entities cannot be null");
+        Objects.requireNonNull(worldBounds, "The world bounds cannot be null");
+        this.indices.clear();
+        if (this.layers.length < entities.size()) {
+            this.layers = Arrays.copyOf(this.layers, Math.max(entities.size(), this.layers.length * 2));
+        }
+        for (int index = 0; index < entities.size(); index++) {
+            final Entity entity = entities.get(index);
+            this.layers[index] = entity.getCollisionLayer().bit();
+            this.indices.put(entity, index);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void refresh(final Entity entity) {
+        Objects.requireNonNull(entity, "The entity cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int indexOf(final Entity entity) {
+        return this.indices.get(Objects.requireNonNull(entity, "The entity cannot be null"));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Entity> candidates(final Entity entity) {
+        Objects.requireNonNull(entity, "The entity cannot be null");
+        final int mask = entity.getCollisionLayer().mask();
+        this.result.clear();
+        for (int i = 0; i < this.entities.size(); i++) {
+            if ((mask & this.layers[i]) != 0) {
+                this.result.add(this.entities.get(i));
+            }
+        }
+        return this.result;
+    }
+}
@@ -0,0 +1,91 @@
+package it.unibo.coffebreak.impl.model.physics.broadphase;
+
+import java.util.Arrays;
+
+import it.unibo.coffebreak.api.model.entities.Entity;
+
+/**
+ * Identity map from the entities of a tick to their slot, that is their index
+ * in the model list, used by the broad phases instead of a
+ * {@code Map<Entity, Integer>}.
+ * <p>
+ * Keys are compared by identity and looked up with linear probing in a table
+ * kept at most half full. Indices are stored as plain ints, and the table is
+ * emptied rather than replaced, so refilling it on every tick does not
+ * allocate once it reached the size of the world.
+ * </p>
+ *
+ * @author Alessandro Rebosio
+ */
+final class SlotIndex {
+
+    private static final int INITIAL_CAPACITY = 128;
+
+    private Entity[] keys = new Entity[INITIAL_CAPACITY];
+    private int[] values = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Removes every entity.
+     */
+    void clear() {
+        if (this.size > 0) {
+            Arrays.fill(this.keys, null);
+            this.size = 0;
+        }
+    }
+
+    /**
+     * Associates the entity with the given index, replacing any previous one.
+     *
+     * @param entity the entity
+     * @param index  its index, not negative
+     */
+    void put(final Entity entity, final int index) {
+        if ((this.size + 1) * 2 > this.keys.length) {
+            this.grow();
+        }
+        final int bucket = this.bucketOf(entity);
+        if (this.keys[bucket] == null) {
+            this.keys[bucket] = entity;
+            this.size++;
+        }
+        this.values[bucket] = index;
+    }
+
+    /**
+     * @param entity the entity to look up
+     * @return the index of the entity, or -1 if it was not put since the last
+     *         {@link #clear()}
+     */
+    int get(final Entity entity) {
+        final int bucket = this.bucketOf(entity);
+        return this.keys[bucket] == null ? -1 : this.values[bucket];
+    }
+
+    /**
+     * Returns the bucket holding the entity, or the empty bucket where it belongs.
+     */
+    private int bucketOf(final Entity entity) {
+        final int mask = this.keys.length - 1;
+        int bucket = System.identityHashCode(entity) & mask;
+        while (this.keys[bucket] != null && this.keys[bucket] != entity) {
+            bucket = (bucket + 1) & mask;
+        }
+        return bucket;
+    }
+
+    private void grow() {
+        final Entity[] oldKeys = this.keys;
+        final int[] oldValues = this.values;
+        this.keys = new Entity[oldKeys.length * 2];
+        this.values = new int[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                final int bucket = this.bucketOf(oldKeys[i]);
+                this.keys[bucket] = oldKeys[i];
+                this.values[bucket] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package it.unibo.coffebreak.impl.model.physics.broadphase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.physics.BroadPhase;
+import it.unibo.coffebreak.impl.common.BoundigBox;
+
+/**
+ * {@link BroadPhase} that keeps the x-axis intervals of the entities sorted by
+ * their left endpoint (sort and sweep).
+ * <p>
+ * A lookup binary searches the first interval that may reach the queried one,
+ * going back by the widest interval of the world, and sweeps forward until the
+ * intervals start past its right end. Rows of entities spread along the x
+ * axis, such as barrels rolling on a girder, are therefore found without
+ * visiting the other rows' cells.
+ * </p>
+ * <p>
+ * The endpoint array persists across ticks. Since entities move by a few
+ * pixels per tick, it is almost sorted and insertion sort restores the order
+ * in close to linear time, both on {@link #rebuild} and when a single entity
+ * moves on {@link #refresh}.
+ * </p>
+ * <p>
+ * The layer bit of each entity is cached on rebuild, so the sweep skips the
+ * intervals whose layer does not interact before comparing their right end.
+ * </p>
+ *
+ * @author Alessandro Rebosio
+ */
+public final class SweepAndPruneBroadPhase implements BroadPhase {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final SlotIndex indices = new SlotIndex();
+    private final List<Entity> result = new ArrayList<>();
+
+    private Entity[] entities = new Entity[INITIAL_CAPACITY];
+    private Entity[] previous = new Entity[INITIAL_CAPACITY];
+    private float[] mins = new float[INITIAL_CAPACITY];
+    private float[] maxs = new float[INITIAL_CAPACITY];
+    private int[] layers = new int[INITIAL_CAPACITY];
+    private int[] slots = new int[INITIAL_CAPACITY];
+    private float[] endpoints = new float[INITIAL_CAPACITY];
+    private int[] owners = new int[INITIAL_CAPACITY];
+    private boolean[] placed = new boolean[INITIAL_CAPACITY];
+    private int[] found = new int[INITIAL_CAPACITY];
+    private int count;
+    private float maxWidth;
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Entities that were already known keep their place in the endpoint array,
+     * new ones are appended, then the array is sorted again.
+     * </p>
+     */
+    @Override
+    public void rebuild(final List<Entity> entities, final BoundigBox worldBounds) {
+        Objects.requireNonNull(entities, "The entities cannot be null");
+        Objects.requireNonNull(worldBounds, "The world bounds cannot be null");
+
+        final int previousCount = this.count;
+        final Entity[] swap = this.previous;
+        this.previous = this.entities;
+        this.entities = swap;
+        this.ensureCapacity(entities.size());
+
+        this.indices.clear();
+        this.count = 0;
+        this.maxWidth = 0;
+        for (int index = 0; index < entities.size(); index++) {
+            final Entity entity = entities.get(index);
+            this.count++;
+            this.entities[index] = entity;
+            this.indices.put(entity, index);
+            this.placed[index] = false;
+            this.layers[index] = entity.getCollisionLayer().bit();
+            this.mins[index] = entity.getX();
+            this.maxs[index] = this.mins[index] + entity.getDimension().width();
+            this.maxWidth = Math.max(this.maxWidth, this.maxs[index] - this.mins[index]);
+        }
+
+        int size = 0;
+        for (int i = 0; i < previousCount; i++) {
+            final int index = this.indices.get(this.previous[this.owners[i]]);
+            if (index >= 0 && !this.placed[index]) {
+                this.placed[index] = true;
+                this.owners[size++] = index;
+            }
+        }
+        for (int index = 0; index < this.count; index++) {
+            if (!this.placed[index]) {
+                this.owners[size++] = index;
+            }
+        }
+        Arrays.fill(this.previous, 0, previousCount, null);
+
+        for (int i = 0; i < this.count; i++) {
+            this.endpoints[i] = this.mins[this.owners[i]];
+            this.slots[this.owners[i]] = i;
+        }
+        this.insertionSort();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void refresh(final Entity entity) {
+        Objects.requireNonNull(entity, "The entity cannot be null");
+        final int index = this.indices.get(entity);
+        if (index < 0) {
+            return;
+        }
+        final float min = entity.getX();
+        final float max = min + entity.getDimension().width();
+        this.maxs[index] = max;
+        this.maxWidth = Math.max(this.maxWidth, max - min);
+        if (this.mins[index] == min) {
+            return;
+        }
+        this.mins[index] = min;
+
+        int slot = this.slots[index];
+        this.endpoints[slot] = min;
+        while (slot > 0 && this.endpoints[slot - 1] > min) {
+            this.move(slot - 1, slot);
+            slot--;
+        }
+        while (slot < this.count - 1 && this.endpoints[slot + 1] < min) {
+            this.move(slot + 1, slot);
+            slot++;
+        }
+        this.endpoints[slot] = min;
+        this.owners[slot] = index;
+        this.slots[index] = slot;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int indexOf(final Entity entity) {
+        return this.indices.get(Objects.requireNonNull(entity, "The entity cannot be null"));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Entity> candidates(final Entity entity) {
+        Objects.requireNonNull(entity, "The entity cannot be null");
+        this.refresh(entity);
+        this.result.clear();
+
+        final int mask = entity.getCollisionLayer().mask();
+        final float min = entity.getX();
+        final float max = min + entity.getDimension().width();
+        int foundCount = 0;
+        // one extra pixel absorbs the rounding of min - maxWidth
+        for (int i = this.firstAtLeast(min - this.maxWidth - 1); i < this.count && this.endpoints[i] <= max; i++) {
+            final int other = this.owners[i];
+            if ((mask & this.layers[other]) != 0 && this.maxs[other] >= min) {
+                this.found[foundCount++] = other;
+            }
+        }
+
+        Arrays.sort(this.found, 0, foundCount);
+        for (int i = 0; i < foundCount; i++) {
+            this.result.add(this.entities[this.found[i]]);
+        }
+        return this.result;
+    }
+
+    /**
+     * Returns the first slot whose endpoint is not lower than the given value.
+     */
+    private int firstAtLeast(final float value) {
+        int low = 0;
+        int high = this.count;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (this.endpoints[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private void insertionSort() {
+        for (int i = 1; i < this.count; i++) {
+            final float endpoint = this.endpoints[i];
+            final int owner = this.owners[i];
+            int slot = i;
+            while (slot > 0 && this.endpoints[slot - 1] > endpoint) {
+                this.move(slot - 1, slot);
+                slot--;
+            }
+            this.endpoints[slot] = endpoint;
+            this.owners[slot] = owner;
+            this.slots[owner] = slot;
+        }
+    }
+
+    /**
+     * Copies the endpoint in slot {@code from} to slot {@code to}.
+     */
+    private void move(final int from, final int to) {
+        this.endpoints[to] = this.endpoints[from];
+        this.owners[to] = this.owners[from];
+        this.slots[this.owners[to]] = to;
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (this.entities.length < capacity) {
+            final int newCapacity = Math.max(capacity, this.entities.length * 2);
+            this.entities = Arrays.copyOf(this.entities, newCapacity);
+            this.previous = Arrays.copyOf(this.previous, newCapacity);
+            this.mins = Arrays.copyOf(this.mins, newCapacity);
+            this.maxs = Arrays.copyOf(this.maxs, newCapacity);
+            this.layers = Arrays.copyOf(this.layers, newCapacity);
+            this.slots = Arrays.copyOf(this.slots, newCapacity);
+            this.endpoints = Arrays.copyOf(this.endpoints, newCapacity);
+            this.owners = Arrays.copyOf(this.owners, newCapacity);
+            this.placed = Arrays.copyOf(this.placed, newCapacity);
+            this.found = Arrays.copyOf(this.found, newCapacity);
+        }
+    }
+}
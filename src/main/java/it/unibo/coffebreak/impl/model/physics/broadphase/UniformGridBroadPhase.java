@@ -0,0 +1,246 @@
+package it.unibo.coffebreak.impl.model.physics.broadphase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.physics.BroadPhase;
+import it.unibo.coffebreak.impl.common.BoundigBox;
+
+/**
+ * {@link BroadPhase} that buckets entities into a uniform grid of square cells,
+ * one map tile ({@link BoundigBox#SIZE} pixels) wide by default.
+ * <p>
+ * Every entity is registered in each cell its bounding box touches, edges
+ * included, so two entities can only overlap if they share at least one cell.
+ * A lookup therefore visits a handful of cells instead of the whole world.
+ * Entities are identified by their index in the model list, which also keeps
+ * the candidates in model order. The layer bit of each entity is cached next
+ * to it, so members of a cell whose layer does not interact are skipped
+ * without looking at their position. All buffers are reused across ticks and only
+ * grow, so steady-state lookups do not allocate.
+ * </p>
+ * 
+ * @author Alessandro Rebosio
+ */
+public final class UniformGridBroadPhase implements BroadPhase {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int INITIAL_CELL_CAPACITY = 4;
+    private static final int MIN_X = 0;
+    private static final int MIN_Y = 1;
+    private static final int MAX_X = 2;
+    private static final int MAX_Y = 3;
+    private static final int RANGE = 4;
+
+    private final int cellSize;
+    private final SlotIndex indices = new SlotIndex();
+    private final List<Entity> result = new ArrayList<>();
+    private final int[] scratchRange = new int[RANGE];
+
+    private int columns;
+    private int rows;
+    private int[][] cells = new int[0][];
+    private int[] cellCounts = new int[0];
+
+    private Entity[] entities = new Entity[INITIAL_CAPACITY];
+    private int[] ranges = new int[INITIAL_CAPACITY * RANGE];
+    private int[] layers = new int[INITIAL_CAPACITY];
+    private int[] marks = new int[INITIAL_CAPACITY];
+    private int[] found = new int[INITIAL_CAPACITY];
+    private int count;
+    private int stamp;
+
+    /**
+     * Creates a grid with one cell per map tile.
+     */
+    public UniformGridBroadPhase() {
+        this(BoundigBox.SIZE);
+    }
+
+    /**
+     * Creates a grid with cells of the given size.
+     * 
+     * @param cellSize the side of each cell in pixels
+     * @throws IllegalArgumentException if cellSize is not positive
+     */
+    public UniformGridBroadPhase(final int cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive");
+        }
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rebuild(final List<Entity> entities, final BoundigBox worldBounds) {
+        Objects.requireNonNull(entities, "The entities cannot be null");
+        Objects.requireNonNull(worldBounds, "The world bounds cannot be null");
+
+        this.columns = Math.max(1, worldBounds.width() / this.cellSize + 1);
+        this.rows = Math.max(1, worldBounds.height() / this.cellSize + 1);
+        final int cellCount = this.columns * this.rows;
+        if (this.cells.length < cellCount) {
+            this.cells = Arrays.copyOf(this.cells, cellCount);
+            this.cellCounts = Arrays.copyOf(this.cellCounts, cellCount);
+        }
+        Arrays.fill(this.cellCounts, 0);
+
+        this.indices.clear();
+        Arrays.fill(this.entities, 0, this.count, null);
+        this.count = 0;
+        this.ensureCapacity(entities.size());
+        for (int index = 0; index < entities.size(); index++) {
+            final Entity entity = entities.get(index);
+            this.count++;
+            this.entities[index] = entity;
+            this.indices.put(entity, index);
+            this.layers[index] = entity.getCollisionLayer().bit();
+            this.computeRange(entity, this.ranges, index * RANGE);
+            this.forEachCell(index, true);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void refresh(final Entity entity) {
+        Objects.requireNonNull(entity, "The entity cannot be null");
+        final int index = this.indices.get(entity);
+        if (index < 0) {
+            return;
+        }
+        final int base = index * RANGE;
+        this.computeRange(entity, this.scratchRange, 0);
+        if (Arrays.equals(this.scratchRange, 0, RANGE, this.ranges, base, base + RANGE)) {
+            return;
+        }
+        this.forEachCell(index, false);
+        System.arraycopy(this.scratchRange, 0, this.ranges, base, RANGE);
+        this.forEachCell(index, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int indexOf(final Entity entity) {
+        return this.indices.get(Objects.requireNonNull(entity, "The entity cannot be null"));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Entity> candidates(final Entity entity) {
+        Objects.requireNonNull(entity, "The entity cannot be null");
+        this.refresh(entity);
+        this.result.clear();
+        if (this.count == 0) {
+            return this.result;
+        }
+
+        final int mask = entity.getCollisionLayer().mask();
+        final int[] range = this.scratchRange;
+        this.computeRange(entity, range, 0);
+        this.nextStamp();
+
+        int foundCount = 0;
+        for (int cy = range[MIN_Y]; cy <= range[MAX_Y]; cy++) {
+            for (int cx = range[MIN_X]; cx <= range[MAX_X]; cx++) {
+                final int cell = cy * this.columns + cx;
+                final int[] members = this.cells[cell];
+                for (int i = 0; i < this.cellCounts[cell]; i++) {
+                    final int other = members[i];
+                    if ((mask & this.layers[other]) != 0 && this.marks[other] != this.stamp) {
+                        this.marks[other] = this.stamp;
+                        this.found[foundCount++] = other;
+                    }
+                }
+            }
+        }
+
+        Arrays.sort(this.found, 0, foundCount);
+        for (int i = 0; i < foundCount; i++) {
+            this.result.add(this.entities[this.found[i]]);
+        }
+        return this.result;
+    }
+
+    private void nextStamp() {
+        this.stamp++;
+        if (this.stamp == Integer.MAX_VALUE) {
+            Arrays.fill(this.marks, 0);
+            this.stamp = 1;
+        }
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (this.entities.length < capacity) {
+            final int newCapacity = Math.max(capacity, this.entities.length * 2);
+            this.entities = Arrays.copyOf(this.entities, newCapacity);
+            this.ranges = Arrays.copyOf(this.ranges, newCapacity * RANGE);
+            this.layers = Arrays.copyOf(this.layers, newCapacity);
+            this.marks = Arrays.copyOf(this.marks, newCapacity);
+            this.found = Arrays.copyOf(this.found, newCapacity);
+        }
+    }
+
+    private void computeRange(final Entity entity, final int[] target, final int offset) {
+        final float x = entity.getX();
+        final float y = entity.getY();
+        target[offset + MIN_X] = this.column(x);
+        target[offset + MIN_Y] = this.row(y);
+        target[offset + MAX_X] = this.column(x + entity.getDimension().width());
+        target[offset + MAX_Y] = this.row(y + entity.getDimension().height());
+    }
+
+    private int column(final float x) {
+        return Math.clamp((long) Math.floor(x / this.cellSize), 0, this.columns - 1);
+    }
+
+    private int row(final float y) {
+        return Math.clamp((long) Math.floor(y / this.cellSize), 0, this.rows - 1);
+    }
+
+    /**
+     * Adds the entity to, or removes it from, every cell of its stored range.
+     */
+    private void forEachCell(final int index, final boolean add) {
+        final int base = index * RANGE;
+        for (int cy = this.ranges[base + MIN_Y]; cy <= this.ranges[base + MAX_Y]; cy++) {
+            for (int cx = this.ranges[base + MIN_X]; cx <= this.ranges[base + MAX_X]; cx++) {
+                final int cell = cy * this.columns + cx;
+                if (add) {
+                    this.addToCell(cell, index);
+                } else {
+                    this.removeFromCell(cell, index);
+                }
+            }
+        }
+    }
+
+    private void addToCell(final int cell, final int index) {
+        if (this.cells[cell] == null) {
+            this.cells[cell] = new int[INITIAL_CELL_CAPACITY];
+        } else if (this.cellCounts[cell] == this.cells[cell].length) {
+            this.cells[cell] = Arrays.copyOf(this.cells[cell], this.cells[cell].length * 2);
+        }
+        this.cells[cell][this.cellCounts[cell]++] = index;
+    }
+
+    private void removeFromCell(final int cell, final int index) {
+        final int[] members = this.cells[cell];
+        for (int i = 0; i < this.cellCounts[cell]; i++) {
+            if (members[i] == index) {
+                members[i] = members[--this.cellCounts[cell]];
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package it.unibo.coffebreak.impl.model.snapshot;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+import it.unibo.coffebreak.api.model.snapshot.WorldSnapshot;
+
+/**
+ * Lock-free buffer used to hand {@link WorldSnapshot}s from the simulation
+ * thread to the render thread.
+ * <p>
+ * The writer builds each snapshot off to the side (the back buffer) and makes
+ * it visible with a single atomic store; readers always obtain the latest
+ * complete snapshot (the front buffer) and can keep using it for as long as
+ * they want, since snapshots are immutable. Neither side ever blocks the other.
+ * </p>
+ *
+ * @author Alessandro Rebosio
+ */
+public final class SnapshotBuffer {
+
+    private final AtomicReference<WorldSnapshot> front = new AtomicReference<>(WorldSnapshot.EMPTY);
+
+    /**
+     * Publishes a new snapshot, replacing the previous one.
+     *
+     * @param snapshot the snapshot to publish
+     * @throws NullPointerException if snapshot is null
+     */
+    public void publish(final WorldSnapshot snapshot) {
+        this.front.set(Objects.requireNonNull(snapshot, "The snapshot cannot be null"));
+    }
+
+    /**
+     * Returns the most recently published snapshot.
+     *
+     * @return the latest snapshot, never null
+     */
+    public WorldSnapshot latest() {
+        return this.front.get();
+    }
+}
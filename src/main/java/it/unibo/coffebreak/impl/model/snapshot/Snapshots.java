@@ -0,0 +1,137 @@
+package it.unibo.coffebreak.impl.model.snapshot;
+
+import java.util.List;
+import java.util.Objects;
+
+import it.unibo.coffebreak.api.model.Model;
+import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.entities.character.MainCharacter;
+import it.unibo.coffebreak.api.model.entities.collectible.Collectible;
+import it.unibo.coffebreak.api.model.entities.enemy.Enemy;
+import it.unibo.coffebreak.api.model.entities.enemy.barrel.Barrel;
+import it.unibo.coffebreak.api.model.entities.enemy.fire.Fire;
+import it.unibo.coffebreak.api.model.entities.npc.Antagonist;
+import it.unibo.coffebreak.api.model.entities.npc.Princess;
+import it.unibo.coffebreak.api.model.entities.structure.Ladder;
+import it.unibo.coffebreak.api.model.entities.structure.Platform;
+import it.unibo.coffebreak.api.model.entities.structure.Tank;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot.Kind;
+import it.unibo.coffebreak.api.model.snapshot.HudSnapshot;
+import it.unibo.coffebreak.api.model.snapshot.WorldSnapshot;
+import it.unibo.coffebreak.api.model.snapshot.WorldSnapshot.Screen;
+import it.unibo.coffebreak.api.model.states.ModelState;
+import it.unibo.coffebreak.impl.model.entities.collectible.coin.Coin;
+import it.unibo.coffebreak.impl.model.entities.collectible.hammer.Hammer;
+import it.unibo.coffebreak.impl.model.entities.mario.states.withhammer.WithHammerState;
+import it.unibo.coffebreak.impl.model.entities.structure.platform.breakable.BreakablePlatform;
+import it.unibo.coffebreak.impl.model.states.gameover.GameOverModelState;
+import it.unibo.coffebreak.impl.model.states.ingame.InGameModelState;
+import it.unibo.coffebreak.impl.model.states.menu.MenuModelState;
+import it.unibo.coffebreak.impl.model.states.pause.PauseModelState;
+
+/**
+ * Takes the {@link WorldSnapshot}s and {@link EntitySnapshot}s of the live
+ * model, mapping each entity to the kind and flags the view draws it with and
+ * the state of the model to the screen the view shows.
+ *
+ * @author Alessandro Rebosio
+ */
+public final class Snapshots {
+
+    private Snapshots() {
+    }
+
+    /**
+     * Takes a snapshot of the given model, with its screen, the values of the
+     * heads-up display and its entities.
+     *
+     * @param tick  the number of the current tick
+     * @param model the live model to copy
+     * @return the snapshot of the world
+     * @throws NullPointerException if model is null
+     */
+    public static WorldSnapshot world(final long tick, final Model model) {
+        Objects.requireNonNull(model, "The model cannot be null");
+        final int lives = model.getMainCharacter().map(MainCharacter::getLives).orElse(0);
+        final HudSnapshot hud = new HudSnapshot(model.getScoreValue(), model.getHighestScore(), lives,
+                model.getBonusValue(), model.getLevelIndex());
+        return world(tick, screenOf(model.getGameState()), hud, model.getEntities());
+    }
+
+    /**
+     * Takes a snapshot of the given entities.
+     *
+     * @param tick     the number of the current tick
+     * @param screen   the screen matching the state of the model
+     * @param hud      the values of the heads-up display
+     * @param entities the live entities to copy
+     * @return the snapshot of the world
+     * @throws NullPointerException if any argument is null
+     */
+    public static WorldSnapshot world(final long tick, final Screen screen, final HudSnapshot hud,
+            final List<Entity> entities) {
+        return new WorldSnapshot(tick, screen, hud, entities.stream().map(Snapshots::entity).toList());
+    }
+
+    /**
+     * Takes a snapshot of the given entity.
+     *
+     * @param entity the entity to copy
+     * @return the snapshot of the entity
+     * @throws NullPointerException if entity is null
+     */
+    public static EntitySnapshot entity(final Entity entity) {
+        Objects.requireNonNull(entity, "The entity cannot be null");
+        return new EntitySnapshot(entity.getHandle(), kindOf(entity), entity.getPosition(),
+                entity.getPreviousPosition(), entity.getDimension(), flagsOf(entity));
+    }
+
+    private static Screen screenOf(final ModelState state) {
+        return switch (state) {
+            case final MenuModelState menu -> Screen.MENU;
+            case final InGameModelState inGame -> Screen.IN_GAME;
+            case final PauseModelState pause -> Screen.PAUSE;
+            case final GameOverModelState gameOver -> Screen.GAME_OVER;
+            default -> Screen.OTHER;
+        };
+    }
+
+    private static Kind kindOf(final Entity entity) {
+        return switch (entity) {
+            case final MainCharacter character -> Kind.MARIO;
+            case final Barrel barrel -> Kind.BARREL;
+            case final Fire fire -> Kind.FIRE;
+            case final Antagonist antagonist -> Kind.ANTAGONIST;
+            case final Princess princess -> Kind.PRINCESS;
+            case final Ladder ladder -> Kind.LADDER;
+            case final BreakablePlatform platform -> Kind.BREAKABLE_PLATFORM;
+            case final Platform platform -> Kind.PLATFORM;
+            case final Tank tank -> Kind.TANK;
+            case final Coin coin -> Kind.COIN;
+            case final Hammer hammer -> Kind.HAMMER;
+            default -> Kind.OTHER;
+        };
+    }
+
+    private static int flagsOf(final Entity entity) {
+        return switch (entity) {
+            case final MainCharacter character -> flag(character.isFacingRight(), EntitySnapshot.FACING_RIGHT)
+                    | flag(character.isJumping(), EntitySnapshot.JUMPING)
+                    | flag(character.isClimbing(), EntitySnapshot.CLIMBING)
+                    | flag(Math.abs(character.getVelocity().x()) > 0.0f, EntitySnapshot.WALKING)
+                    | flag(character.getCurrentState() instanceof WithHammerState, EntitySnapshot.HAMMER)
+                    | flag(character.didDesoyedEnemy(), EntitySnapshot.DESTROYED_ENEMY);
+            case final Enemy enemy -> flag(enemy.isDestroyed(), EntitySnapshot.DESTROYED);
+            case final Collectible collectible -> flag(collectible.isCollected(), EntitySnapshot.DESTROYED);
+            case final Platform platform -> flag(platform.isBroken(), EntitySnapshot.DESTROYED);
+            case final Antagonist antagonist -> flag(antagonist.isThrowing(), EntitySnapshot.THROWING);
+            case final Tank tank -> flag(tank.isActive(), EntitySnapshot.ACTIVE);
+            default -> 0;
+        };
+    }
+
+    private static int flag(final boolean condition, final int flag) {
+        return condition ? flag : 0;
+    }
+}
@@ -1,12 +1,19 @@
 package it.unibo.coffebreak.impl.model.states.ingame;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import it.unibo.coffebreak.api.controller.action.Action;
 import it.unibo.coffebreak.api.model.Model;
+import it.unibo.coffebreak.api.model.entities.Entity;
 import it.unibo.coffebreak.api.model.entities.PhysicsEntity;
+import it.unibo.coffebreak.api.model.entities.character.MainCharacter;
+import it.unibo.coffebreak.api.model.entities.enemy.barrel.Barrel;
 import it.unibo.coffebreak.api.model.entities.npc.Antagonist;
 import it.unibo.coffebreak.api.model.physics.PhysicsEngine;
+import it.unibo.coffebreak.impl.common.profiler.FrameProfiler;
+import it.unibo.coffebreak.impl.common.profiler.FrameProfiler.Phase;
 import it.unibo.coffebreak.impl.model.physics.GamePhysicsEngine;
 import it.unibo.coffebreak.impl.model.states.AbstractModelState;
 import it.unibo.coffebreak.impl.model.states.gameover.GameOverModelState;
@@ -48,7 +55,12 @@ public class InGameModelState extends AbstractModelState {
      * Updates all entities using the unified physics engine, manages bonus, and
      * checks for game
      * over. Player movement is handled directly by commands, not in this update
-     * loop.
+     * loop. The time spent in entity updates, physics, transformations and map
+     * changes is recorded in the {@link FrameProfiler} of the model.
+     * </p>
+     * <p>
+     * The entities are walked by index and no lambda captures the tick, so
+     * that a steady-state tick allocates nothing.
      * </p>
      *
      * @param model     the game model
@@ -56,34 +68,62 @@ public class InGameModelState extends AbstractModelState {
      */
     @Override
     public void update(final Model model, final float deltaTime) {
-        model.getMainCharacter().ifPresent(player -> {
-            final int currentLives = player.getLives();
+        final Optional<MainCharacter> character = model.getMainCharacter();
+        if (character.isEmpty()) {
+            return;
+        }
+        final MainCharacter player = character.get();
+        final FrameProfiler profiler = model.getProfiler();
+        final int currentLives = player.getLives();
 
-            model.getEntities().stream()
-                    .filter(Antagonist.class::isInstance)
-                    .map(Antagonist.class::cast)
-                    .findFirst()
-                    .ifPresent(a -> a.tryThrowBarrel(deltaTime).ifPresent(model::addEntity));
+        final List<Entity> entities = model.getEntities();
+        for (int i = 0; i < entities.size(); i++) {
+            entities.get(i).storePreviousPosition();
+        }
 
-            model.getEntities().forEach(entity -> {
-                entity.update(deltaTime);
-                if (entity instanceof PhysicsEntity) {
-                    this.physicsEngine.updateEntity(entity, model, deltaTime);
-                }
-            });
+        final List<Antagonist> antagonists = model.entitiesOf(Antagonist.class);
+        if (!antagonists.isEmpty()) {
+            final Optional<Barrel> barrel = antagonists.get(0).tryThrowBarrel(deltaTime);
+            if (barrel.isPresent()) {
+                model.spawnEntity(barrel.get());
+            }
+        }
 
-            if (currentLives != player.getLives() || model.getBonusValue() == 0) {
-                model.initialEntitiesState();
+        this.physicsEngine.beginTick(model);
+        long updateTime = 0L;
+        long physicsTime = 0L;
+        for (int i = 0; i < entities.size(); i++) {
+            final Entity entity = entities.get(i);
+            final long updateStart = System.nanoTime();
+            entity.update(deltaTime);
+            final long physicsStart = System.nanoTime();
+            updateTime += physicsStart - updateStart;
+            if (entity instanceof PhysicsEntity) {
+                this.physicsEngine.updateEntity(entity, model, deltaTime);
+                physicsTime += System.nanoTime() - physicsStart;
             }
+        }
+        final long contactsStart = System.nanoTime();
+        this.physicsEngine.endTick(model);
+        physicsTime += System.nanoTime() - contactsStart;
+        profiler.record(Phase.ENTITY_UPDATE, updateTime);
+        profiler.record(Phase.PHYSICS, physicsTime);
 
-            model.transformEntities();
-            model.nextMap();
-            model.calculateBonus(deltaTime);
+        if (currentLives != player.getLives() || model.getBonusValue() == 0) {
+            model.initialEntitiesState();
+        }
 
-            if (player.isGameOver()) {
-                model.setState(new GameOverModelState());
-            }
-        });
+        final long transformStart = System.nanoTime();
+        model.transformEntities();
+        final long nextMapStart = System.nanoTime();
+        profiler.record(Phase.TRANSFORM, nextMapStart - transformStart);
+        model.nextMap();
+        profiler.stop(Phase.NEXT_MAP, nextMapStart);
+        model.calculateBonus(deltaTime);
+
+        if (player.isGameOver()) {
+            model.setState(new GameOverModelState());
+        }
     }
 
     /**
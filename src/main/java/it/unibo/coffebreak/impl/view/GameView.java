@@ -3,6 +3,7 @@ package it.unibo.coffebreak.impl.view;
 import javax.swing.JFrame;
 
 import java.awt.BorderLayout;
+import java.awt.Component;
 import java.awt.event.WindowEvent;
 import java.io.Serial;
 
@@ -10,6 +11,7 @@ import it.unibo.coffebreak.api.common.Loader;
 import it.unibo.coffebreak.api.controller.Controller;
 import it.unibo.coffebreak.api.view.View;
 import it.unibo.coffebreak.api.view.panel.Panel;
+import it.unibo.coffebreak.impl.view.panel.GameCanvas;
 import it.unibo.coffebreak.impl.view.panel.GamePanel;
 
 /**
@@ -22,6 +24,13 @@ import it.unibo.coffebreak.impl.view.panel.GamePanel;
  * </p>
  * 
  * <p>
+ * By default frames are drawn with active rendering on a {@link GameCanvas},
+ * from the thread that calls {@link #update(float, float)}. The Swing
+ * {@link GamePanel}, repainted by the event dispatch thread, is kept as a
+ * fallback.
+ * </p>
+ * 
+ * <p>
  * Part of the View in the MVC architecture.
  * </p>
  * 
@@ -39,20 +48,34 @@ public class GameView extends JFrame implements View {
     private final Panel gamePanel;
 
     /**
-     * Constructs a GameView with the given controller.
+     * Constructs a GameView with the given controller, using active rendering.
      *
      * @param controller the controller to notify of key events
      * @param loader     the resource loader for graphics
      */
     public GameView(final Controller controller, final Loader loader) {
+        this(controller, loader, true);
+    }
+
+    /**
+     * Constructs a GameView with the given controller.
+     *
+     * @param controller      the controller to notify of key events
+     * @param loader          the resource loader for graphics
+     * @param activeRendering true to draw on a {@link GameCanvas} with a buffer
+     *                        strategy, false to fall back to a repainted
+     *                        {@link GamePanel}
+     */
+    public GameView(final Controller controller, final Loader loader, final boolean activeRendering) {
         super(TITLE);
-        this.gamePanel = new GamePanel(controller, loader);
+        this.gamePanel = activeRendering ? GameCanvas.create(controller, loader) : new GamePanel(controller, loader);
 
         super.setDefaultCloseOperation(EXIT_ON_CLOSE);
-        super.add((GamePanel) gamePanel, BorderLayout.CENTER);
+        super.add((Component) gamePanel, BorderLayout.CENTER);
         super.pack();
         super.setLocationRelativeTo(null);
         super.setVisible(true);
+        ((Component) gamePanel).requestFocus();
     }
 
     /**
@@ -67,8 +90,16 @@ public class GameView extends JFrame implements View {
      * {@inheritDoc}
      */
     @Override
-    public void update(final float deltaTime) {
-        this.gamePanel.update(deltaTime);
-        this.repaint();
+    public void update(final float deltaTime, final float alpha) {
+        this.gamePanel.update(deltaTime, alpha);
+        this.gamePanel.present();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getPresentLatency() {
+        return this.gamePanel.getPresentLatency();
     }
 }
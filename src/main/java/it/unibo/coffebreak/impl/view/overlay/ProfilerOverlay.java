@@ -0,0 +1,102 @@
+package it.unibo.coffebreak.impl.view.overlay;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.event.KeyEvent;
+import java.util.Locale;
+import java.util.Objects;
+
+import it.unibo.coffebreak.impl.common.profiler.FrameProfiler;
+import it.unibo.coffebreak.impl.common.profiler.FrameProfiler.Phase;
+
+/**
+ * Draws the statistics of a {@link FrameProfiler} on top of the game: the
+ * p50/p95/p99 of every phase and a graph of the most recent frame times.
+ *
+ * @author Grazia Bochdanovits de Kavna
+ */
+public final class ProfilerOverlay {
+
+    /**
+     * The key that shows or hides the overlay.
+     */
+    public static final int TOGGLE_KEY = KeyEvent.VK_F3;
+
+    private static final Color BACKGROUND = new Color(0, 0, 0, 180);
+    private static final Color BUDGET_COLOR = Color.RED;
+    private static final Font FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double FRAME_BUDGET_MILLIS = 1000.0 / 60;
+    private static final double GRAPH_SCALE_MILLIS = FRAME_BUDGET_MILLIS * 2;
+    private static final double P50 = 50;
+    private static final double P95 = 95;
+    private static final double P99 = 99;
+    private static final int MARGIN = 8;
+    private static final int LINE_HEIGHT = 14;
+    private static final int PANEL_WIDTH = 320;
+    private static final int GRAPH_HEIGHT = 60;
+    private static final int GRAPH_SAMPLES = PANEL_WIDTH - 2 * MARGIN;
+
+    private final FrameProfiler profiler;
+
+    /**
+     * Creates an overlay showing the given profiler.
+     *
+     * @param profiler the profiler to show
+     * @throws NullPointerException if profiler is null
+     */
+    public ProfilerOverlay(final FrameProfiler profiler) {
+        this.profiler = Objects.requireNonNull(profiler, "The profiler cannot be null");
+    }
+
+    /**
+     * Draws the overlay in the top-left corner if it is visible.
+     *
+     * @param g the graphics context to draw on
+     */
+    public void draw(final Graphics2D g) {
+        if (!this.profiler.isOverlayVisible()) {
+            return;
+        }
+        final Phase[] phases = Phase.values();
+        final int height = (phases.length + 2) * LINE_HEIGHT + GRAPH_HEIGHT + 2 * MARGIN;
+
+        g.setColor(BACKGROUND);
+        g.fillRect(0, 0, PANEL_WIDTH, height);
+        g.setFont(FONT);
+        g.setColor(Color.WHITE);
+
+        int y = MARGIN + LINE_HEIGHT;
+        g.drawString(String.format(Locale.ROOT, "%-14s%9s%9s%9s", "ms", "p50", "p95", "p99"), MARGIN, y);
+        for (final Phase phase : phases) {
+            y += LINE_HEIGHT;
+            g.drawString(String.format(Locale.ROOT, "%-14s%9.3f%9.3f%9.3f", phase.name(),
+                    millis(this.profiler.percentile(phase, P50)),
+                    millis(this.profiler.percentile(phase, P95)),
+                    millis(this.profiler.percentile(phase, P99))), MARGIN, y);
+        }
+
+        this.drawFrameGraph(g, y + LINE_HEIGHT);
+    }
+
+    private void drawFrameGraph(final Graphics2D g, final int top) {
+        final int bottom = top + GRAPH_HEIGHT;
+        final int samples = Math.min(GRAPH_SAMPLES, this.profiler.size(Phase.FRAME));
+
+        g.setColor(Color.GREEN);
+        for (int age = 0; age < samples; age++) {
+            final double ratio = Math.min(1.0, millis(this.profiler.sample(Phase.FRAME, age)) / GRAPH_SCALE_MILLIS);
+            final int x = MARGIN + GRAPH_SAMPLES - 1 - age;
+            g.drawLine(x, bottom, x, bottom - (int) (ratio * GRAPH_HEIGHT));
+        }
+
+        final int budgetY = bottom - (int) (FRAME_BUDGET_MILLIS / GRAPH_SCALE_MILLIS * GRAPH_HEIGHT);
+        g.setColor(BUDGET_COLOR);
+        g.drawLine(MARGIN, budgetY, MARGIN + GRAPH_SAMPLES, budgetY);
+    }
+
+    private static double millis(final long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,143 @@
+package it.unibo.coffebreak.impl.view.panel;
+
+import java.awt.Canvas;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.Toolkit;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.awt.image.BufferStrategy;
+import java.io.Serial;
+import java.util.Objects;
+
+import it.unibo.coffebreak.api.common.Loader;
+import it.unibo.coffebreak.api.controller.Controller;
+import it.unibo.coffebreak.api.view.panel.Panel;
+import it.unibo.coffebreak.impl.view.states.ViewStateManager;
+
+/**
+ * Game surface drawn with active rendering.
+ * <p>
+ * Instead of asking Swing to repaint, {@link #present()} draws the frame into
+ * a {@link BufferStrategy} and flips it straight away, on the thread that
+ * calls it, followed by {@link Toolkit#sync()} so that the frame actually
+ * reaches the display. Frames are therefore shown on the engine's schedule and
+ * never coalesced by the event dispatch thread.
+ * </p>
+ *
+ * @author Grazia Bochdanovits de Kavna
+ */
+public class GameCanvas extends Canvas implements Panel {
+
+    /**
+     * Number of buffers requested to the buffer strategy (triple buffering).
+     * The toolkit falls back to fewer buffers when page flipping is not
+     * available.
+     */
+    public static final int BUFFERS = 3;
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final transient ViewStateManager viewStates;
+    private volatile long presentLatency;
+
+    private GameCanvas(final Controller controller, final Loader loader) {
+        super();
+        Objects.requireNonNull(controller, "The controller cannot be null");
+        this.viewStates = new ViewStateManager(controller, loader);
+    }
+
+    /**
+     * Creates a GameCanvas associated with the given controller and sets up
+     * the KeyAdapter.
+     * <p>
+     * The canvas is set up once it is constructed, so that neither the
+     * toolkit nor the listener can reach it before its fields are assigned.
+     * </p>
+     *
+     * @param controller the controller to notify for input events
+     * @param loader     the resource loader for graphics
+     * @return the new canvas
+     * @throws NullPointerException if either argument is null
+     */
+    public static GameCanvas create(final Controller controller, final Loader loader) {
+        final GameCanvas canvas = new GameCanvas(controller, loader);
+        canvas.setIgnoreRepaint(true);
+        canvas.setFocusable(true);
+        canvas.addKeyListener(new KeyAdapter() {
+            @Override
+            public void keyPressed(final KeyEvent e) {
+                if (!canvas.viewStates.handleKey(e.getKeyCode())) {
+                    controller.keyPressed(e.getKeyCode());
+                }
+            }
+
+            @Override
+            public void keyReleased(final KeyEvent e) {
+                controller.keyReleased(e.getKeyCode());
+            }
+        });
+        return canvas;
+    }
+
+    /**
+     * Returns the preferred size of the canvas.
+     *
+     * @return the preferred size
+     */
+    @Override
+    public Dimension getPreferredSize() {
+        return GamePanel.screenRelativeSize();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final float deltaTime, final float alpha) {
+        this.viewStates.update(deltaTime, alpha);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Does nothing until the canvas is displayable, since a buffer strategy
+     * cannot be created before that.
+     * </p>
+     */
+    @Override
+    public void present() {
+        if (!this.isDisplayable()) {
+            return;
+        }
+        final long start = System.nanoTime();
+        if (this.getBufferStrategy() == null) {
+            this.createBufferStrategy(BUFFERS);
+        }
+        final BufferStrategy strategy = this.getBufferStrategy();
+
+        do {
+            do {
+                final Graphics2D g = (Graphics2D) strategy.getDrawGraphics();
+                try {
+                    this.viewStates.draw(g, getWidth(), getHeight());
+                } finally {
+                    g.dispose();
+                }
+            } while (strategy.contentsRestored());
+            strategy.show();
+        } while (strategy.contentsLost());
+
+        Toolkit.getDefaultToolkit().sync();
+        this.presentLatency = System.nanoTime() - start;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getPresentLatency() {
+        return this.presentLatency;
+    }
+}
@@ -5,7 +5,7 @@ import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.io.Serial;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.swing.JPanel;
 
@@ -17,15 +17,7 @@ import java.awt.event.KeyEvent;
 import it.unibo.coffebreak.api.common.Loader;
 import it.unibo.coffebreak.api.controller.Controller;
 import it.unibo.coffebreak.api.view.panel.Panel;
-import it.unibo.coffebreak.api.view.states.ViewState;
-import it.unibo.coffebreak.impl.model.states.gameover.GameOverModelState;
-import it.unibo.coffebreak.impl.model.states.ingame.InGameModelState;
-import it.unibo.coffebreak.impl.model.states.menu.MenuModelState;
-import it.unibo.coffebreak.impl.view.states.ingame.InGameView;
-import it.unibo.coffebreak.impl.model.states.pause.PauseModelState;
-import it.unibo.coffebreak.impl.view.states.gameover.GameOverView;
-import it.unibo.coffebreak.impl.view.states.menu.MenuView;
-import it.unibo.coffebreak.impl.view.states.pause.PauseView;
+import it.unibo.coffebreak.impl.view.states.ViewStateManager;
 
 /**
  * Resizable panel for game rendering, using double buffering to prevent
@@ -33,6 +25,12 @@ import it.unibo.coffebreak.impl.view.states.pause.PauseView;
  * This panel automatically adjusts the rendering area size to maintain a 10:16
  * aspect ratio and delegates drawing of game elements to the current view state.
  * Also handles keyboard input via KeyAdapter.
+ * <p>
+ * This is the passive rendering path: {@link #present()} only asks Swing to
+ * repaint, so the frame is drawn whenever the event dispatch thread gets to
+ * it. The delay between the request and the end of the paint is measured as
+ * the present latency.
+ * </p>
  * 
  * @author Grazia Bochdanovits de Kavna
  */
@@ -43,14 +41,9 @@ public class GamePanel extends JPanel implements Panel {
 
     @Serial
     private static final long serialVersionUID = 1L;
-    private transient Optional<ViewState> currentViewState = Optional.empty();
-    private final transient Controller controller;
-    private float deltaTime;
-
-    private final transient ViewState menuView;
-    private final transient ViewState inGameView;
-    private final transient ViewState pauseView;
-    private final transient ViewState gameOverView;
+    private final transient ViewStateManager viewStates;
+    private final AtomicLong pendingPresent = new AtomicLong();
+    private volatile long presentLatency;
 
     /**
      * Constructs a GamePanel associated with the given controller and sets up the
@@ -63,19 +56,17 @@ public class GamePanel extends JPanel implements Panel {
     public GamePanel(final Controller controller, final Loader loader) {
         super();
 
-        this.controller = Objects.requireNonNull(controller, "The controller cannot be null");
-
-        this.menuView = new MenuView(this.controller, loader);
-        this.inGameView = new InGameView(this.controller, loader);
-        this.pauseView = new PauseView(this.controller, loader);
-        this.gameOverView = new GameOverView(this.controller, loader);
+        Objects.requireNonNull(controller, "The controller cannot be null");
+        this.viewStates = new ViewStateManager(controller, loader);
 
         super.setFocusable(true);
 
         super.addKeyListener(new KeyAdapter() {
             @Override
             public void keyPressed(final KeyEvent e) {
-                controller.keyPressed(e.getKeyCode());
+                if (!viewStates.handleKey(e.getKeyCode())) {
+                    controller.keyPressed(e.getKeyCode());
+                }
             }
 
             @Override
@@ -104,8 +95,12 @@ public class GamePanel extends JPanel implements Panel {
     protected void paintComponent(final Graphics g) {
         super.paintComponent(g);
 
-        this.currentViewState
-                .ifPresent(viewState -> viewState.draw((Graphics2D) g, getWidth(), getHeight(), deltaTime));
+        this.viewStates.draw((Graphics2D) g, getWidth(), getHeight());
+
+        final long requested = this.pendingPresent.getAndSet(0L);
+        if (requested != 0L) {
+            this.presentLatency = System.nanoTime() - requested;
+        }
     }
 
     /**
@@ -115,6 +110,16 @@ public class GamePanel extends JPanel implements Panel {
      */
     @Override
     public Dimension getPreferredSize() {
+        return screenRelativeSize();
+    }
+
+    /**
+     * Computes the preferred size of a game surface: a fixed fraction of the
+     * screen with a 4:3 aspect ratio.
+     *
+     * @return the preferred size
+     */
+    static Dimension screenRelativeSize() {
         final Dimension screenSize = java.awt.Toolkit.getDefaultToolkit().getScreenSize();
 
         int width = (int) (screenSize.width * SCREEN_SCALE);
@@ -132,32 +137,32 @@ public class GamePanel extends JPanel implements Panel {
      * Updates the panel state and changes the view state if necessary.
      *
      * @param deltaTime time elapsed since the last update
+     * @param alpha     the interpolation factor between the last two simulation
+     *                  ticks
      */
     @Override
-    public void update(final float deltaTime) {
-        this.deltaTime = deltaTime;
-        final ViewState nextState = switch (this.controller.getGameState()) {
-            case final MenuModelState menu -> menuView;
-            case final InGameModelState inGame -> inGameView;
-            case final PauseModelState pause -> pauseView;
-            case final GameOverModelState gameOver -> gameOverView;
-            default -> null;
-        };
-
-        if (nextState != null && !this.currentViewState.map(nextState::equals).orElse(false)) {
-            this.setViewState(nextState);
-        }
+    public void update(final float deltaTime, final float alpha) {
+        this.viewStates.update(deltaTime, alpha);
     }
 
     /**
-     * Changes the current view state, calling onExit() and onEnter() as
-     * appropriate.
-     *
-     * @param newView the new view state to activate
+     * {@inheritDoc}
+     * <p>
+     * Repaint requests coalesced by Swing keep the time of the first one, so the
+     * measured latency includes the frames lost to coalescing.
+     * </p>
      */
-    private void setViewState(final ViewState newView) {
-        this.currentViewState.ifPresent(ViewState::onExit);
-        this.currentViewState = Optional.of(Objects.requireNonNull(newView, "The newView cannot be null"));
-        this.currentViewState.ifPresent(ViewState::onEnter);
+    @Override
+    public void present() {
+        this.pendingPresent.compareAndSet(0L, System.nanoTime());
+        this.repaint();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getPresentLatency() {
+        return this.presentLatency;
     }
 }
@@ -4,73 +4,75 @@ import java.awt.Color;
 import java.awt.Graphics2D;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
 import it.unibo.coffebreak.api.common.Loader;
-import it.unibo.coffebreak.api.model.entities.Entity;
-import it.unibo.coffebreak.api.model.entities.enemy.barrel.Barrel;
-import it.unibo.coffebreak.api.model.entities.enemy.fire.Fire;
-import it.unibo.coffebreak.api.model.entities.structure.Ladder;
-import it.unibo.coffebreak.api.model.entities.structure.Tank;
-import it.unibo.coffebreak.api.model.entities.npc.Princess;
-import it.unibo.coffebreak.api.model.entities.npc.Antagonist;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot.Kind;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot;
 import it.unibo.coffebreak.api.view.render.RenderManager;
 import it.unibo.coffebreak.api.view.render.entities.EntityRender;
 import it.unibo.coffebreak.api.view.sound.SoundManager;
-import it.unibo.coffebreak.impl.model.entities.collectible.coin.Coin;
-import it.unibo.coffebreak.impl.model.entities.collectible.hammer.Hammer;
-import it.unibo.coffebreak.impl.model.entities.mario.Mario;
-import it.unibo.coffebreak.impl.model.entities.npc.donkeykong.DonkeyKong;
-import it.unibo.coffebreak.impl.model.entities.npc.pauline.Pauline;
-import it.unibo.coffebreak.impl.model.entities.structure.platform.breakable.BreakablePlatform;
-import it.unibo.coffebreak.impl.model.entities.structure.platform.normal.NormalPlatform;
+import it.unibo.coffebreak.impl.common.Position;
+import it.unibo.coffebreak.impl.common.profiler.FrameProfiler.Phase;
+import it.unibo.coffebreak.impl.common.profiler.FrameProfiler;
+import it.unibo.coffebreak.impl.view.render.entities.collectible.coin.CoinRender;
+import it.unibo.coffebreak.impl.view.render.entities.collectible.hammer.HammerRender;
 import it.unibo.coffebreak.impl.view.render.entities.enemy.barrel.BarrelRender;
 import it.unibo.coffebreak.impl.view.render.entities.enemy.fire.FireRender;
 import it.unibo.coffebreak.impl.view.render.entities.mario.MarioRender;
+import it.unibo.coffebreak.impl.view.render.entities.npc.donkeykong.DonkeyKongRender;
+import it.unibo.coffebreak.impl.view.render.entities.npc.pauline.PaulineRender;
 import it.unibo.coffebreak.impl.view.render.entities.structure.ladder.LadderRender;
 import it.unibo.coffebreak.impl.view.render.entities.structure.platform.breakable.BreakablePlatformRender;
 import it.unibo.coffebreak.impl.view.render.entities.structure.platform.normal.NormalPlatformRender;
-import it.unibo.coffebreak.impl.view.render.entities.collectible.coin.CoinRender;
-import it.unibo.coffebreak.impl.view.render.entities.collectible.hammer.HammerRender;
 import it.unibo.coffebreak.impl.view.render.entities.structure.tank.TankRender;
-import it.unibo.coffebreak.impl.view.render.entities.npc.donkeykong.DonkeyKongRender;
-import it.unibo.coffebreak.impl.view.render.entities.npc.pauline.PaulineRender;
 
 /**
  * Implementation of {@link RenderManager} that manages the rendering process
  * for both static and dynamic game entities.
  * This class coordinates the drawing of all game elements in the proper order
- * and delegates the actual rendering to specialized renderers for each entity type.
+ * and delegates the actual rendering to specialized renderers for each entity kind.
  * 
  * <p>
  * The rendering process follows this sequence:
  * <ol>
  * <li>Clear the screen</li>
  * <li>Render static elements (background, level, etc.)</li>
- * <li>Render dynamic entities in the order they were added</li>
+ * <li>Render the structures (platforms and ladders), then the other
+ * entities, then Mario, each group in the order of the snapshot</li>
  * </ol>
  * </p>
  * 
+ * <p>
+ * Only immutable {@link EntitySnapshot}s are drawn, so rendering never reads
+ * the live model. Each entity is drawn at the position interpolated between
+ * the previous and the current simulation tick, by translating the graphics
+ * context before delegating to the specific renderer.
+ * </p>
+ * 
  * @author Grazia Bochdanovits de Kavna
  */
 public final class GameRenderManager implements RenderManager {
 
-    private final Map<Class<? extends Entity>, EntityRender> entityRender = new HashMap<>();
+    private final Map<Kind, EntityRender> entityRender = new EnumMap<>(Kind.class);
     private final Loader loader;
     private final SoundManager soundManager;
+    private final FrameProfiler profiler;
 
     /**
      * Constructs a new GameRenderManager with the specified loader.
      * 
      * @param loader       the loader used to load resources for entity renders
      * @param soundManager the audio manager responsible for playing Clips
+     * @param profiler     the profiler the drawing time is recorded in
      */
-    public GameRenderManager(final Loader loader, final SoundManager soundManager) {
+    public GameRenderManager(final Loader loader, final SoundManager soundManager, final FrameProfiler profiler) {
         this.loader = Objects.requireNonNull(loader, "The loader cannot be null");
         this.soundManager = Objects.requireNonNull(soundManager, "The loader cannot be null");
+        this.profiler = Objects.requireNonNull(profiler, "The profiler cannot be null");
         this.initRender();
     }
 
@@ -78,38 +80,58 @@ public final class GameRenderManager implements RenderManager {
      * {@inheritDoc}
      */
     @Override
-    public void render(final Graphics2D g, final List<Entity> entities, final int width, final int height,
-            final float deltaTime) {
+    public void render(final Graphics2D g, final List<EntitySnapshot> entities, final int width, final int height,
+            final float deltaTime, final float alpha) {
         Objects.requireNonNull(g, "Graphics context cannot be null");
         Objects.requireNonNull(entities, "Entities list cannot be null");
+        final long start = System.nanoTime();
 
         g.setColor(Color.BLACK);
         g.fillRect(0, 0, width, height);
 
-        final List<Entity> entitiesToRender = new ArrayList<>(entities);
-        entitiesToRender.sort(Comparator.comparingInt(e -> e instanceof Mario ? 1 : 0));
+        final List<EntitySnapshot> entitiesToRender = new ArrayList<>(entities);
+        entitiesToRender.sort(Comparator.comparingInt(GameRenderManager::layerOf));
 
         entitiesToRender.forEach(entity -> {
-            entityRender.entrySet().stream()
-                    .filter(entry -> entry.getKey().isInstance(entity))
-                    .findFirst()
-                    .ifPresent(entry -> entry.getValue().draw(g, entity, deltaTime, width, height));
+            final EntityRender render = this.entityRender.get(entity.kind());
+            if (render == null) {
+                return;
+            }
+            final Position current = entity.position();
+            final Position previous = entity.previousPosition();
+            final double offsetX = (previous.x() - current.x()) * (1f - alpha);
+            final double offsetY = (previous.y() - current.y()) * (1f - alpha);
+
+            g.translate(offsetX, offsetY);
+            render.draw(g, entity, deltaTime, width, height);
+            g.translate(-offsetX, -offsetY);
         });
+        this.profiler.stop(Phase.RENDER, start);
     }
 
     private void initRender() {
-        this.entityRender.put(Coin.class, new CoinRender(loader));
-        this.entityRender.put(Hammer.class, new HammerRender(loader));
-        this.entityRender.put(Barrel.class, new BarrelRender(loader));
-        this.entityRender.put(Fire.class, new FireRender(loader));
-        this.entityRender.put(Mario.class, new MarioRender(loader, soundManager));
-        this.entityRender.put(Pauline.class, new PaulineRender(loader));
-        this.entityRender.put(DonkeyKong.class, new DonkeyKongRender(loader));
-        this.entityRender.put(Princess.class, new PaulineRender(loader));
-        this.entityRender.put(Antagonist.class, new DonkeyKongRender(loader));
-        this.entityRender.put(Ladder.class, new LadderRender(loader));
-        this.entityRender.put(NormalPlatform.class, new NormalPlatformRender(loader));
-        this.entityRender.put(BreakablePlatform.class, new BreakablePlatformRender(loader));
-        this.entityRender.put(Tank.class, new TankRender(loader));
+        this.entityRender.put(Kind.COIN, new CoinRender(loader));
+        this.entityRender.put(Kind.HAMMER, new HammerRender(loader));
+        this.entityRender.put(Kind.BARREL, new BarrelRender(loader));
+        this.entityRender.put(Kind.FIRE, new FireRender(loader));
+        this.entityRender.put(Kind.MARIO, new MarioRender(loader, soundManager));
+        this.entityRender.put(Kind.PRINCESS, new PaulineRender(loader));
+        this.entityRender.put(Kind.ANTAGONIST, new DonkeyKongRender(loader));
+        this.entityRender.put(Kind.LADDER, new LadderRender(loader));
+        this.entityRender.put(Kind.PLATFORM, new NormalPlatformRender(loader));
+        this.entityRender.put(Kind.BREAKABLE_PLATFORM, new BreakablePlatformRender(loader));
+        this.entityRender.put(Kind.TANK, new TankRender(loader));
+    }
+
+    /**
+     * Draws the structures below the entities moving over them, whatever the
+     * order of the entities in the level.
+     */
+    private static int layerOf(final EntitySnapshot entity) {
+        return switch (entity.kind()) {
+            case PLATFORM, BREAKABLE_PLATFORM, LADDER -> 0;
+            case MARIO -> 2;
+            default -> 1;
+        };
     }
 }
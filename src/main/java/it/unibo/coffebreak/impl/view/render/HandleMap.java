@@ -0,0 +1,84 @@
+package it.unibo.coffebreak.impl.view.render;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import it.unibo.coffebreak.api.model.entities.EntityHandle;
+
+/**
+ * Per-entity values keyed by {@link EntityHandle}, for the components that
+ * follow the entities from outside the model, such as the renderers.
+ * <p>
+ * Values are stored in an array indexed by the slot of the handle, along with
+ * the generation they belong to. A value left by an entity that is gone is
+ * replaced as soon as the next entity of the same slot is looked up, so the
+ * map never holds more values than the level held entities at once, and never
+ * needs to be told which entities left. {@link EntityHandle#NONE} has a slot
+ * of its own.
+ * </p>
+ *
+ * @param <V> the type of the values
+ *
+ * @author Alessandro Rebosio
+ */
+public final class HandleMap<V> {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private int[] generations = new int[INITIAL_CAPACITY];
+
+    /**
+     * @param handle the handle of the entity
+     * @return the value stored for the entity, or null if there is none
+     * @throws NullPointerException     if handle is null
+     * @throws IllegalArgumentException if handle has a negative index other
+     *                                  than the one of {@link EntityHandle#NONE}
+     */
+    @SuppressWarnings("unchecked")
+    public V get(final EntityHandle handle) {
+        final int slot = slotOf(handle);
+        return slot < this.values.length && this.generations[slot] == handle.generation()
+                ? (V) this.values[slot]
+                : null;
+    }
+
+    /**
+     * Returns the value stored for the entity, storing a new one first if
+     * there is none or if the stored one belonged to an older generation.
+     *
+     * @param handle  the handle of the entity
+     * @param factory creates the value of a new entity
+     * @return the value of the entity
+     * @throws NullPointerException     if handle or factory are null, or if
+     *                                  factory returns null
+     * @throws IllegalArgumentException if handle has a negative index other
+     *                                  than the one of {@link EntityHandle#NONE}
+     */
+    public V computeIfAbsent(final EntityHandle handle, final Supplier<? extends V> factory) {
+        Objects.requireNonNull(factory, "The factory cannot be null");
+        final V current = this.get(handle);
+        if (current != null) {
+            return current;
+        }
+        final int slot = slotOf(handle);
+        if (slot >= this.values.length) {
+            final int capacity = Math.max(slot + 1, this.values.length * 2);
+            this.values = Arrays.copyOf(this.values, capacity);
+            this.generations = Arrays.copyOf(this.generations, capacity);
+        }
+        final V value = Objects.requireNonNull(factory.get(), "The value cannot be null");
+        this.values[slot] = value;
+        this.generations[slot] = handle.generation();
+        return value;
+    }
+
+    private static int slotOf(final EntityHandle handle) {
+        final int index = Objects.requireNonNull(handle, "The handle cannot be null").index();
+        if (index < EntityHandle.NONE.index()) {
+            throw new IllegalArgumentException("The handle was not issued: " + handle);
+        }
+        return index - EntityHandle.NONE.index();
+    }
+}
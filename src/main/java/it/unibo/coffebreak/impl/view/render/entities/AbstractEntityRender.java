@@ -9,7 +9,7 @@ import java.util.Objects;
 import java.util.stream.IntStream;
 
 import it.unibo.coffebreak.api.common.Loader;
-import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot;
 import it.unibo.coffebreak.api.view.render.entities.EntityRender;
 
 /**
@@ -46,7 +46,7 @@ public abstract class AbstractEntityRender implements EntityRender {
      * {@inheritDoc}
      */
     @Override
-    public void draw(final Graphics2D g, final Entity entity, final float deltaTime,
+    public void draw(final Graphics2D g, final EntitySnapshot entity, final float deltaTime,
                      final int width, final int height) {
     }
 
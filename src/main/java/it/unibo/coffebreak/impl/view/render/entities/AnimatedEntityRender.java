@@ -1,13 +1,12 @@
 package it.unibo.coffebreak.impl.view.render.entities;
 
 import java.awt.image.BufferedImage;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 
 import it.unibo.coffebreak.api.common.Loader;
-import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot;
 import it.unibo.coffebreak.api.view.render.entities.AnimatedRender;
+import it.unibo.coffebreak.impl.view.render.HandleMap;
 
 /**
  * Abstract base class for rendering animated entities with sprite sheet animations.
@@ -25,8 +24,8 @@ import it.unibo.coffebreak.api.view.render.entities.AnimatedRender;
  */
 public abstract class AnimatedEntityRender<T extends Enum<T>>  extends AbstractEntityRender implements AnimatedRender<T> {
 
-    /** Map tracking animation states for each entity. */
-    private final Map<Entity, AnimationState<T>> animationStates = new HashMap<>();
+    /** Animation state of each entity, dropped once the entity is gone. */
+    private final HandleMap<AnimationState<T>> animationStates = new HandleMap<>();
 
     /**
      * Constructs a new AnimatedEntityRender with the specified resource loader.
@@ -47,14 +46,14 @@ public abstract class AnimatedEntityRender<T extends Enum<T>>  extends AbstractE
      * @return the current frame image to render
      */
     @Override
-    public BufferedImage updateAndGetFrame(final Entity entity, final T animationType,
+    public BufferedImage updateAndGetFrame(final EntitySnapshot entity, final T animationType,
             final AnimationInfo info, final float deltaTime) {
 
         Objects.requireNonNull(entity, "Entity cannot be null");
         Objects.requireNonNull(animationType, "AnimationType cannot be null");
         Objects.requireNonNull(info, "AnimationInfo cannot be null");
 
-        final AnimationState<T> state = animationStates.computeIfAbsent(entity, e -> new AnimationState<>());
+        final AnimationState<T> state = animationStates.computeIfAbsent(entity.key(), () -> new AnimationState<>());
 
         if (state.currentAnimation == null || !state.currentAnimation.equals(animationType)) {
             state.currentAnimation = animationType;
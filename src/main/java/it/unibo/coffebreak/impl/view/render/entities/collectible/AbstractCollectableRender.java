@@ -3,8 +3,7 @@ package it.unibo.coffebreak.impl.view.render.entities.collectible;
 import java.awt.Graphics2D;
 
 import it.unibo.coffebreak.api.common.Loader;
-import it.unibo.coffebreak.api.model.entities.Entity;
-import it.unibo.coffebreak.api.model.entities.collectible.Collectible;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot;
 import it.unibo.coffebreak.impl.view.render.entities.AbstractEntityRender;
 
 /**
@@ -35,9 +34,9 @@ public abstract class AbstractCollectableRender extends AbstractEntityRender {
      * {@inheritDoc}
      */
     @Override
-    public void draw(final Graphics2D g, final Entity entity, final float deltaTime, final int width,
+    public void draw(final Graphics2D g, final EntitySnapshot entity, final float deltaTime, final int width,
             final int height) {
-        if (entity instanceof final Collectible collectable && !collectable.isCollected()) {
+        if (!entity.has(EntitySnapshot.DESTROYED)) {
             this.renderCollectable(g, entity, deltaTime, width, height);
             super.draw(g, entity, deltaTime, width, height);
         }
@@ -56,5 +55,5 @@ public abstract class AbstractCollectableRender extends AbstractEntityRender {
      * @param width     the width available for rendering the entity
      * @param height    the height available for rendering the entity
      */
-    protected abstract void renderCollectable(Graphics2D g, Entity entity, float deltaTime, int width, int height);
+    protected abstract void renderCollectable(Graphics2D g, EntitySnapshot entity, float deltaTime, int width, int height);
 }
@@ -2,13 +2,12 @@ package it.unibo.coffebreak.impl.view.render.entities.collectible.coin;
 
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
-import java.util.HashMap;
-import java.util.Map;
 
 import it.unibo.coffebreak.api.common.Loader;
-import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot.Kind;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot;
 import it.unibo.coffebreak.api.view.render.entities.AnimatedRender;
-import it.unibo.coffebreak.impl.model.entities.collectible.coin.Coin;
+import it.unibo.coffebreak.impl.view.render.HandleMap;
 import it.unibo.coffebreak.impl.view.render.entities.collectible.AbstractCollectableRender;
 
 /**
@@ -29,7 +28,7 @@ public class CoinRender extends AbstractCollectableRender implements AnimatedRen
         6, FRAME_WIDTH, FRAME_HEIGHT, X_OFFSET, Y_OFFSET, 0, 0.1f);
 
     private final BufferedImage coinSheet;
-    private final Map<Entity, AnimationState> animationStates = new HashMap<>();
+    private final HandleMap<AnimationState> animationStates = new HandleMap<>();
 
     /**
      * Constructs a new Coin with the specified screen dimensions.
@@ -46,9 +45,9 @@ public class CoinRender extends AbstractCollectableRender implements AnimatedRen
      * {@inheritDoc}
      */
     @Override
-    protected void renderCollectable(final Graphics2D g, final Entity entity, 
+    protected void renderCollectable(final Graphics2D g, final EntitySnapshot entity, 
                                    final float deltaTime, final int width, final int height) {
-        if (!(entity instanceof Coin)) {
+        if (!(entity.kind() == Kind.COIN)) {
             return;
         }
 
@@ -56,10 +55,10 @@ public class CoinRender extends AbstractCollectableRender implements AnimatedRen
 
         g.drawImage(
             frame,
-            (int) entity.getPosition().x(),
-            (int) entity.getPosition().y(),
-            entity.getDimension().width(),
-            entity.getDimension().height(),
+            (int) entity.position().x(),
+            (int) entity.position().y(),
+            entity.dimension().width(),
+            entity.dimension().height(),
             null
         );
     }
@@ -68,9 +67,9 @@ public class CoinRender extends AbstractCollectableRender implements AnimatedRen
      * {@inheritDoc}
      */
     @Override
-    public BufferedImage updateAndGetFrame(final Entity entity, final CoinAnimationType animationType, 
+    public BufferedImage updateAndGetFrame(final EntitySnapshot entity, final CoinAnimationType animationType, 
                                                             final AnimationInfo info, final float deltaTime) {
-        final AnimationState state = animationStates.computeIfAbsent(entity, e -> new AnimationState());
+        final AnimationState state = animationStates.computeIfAbsent(entity.key(), () -> new AnimationState());
 
         state.elapsedTime += deltaTime;
 
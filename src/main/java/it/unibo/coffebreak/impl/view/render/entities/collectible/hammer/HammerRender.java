@@ -4,8 +4,8 @@ import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 
 import it.unibo.coffebreak.api.common.Loader;
-import it.unibo.coffebreak.api.model.entities.Entity;
-import it.unibo.coffebreak.impl.model.entities.collectible.hammer.Hammer;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot.Kind;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot;
 import it.unibo.coffebreak.impl.view.render.entities.collectible.AbstractCollectableRender;
 
 /**
@@ -33,17 +33,17 @@ public class HammerRender extends AbstractCollectableRender {
      * {@inheritDoc}
      */
     @Override
-    protected void renderCollectable(final Graphics2D g, final Entity entity, final float deltaTime, final int width,
+    protected void renderCollectable(final Graphics2D g, final EntitySnapshot entity, final float deltaTime, final int width,
             final int height) {
-        if (entity instanceof Hammer) {
+        if (entity.kind() == Kind.HAMMER) {
             final BufferedImage spriteSheet = getSpriteSheet();
             if (spriteSheet != null) {
                 g.drawImage(
                         spriteSheet,
-                        (int) entity.getPosition().x(),
-                        (int) entity.getPosition().y(),
-                        (int) entity.getPosition().x() + entity.getDimension().width(),
-                        (int) entity.getPosition().y() + entity.getDimension().height(),
+                        (int) entity.position().x(),
+                        (int) entity.position().y(),
+                        (int) entity.position().x() + entity.dimension().width(),
+                        (int) entity.position().y() + entity.dimension().height(),
                         HAMMER_X, HAMMER_Y, HAMMER_X + HAMMER_SIZE, HAMMER_Y + HAMMER_SIZE, null);
             }
         }
@@ -3,8 +3,7 @@ package it.unibo.coffebreak.impl.view.render.entities.enemy;
 import java.awt.Graphics2D;
 
 import it.unibo.coffebreak.api.common.Loader;
-import it.unibo.coffebreak.api.model.entities.Entity;
-import it.unibo.coffebreak.api.model.entities.enemy.Enemy;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot;
 import it.unibo.coffebreak.impl.view.render.entities.AnimatedEntityRender;
 import it.unibo.coffebreak.impl.view.render.entities.enemy.AbstractEnemyRender.EnemyAnimationType;
 
@@ -34,9 +33,9 @@ public abstract class AbstractEnemyRender extends AnimatedEntityRender<EnemyAnim
      * {@inheritDoc}
      */
     @Override
-    public void draw(final Graphics2D g, final Entity entity, final float deltaTime, final int width,
+    public void draw(final Graphics2D g, final EntitySnapshot entity, final float deltaTime, final int width,
             final int height) {
-        if (entity instanceof final Enemy enemy && !enemy.isDestroyed()) {
+        if (!entity.has(EntitySnapshot.DESTROYED)) {
             this.renderEnemy(g, entity, deltaTime, width, height);
         }
     }
@@ -55,7 +54,7 @@ public abstract class AbstractEnemyRender extends AnimatedEntityRender<EnemyAnim
      * @param width     the width available for rendering the entity
      * @param height    the height available for rendering the entity
      */
-    protected abstract void renderEnemy(Graphics2D g, Entity entity, float deltaTime, int width, int height);
+    protected abstract void renderEnemy(Graphics2D g, EntitySnapshot entity, float deltaTime, int width, int height);
 
     /**
      * Enumeration of possible enemy animation types.
@@ -2,11 +2,11 @@ package it.unibo.coffebreak.impl.view.render.entities.enemy.barrel;
 
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
-import java.util.HashMap;
 import java.util.Map;
 
 import it.unibo.coffebreak.api.common.Loader;
-import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot;
+import it.unibo.coffebreak.impl.view.render.HandleMap;
 import it.unibo.coffebreak.impl.view.render.entities.enemy.AbstractEnemyRender;
 
 /**
@@ -27,7 +27,7 @@ public class BarrelRender extends AbstractEnemyRender {
         EnemyAnimationType.ROLL,   new AnimationInfo(4, SIZE, SIZE, X_OFFSET, Y_OFFSET_ROLL, SPACING, 0.15f)
     );
 
-    private final Map<Entity, BarrelAnimationStatus> animationStates = new HashMap<>();
+    private final HandleMap<BarrelAnimationStatus> animationStates = new HandleMap<>();
 
     /**
      * Constructs a new BarrelRender with the specified resource loader and screen
@@ -44,10 +44,10 @@ public class BarrelRender extends AbstractEnemyRender {
      * {@inheritDoc}
      */
     @Override
-    protected void renderEnemy(final Graphics2D g, final Entity entity, final float deltaTime,
+    protected void renderEnemy(final Graphics2D g, final EntitySnapshot entity, final float deltaTime,
                             final int width, final int height) {
 
-        final BarrelAnimationStatus status = animationStates.computeIfAbsent(entity, e -> new BarrelAnimationStatus());
+        final BarrelAnimationStatus status = animationStates.computeIfAbsent(entity.key(), () -> new BarrelAnimationStatus());
 
         status.time += deltaTime;
 
@@ -62,10 +62,10 @@ public class BarrelRender extends AbstractEnemyRender {
 
         g.drawImage(
             frame,
-            (int) entity.getPosition().x(),
-            (int) entity.getPosition().y(),
-            entity.getDimension().width(),
-            entity.getDimension().height(),
+            (int) entity.position().x(),
+            (int) entity.position().y(),
+            entity.dimension().width(),
+            entity.dimension().height(),
             null
         );
     }
@@ -4,7 +4,7 @@ import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 
 import it.unibo.coffebreak.api.common.Loader;
-import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot;
 import it.unibo.coffebreak.impl.view.render.entities.enemy.AbstractEnemyRender;
 
 /**
@@ -36,15 +36,15 @@ public class FireRender extends AbstractEnemyRender {
      * {@inheritDoc}
      */
     @Override
-    protected void renderEnemy(final Graphics2D g, final Entity entity, final float deltaTime, final int width,
+    protected void renderEnemy(final Graphics2D g, final EntitySnapshot entity, final float deltaTime, final int width,
             final int height) {
         final BufferedImage frame = updateAndGetFrame(entity, EnemyAnimationType.ROLL, ANIMATION, deltaTime);
         g.drawImage(
             frame,
-            (int) entity.getPosition().x(),
-            (int) entity.getPosition().y(),
-            entity.getDimension().width(),
-            entity.getDimension().height(),
+            (int) entity.position().x(),
+            (int) entity.position().y(),
+            entity.dimension().width(),
+            entity.dimension().height(),
             null
         );
     }
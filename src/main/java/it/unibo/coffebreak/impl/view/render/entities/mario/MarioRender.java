@@ -8,12 +8,11 @@ import java.util.Objects;
 import java.util.function.Predicate;
 
 import it.unibo.coffebreak.api.common.Loader;
-import it.unibo.coffebreak.api.model.entities.Entity;
-import it.unibo.coffebreak.api.model.entities.character.MainCharacter;
-import it.unibo.coffebreak.api.view.sound.SoundManager;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot.Kind;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot;
 import it.unibo.coffebreak.api.view.sound.SoundManager.Event;
+import it.unibo.coffebreak.api.view.sound.SoundManager;
 import it.unibo.coffebreak.impl.model.entities.mario.Mario;
-import it.unibo.coffebreak.impl.model.entities.mario.states.withhammer.WithHammerState;
 import it.unibo.coffebreak.impl.view.render.entities.AnimatedEntityRender;
 import it.unibo.coffebreak.impl.view.sound.GameSoundManager;
 
@@ -84,24 +83,24 @@ public final class MarioRender extends AnimatedEntityRender<MarioRender.MarioAni
      * {@inheritDoc}
      */
     @Override
-    public void draw(final Graphics2D g, final Entity entity, final float deltaTime,
+    public void draw(final Graphics2D g, final EntitySnapshot entity, final float deltaTime,
             final int width, final int height) {
-        if (!(entity instanceof final Mario mario)) {
+        if (entity.kind() != Kind.MARIO) {
             return;
         }
 
-        final MarioAnimationType animation = resolveAnimationType(mario);
+        final MarioAnimationType animation = resolveAnimationType(entity);
 
         handleSoundForAnimation(animation);
 
-        if (mario.didDesoyedEnemy()) {
+        if (entity.has(EntitySnapshot.DESTROYED_ENEMY)) {
             soundManager.play(Event.POWER_UP);
         }
 
-        final BufferedImage frame = getMarioFrame(mario, animation, deltaTime);
+        final BufferedImage frame = getMarioFrame(entity, animation, deltaTime);
 
-        final int baseWidth = mario.getDimension().width();
-        final int baseHeight = mario.getDimension().height();
+        final int baseWidth = entity.dimension().width();
+        final int baseHeight = entity.dimension().height();
 
         final int drawWidth = animation == MarioAnimationType.HAMMER ? baseWidth * 2 : baseWidth;
         final int drawHeight = animation == MarioAnimationType.HAMMER ? baseHeight * 2 : baseHeight;
@@ -111,31 +110,31 @@ public final class MarioRender extends AnimatedEntityRender<MarioRender.MarioAni
 
         g.drawImage(
                 frame,
-                (int) mario.getPosition().x() - offsetX,
-                (int) mario.getPosition().y() - offsetY,
+                (int) entity.position().x() - offsetX,
+                (int) entity.position().y() - offsetY,
                 drawWidth,
                 drawHeight,
                 null);
     }
 
-    private BufferedImage getMarioFrame(final MainCharacter mario, final MarioAnimationType animation,
+    private BufferedImage getMarioFrame(final EntitySnapshot mario, final MarioAnimationType animation,
             final float deltaTime) {
         final BufferedImage frame = updateAndGetFrame(mario, animation, ANIMATIONS.get(animation), deltaTime);
-        return mario.isFacingRight() ? frame : flipImageHorizontally(frame);
+        return mario.has(EntitySnapshot.FACING_RIGHT) ? frame : flipImageHorizontally(frame);
     }
 
     /**
      * Determines the appropriate animation type based on Mario's current state.
      *
-     * @param mario the Mario character to evaluate
+     * @param mario the snapshot of the Mario character to evaluate
      * @return the appropriate MarioAnimationType for the current state
      */
-    private MarioAnimationType resolveAnimationType(final MainCharacter mario) {
-        final List<Map.Entry<Predicate<MainCharacter>, MarioAnimationType>> conditions = List.of(
-                Map.entry(m -> m.getCurrentState() instanceof WithHammerState, MarioAnimationType.HAMMER),
-                Map.entry(m -> m.isClimbing(), MarioAnimationType.CLIMB),
-                Map.entry(MainCharacter::isJumping, MarioAnimationType.JUMP),
-                Map.entry(m -> Math.abs(m.getVelocity().x()) > 0.0f, MarioAnimationType.WALK));
+    private MarioAnimationType resolveAnimationType(final EntitySnapshot mario) {
+        final List<Map.Entry<Predicate<EntitySnapshot>, MarioAnimationType>> conditions = List.of(
+                Map.entry(m -> m.has(EntitySnapshot.HAMMER), MarioAnimationType.HAMMER),
+                Map.entry(m -> m.has(EntitySnapshot.CLIMBING), MarioAnimationType.CLIMB),
+                Map.entry(m -> m.has(EntitySnapshot.JUMPING), MarioAnimationType.JUMP),
+                Map.entry(m -> m.has(EntitySnapshot.WALKING), MarioAnimationType.WALK));
 
         return conditions.stream()
                 .filter(entry -> entry.getKey().test(mario))
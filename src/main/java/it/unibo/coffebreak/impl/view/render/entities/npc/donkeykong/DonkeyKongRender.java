@@ -5,8 +5,8 @@ import java.awt.image.BufferedImage;
 import java.util.Map;
 
 import it.unibo.coffebreak.api.common.Loader;
-import it.unibo.coffebreak.api.model.entities.Entity;
-import it.unibo.coffebreak.api.model.entities.npc.Antagonist;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot.Kind;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot;
 import it.unibo.coffebreak.impl.view.render.entities.AnimatedEntityRender;
 
 /**
@@ -46,13 +46,13 @@ public final class DonkeyKongRender extends AnimatedEntityRender<DonkeyKongRende
      * {@inheritDoc}
      */
     @Override
-    public void draw(final Graphics2D g, final Entity entity, final float deltaTime, 
+    public void draw(final Graphics2D g, final EntitySnapshot entity, final float deltaTime, 
                     final int width, final int height) {
-        if (!(entity instanceof Antagonist dk)) {
+        if (entity.kind() != Kind.ANTAGONIST) {
             return;
         }
 
-        if (dk.isThrowing()) {
+        if (entity.has(EntitySnapshot.THROWING)) {
             if (animationStatus.current != DKAnimationType.THROW) {
                 animationStatus.current = DKAnimationType.THROW;
                 animationStatus.time = 0f;
@@ -66,16 +66,16 @@ public final class DonkeyKongRender extends AnimatedEntityRender<DonkeyKongRende
         }
 
         final AnimationInfo animationInfo = ANIMATIONS.get(animationStatus.current);
-        final BufferedImage frame = updateAndGetFrame(dk, animationStatus.current, animationInfo, deltaTime);
+        final BufferedImage frame = updateAndGetFrame(entity, animationStatus.current, animationInfo, deltaTime);
 
         animationStatus.time += deltaTime;
 
         g.drawImage(
             frame,
-            (int) dk.getPosition().x(),
-            (int) dk.getPosition().y(),
-            dk.getDimension().width(),
-            dk.getDimension().height(),
+            (int) entity.position().x(),
+            (int) entity.position().y(),
+            entity.dimension().width(),
+            entity.dimension().height(),
             null
         );
     }
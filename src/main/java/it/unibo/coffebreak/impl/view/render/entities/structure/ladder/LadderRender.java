@@ -4,8 +4,8 @@ import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 
 import it.unibo.coffebreak.api.common.Loader;
-import it.unibo.coffebreak.api.model.entities.Entity;
-import it.unibo.coffebreak.api.model.entities.structure.Ladder;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot.Kind;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot;
 import it.unibo.coffebreak.impl.view.render.entities.AbstractEntityRender;
 
 /**
@@ -34,16 +34,16 @@ public class LadderRender extends AbstractEntityRender {
      * {@inheritDoc}
      */
     @Override
-    public void draw(final Graphics2D g, final Entity entity, final float deltaTime, final int width, final int height) {
-        if (entity instanceof Ladder) {
+    public void draw(final Graphics2D g, final EntitySnapshot entity, final float deltaTime, final int width, final int height) {
+        if (entity.kind() == Kind.LADDER) {
             final BufferedImage spriteSheet = getSpriteSheet();
             if (spriteSheet != null) {
                 g.drawImage(
                         spriteSheet,
-                        (int) entity.getPosition().x(),
-                        (int) entity.getPosition().y(),
-                        (int) entity.getPosition().x() + entity.getDimension().width(),
-                        (int) entity.getPosition().y() + entity.getDimension().height(),
+                        (int) entity.position().x(),
+                        (int) entity.position().y(),
+                        (int) entity.position().x() + entity.dimension().width(),
+                        (int) entity.position().y() + entity.dimension().height(),
                         LADDER_X, LADDER_Y, LADDER_X + LADDER_WIDTH, LADDER_Y + LADDER_HEIGHT, null);
             }
         }
@@ -4,14 +4,13 @@ import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 
 import it.unibo.coffebreak.api.common.Loader;
-import it.unibo.coffebreak.api.model.entities.Entity;
-import it.unibo.coffebreak.api.model.entities.structure.Platform;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot;
 import it.unibo.coffebreak.impl.view.render.entities.AbstractEntityRender;
 
 /**
  * An abstract base class for rendering platform entities within the game.
  *
- * @see Platform
+ * @see it.unibo.coffebreak.api.model.entities.structure.Platform
  * @see AbstractEntityRender
  * 
  * @author Alessandro Rebosio
@@ -38,18 +37,18 @@ public abstract class AbstractPlatformRender extends AbstractEntityRender {
      * {@inheritDoc}
      */
     @Override
-    public void draw(final Graphics2D g, final Entity entity, final float deltaTime, final int width,
+    public void draw(final Graphics2D g, final EntitySnapshot entity, final float deltaTime, final int width,
             final int height) {
-        if (entity instanceof Platform) {
+        if (entity.kind().isPlatform()) {
             this.renderPlatform(g, entity, deltaTime, width, height);
             final BufferedImage spriteSheet = getSpriteSheet();
             if (spriteSheet != null) {
                 g.drawImage(
                         spriteSheet,
-                        (int) entity.getPosition().x(),
-                        (int) entity.getPosition().y(),
-                        (int) entity.getPosition().x() + entity.getDimension().width(),
-                        (int) entity.getPosition().y() + entity.getDimension().height(),
+                        (int) entity.position().x(),
+                        (int) entity.position().y(),
+                        (int) entity.position().x() + entity.dimension().width(),
+                        (int) entity.position().y() + entity.dimension().height(),
                         PLATFORM_X, PLATFORM_Y, PLATFORM_X + PLATFORM_WIDTH, PLATFORM_Y + PLATFORM_HEIGHT, null);
             }
         }
@@ -68,5 +67,5 @@ public abstract class AbstractPlatformRender extends AbstractEntityRender {
      * @param width     the width available for rendering the entity
      * @param height    the height available for rendering the entity
      */
-    protected abstract void renderPlatform(Graphics2D g, Entity entity, float deltaTime, int width, int height);
+    protected abstract void renderPlatform(Graphics2D g, EntitySnapshot entity, float deltaTime, int width, int height);
 }
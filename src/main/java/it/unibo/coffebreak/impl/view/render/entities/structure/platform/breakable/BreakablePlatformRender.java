@@ -4,8 +4,7 @@ import java.awt.Color;
 import java.awt.Graphics2D;
 
 import it.unibo.coffebreak.api.common.Loader;
-import it.unibo.coffebreak.api.model.entities.Entity;
-import it.unibo.coffebreak.api.model.entities.structure.Platform;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot;
 import it.unibo.coffebreak.impl.view.render.entities.structure.platform.AbstractPlatformRender;
 
 /**
@@ -29,15 +28,15 @@ public class BreakablePlatformRender extends AbstractPlatformRender {
      * {@inheritDoc}
      */
     @Override
-    protected void renderPlatform(final Graphics2D g, final Entity entity, final float deltaTime, final int width,
+    protected void renderPlatform(final Graphics2D g, final EntitySnapshot entity, final float deltaTime, final int width,
             final int height) {
-        if (entity instanceof final Platform platform && !platform.isBroken()) {
+        if (!entity.has(EntitySnapshot.DESTROYED)) {
             g.setColor(Color.YELLOW);
             g.drawRect(
-                    (int) entity.getPosition().x(),
-                    (int) entity.getPosition().y(),
-                    entity.getDimension().width(),
-                    entity.getDimension().height());
+                    (int) entity.position().x(),
+                    (int) entity.position().y(),
+                    entity.dimension().width(),
+                    entity.dimension().height());
         }
     }
 }
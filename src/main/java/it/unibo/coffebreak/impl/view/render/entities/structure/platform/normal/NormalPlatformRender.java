@@ -3,7 +3,7 @@ package it.unibo.coffebreak.impl.view.render.entities.structure.platform.normal;
 import java.awt.Graphics2D;
 
 import it.unibo.coffebreak.api.common.Loader;
-import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot;
 import it.unibo.coffebreak.impl.view.render.entities.structure.platform.AbstractPlatformRender;
 
 /**
@@ -27,7 +27,7 @@ public class NormalPlatformRender extends AbstractPlatformRender {
      * {@inheritDoc}
      */
     @Override
-    protected void renderPlatform(final Graphics2D g, final Entity entity, final float deltaTime, final int width,
+    protected void renderPlatform(final Graphics2D g, final EntitySnapshot entity, final float deltaTime, final int width,
             final int height) {
     }
 }
@@ -4,8 +4,8 @@ import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 
 import it.unibo.coffebreak.api.common.Loader;
-import it.unibo.coffebreak.api.model.entities.Entity;
-import it.unibo.coffebreak.api.model.entities.structure.Tank;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot.Kind;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot;
 import it.unibo.coffebreak.impl.view.render.entities.AnimatedEntityRender;
 
 /**
@@ -38,32 +38,32 @@ public class TankRender extends AnimatedEntityRender<TankRender.TankAnimationTyp
      * {@inheritDoc}
      */
     @Override
-    public void draw(final Graphics2D g, final Entity entity, final float deltaTime, final int width, final int height) {
-        if (entity instanceof final Tank tank) {
+    public void draw(final Graphics2D g, final EntitySnapshot entity, final float deltaTime, final int width, final int height) {
+        if (entity.kind() == Kind.TANK) {
             final BufferedImage spriteSheet = getSpriteSheet();
             if (spriteSheet != null) {
                 g.drawImage(
                     spriteSheet,
-                    (int) entity.getPosition().x(),
-                    (int) entity.getPosition().y(),
-                    (int) entity.getPosition().x() + entity.getDimension().width(),
-                    (int) entity.getPosition().y() + entity.getDimension().height(),
+                    (int) entity.position().x(),
+                    (int) entity.position().y(),
+                    (int) entity.position().x() + entity.dimension().width(),
+                    (int) entity.position().y() + entity.dimension().height(),
                     TANK_X, TANK_Y, TANK_X + SIZE, TANK_Y + SIZE,
                     null
                 );
 
-                if (tank.isActive()) {
+                if (entity.has(EntitySnapshot.ACTIVE)) {
                     final BufferedImage flame = updateAndGetFrame(entity, TankAnimationType.ACTIVE, FIRE_ANIMATION, deltaTime);
 
-                    final int flameX = (int) entity.getPosition().x();
-                    final int flameY = (int) entity.getPosition().y() - entity.getDimension().height();
+                    final int flameX = (int) entity.position().x();
+                    final int flameY = (int) entity.position().y() - entity.dimension().height();
 
                     g.drawImage(
                         flame,
-                        (int) entity.getPosition().x(),
-                        (int) entity.getPosition().y() - entity.getDimension().height(),
-                        flameX + entity.getDimension().width(),
-                        flameY + entity.getDimension().height(),
+                        (int) entity.position().x(),
+                        (int) entity.position().y() - entity.dimension().height(),
+                        flameX + entity.dimension().width(),
+                        flameY + entity.dimension().height(),
                         0, 0, flame.getWidth(), flame.getHeight(),
                         null
                     );
@@ -6,6 +6,7 @@ import java.util.Objects;
 
 import it.unibo.coffebreak.api.common.Loader;
 import it.unibo.coffebreak.api.controller.Controller;
+import it.unibo.coffebreak.api.model.snapshot.HudSnapshot;
 import it.unibo.coffebreak.api.view.sound.SoundManager;
 import it.unibo.coffebreak.api.view.states.ViewState;
 import it.unibo.coffebreak.impl.common.ResourceLoader;
@@ -91,25 +92,28 @@ public abstract class AbstractViewState implements ViewState {
 
     /**
      * {@inheritDoc}
-     * Subclasses must implement their own drawing logic.
+     * Subclasses must implement their own drawing logic. The scores and the
+     * level are read from the latest snapshot.
      */
     @Override
-    public void draw(final Graphics2D g, final int width, final int height, final float deltaTime) {
+    public void draw(final Graphics2D g, final int width, final int height, final float deltaTime,
+            final float alpha) {
 
         g.setColor(Color.BLACK);
         g.fillRect(0, 0, width, height);
         g.setFont(this.loader.loadFont(ResourceLoader.FONT_PATH).deriveFont(height * DERIVE));
 
+        final HudSnapshot hud = controller.getSnapshot().hud();
         drawCenteredText(g, "HIGH SCORE", width, (int) (height * TOP_HEIGHT), Color.RED);
         drawCenteredText(g, "1UP", width / 3, (int) (height * TOP_HEIGHT), Color.RED);
-        drawCenteredText(g, String.valueOf(controller.getHighestScore()), width, (int) (height * SCORE_HEIGHT),
+        drawCenteredText(g, String.valueOf(hud.highScore()), width, (int) (height * SCORE_HEIGHT),
                 Color.WHITE);
 
-        drawCenteredText(g, String.format("%06d", controller.getScoreValue()), width / 3,
+        drawCenteredText(g, String.format("%06d", hud.score()), width / 3,
                 (int) (height * SCORE_HEIGHT),
                 Color.WHITE);
 
-        drawCenteredText(g, "L = " + String.format("%02d", controller.getLevelIndex()), width + width * 2 / 3,
+        drawCenteredText(g, "L = " + String.format("%02d", hud.level()), width + width * 2 / 3,
                 (int) (height * SCORE_HEIGHT),
                 Color.BLUE);
     }
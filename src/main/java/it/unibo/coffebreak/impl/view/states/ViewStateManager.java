@@ -0,0 +1,117 @@
+package it.unibo.coffebreak.impl.view.states;
+
+import java.awt.Graphics2D;
+import java.util.Objects;
+import java.util.Optional;
+
+import it.unibo.coffebreak.api.common.Loader;
+import it.unibo.coffebreak.api.controller.Controller;
+import it.unibo.coffebreak.api.view.states.ViewState;
+import it.unibo.coffebreak.impl.view.overlay.ProfilerOverlay;
+import it.unibo.coffebreak.impl.view.states.gameover.GameOverView;
+import it.unibo.coffebreak.impl.view.states.ingame.InGameView;
+import it.unibo.coffebreak.impl.view.states.menu.MenuView;
+import it.unibo.coffebreak.impl.view.states.pause.PauseView;
+
+/**
+ * Keeps one {@link ViewState} per model state and tracks which one is active.
+ * <p>
+ * Shared by every drawing surface, so that the passive Swing panel and the
+ * actively rendered canvas switch screens in exactly the same way.
+ * </p>
+ *
+ * @author Grazia Bochdanovits de Kavna
+ */
+public final class ViewStateManager {
+
+    private final Controller controller;
+    private final ViewState menuView;
+    private final ViewState inGameView;
+    private final ViewState pauseView;
+    private final ViewState gameOverView;
+    private final ProfilerOverlay profilerOverlay;
+
+    private Optional<ViewState> currentViewState = Optional.empty();
+    private float deltaTime;
+    private float alpha;
+
+    /**
+     * Creates the view states for the given controller.
+     *
+     * @param controller the controller the views read the game data from
+     * @param loader     the resource loader for graphics
+     * @throws NullPointerException if either argument is null
+     */
+    public ViewStateManager(final Controller controller, final Loader loader) {
+        this.controller = Objects.requireNonNull(controller, "The controller cannot be null");
+        this.profilerOverlay = new ProfilerOverlay(this.controller.getProfiler());
+        this.menuView = new MenuView(this.controller, loader);
+        this.inGameView = new InGameView(this.controller, loader);
+        this.pauseView = new PauseView(this.controller, loader);
+        this.gameOverView = new GameOverView(this.controller, loader);
+    }
+
+    /**
+     * Stores the timing of the next frame and switches to the view state
+     * matching the screen of the latest snapshot, if it changed.
+     *
+     * @param deltaTime time elapsed since the last update
+     * @param alpha     the interpolation factor between the last two simulation
+     *                  ticks
+     */
+    public void update(final float deltaTime, final float alpha) {
+        this.deltaTime = deltaTime;
+        this.alpha = alpha;
+        final ViewState nextState = switch (this.controller.getSnapshot().screen()) {
+            case MENU -> menuView;
+            case IN_GAME -> inGameView;
+            case PAUSE -> pauseView;
+            case GAME_OVER -> gameOverView;
+            case OTHER -> null;
+        };
+
+        if (nextState != null && !this.currentViewState.map(nextState::equals).orElse(false)) {
+            this.setViewState(nextState);
+        }
+    }
+
+    /**
+     * Handles the keys reserved to the view, such as the one toggling the
+     * profiler overlay.
+     *
+     * @param keyCode the code of the pressed key
+     * @return true if the key was consumed and must not reach the controller
+     */
+    public boolean handleKey(final int keyCode) {
+        if (keyCode == ProfilerOverlay.TOGGLE_KEY) {
+            this.controller.getProfiler().toggleOverlay();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Draws the active view state, if any, with the timing of the last update,
+     * followed by the profiler overlay when it is visible.
+     *
+     * @param g      the graphics context to draw on
+     * @param width  the width of the drawing area
+     * @param height the height of the drawing area
+     */
+    public void draw(final Graphics2D g, final int width, final int height) {
+        this.currentViewState.ifPresent(viewState -> viewState.draw(g, width, height, deltaTime, alpha));
+        this.profilerOverlay.draw(g);
+    }
+
+    /**
+     * Changes the current view state, calling onExit() and onEnter() as
+     * appropriate.
+     *
+     * @param newView the new view state to activate
+     */
+    private void setViewState(final ViewState newView) {
+        this.currentViewState.ifPresent(ViewState::onExit);
+        this.currentViewState = Optional.of(Objects.requireNonNull(newView, "The newView cannot be null"));
+        this.currentViewState.ifPresent(ViewState::onEnter);
+    }
+}
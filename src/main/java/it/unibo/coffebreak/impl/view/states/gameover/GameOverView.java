@@ -49,10 +49,12 @@ public class GameOverView extends AbstractViewState {
      * @param width     the width of the window
      * @param height    the height of the window
      * @param deltaTime
+     * @param alpha
      */
     @Override
-    public void draw(final Graphics2D g, final int width, final int height, final float deltaTime) {
-        super.draw(g, width, height, deltaTime);
+    public void draw(final Graphics2D g, final int width, final int height, final float deltaTime,
+            final float alpha) {
+        super.draw(g, width, height, deltaTime, alpha);
 
         final Font titleFont = this.font.deriveFont(height * 0.05f);
         final Font subTitles = this.font.deriveFont(height * 0.02f);
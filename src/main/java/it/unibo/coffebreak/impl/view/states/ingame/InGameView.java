@@ -4,16 +4,19 @@ import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.geom.AffineTransform;
 import java.util.Comparator;
+import java.util.List;
 
 import it.unibo.coffebreak.api.common.Loader;
 import it.unibo.coffebreak.api.controller.Controller;
-import it.unibo.coffebreak.api.model.entities.Entity;
-import it.unibo.coffebreak.api.model.entities.structure.Platform;
+import it.unibo.coffebreak.api.model.entities.EntityHandle;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot.Kind;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot;
+import it.unibo.coffebreak.api.model.snapshot.WorldSnapshot;
 import it.unibo.coffebreak.api.view.render.RenderManager;
 import it.unibo.coffebreak.api.view.sound.SoundManager.Event;
 import it.unibo.coffebreak.impl.common.BoundigBox;
 import it.unibo.coffebreak.impl.common.Position;
-import it.unibo.coffebreak.impl.model.entities.mario.Mario;
+import it.unibo.coffebreak.impl.common.profiler.FrameProfiler.Phase;
 import it.unibo.coffebreak.impl.view.render.GameRenderManager;
 import it.unibo.coffebreak.impl.view.render.entities.mario.MarioRender;
 import it.unibo.coffebreak.impl.view.states.AbstractViewState;
@@ -24,6 +27,13 @@ import it.unibo.coffebreak.impl.view.states.AbstractViewState;
  * using a dedicated RenderManager.
  * 
  * <p>
+ * The world and the heads-up display are drawn from the latest
+ * {@link WorldSnapshot} published by the model, so this view can run on a
+ * different thread than the simulation without ever observing a half-updated
+ * tick.
+ * </p>
+ * 
+ * <p>
  * It extends {@link AbstractViewState} to inherit common view state
  * functionality and implements the game-specific rendering logic.
  * </p>
@@ -33,6 +43,7 @@ import it.unibo.coffebreak.impl.view.states.AbstractViewState;
 public class InGameView extends AbstractViewState {
 
     private final RenderManager renderManager;
+    private final MarioRender lifeIconRender;
 
     /**
      * Constructs an InGameView with the specified controller.
@@ -44,7 +55,8 @@ public class InGameView extends AbstractViewState {
      */
     public InGameView(final Controller controller, final Loader loader) {
         super(controller, loader);
-        this.renderManager = new GameRenderManager(loader, getSoundManager());
+        this.renderManager = new GameRenderManager(loader, getSoundManager(), controller.getProfiler());
+        this.lifeIconRender = new MarioRender(loader);
     }
 
     /**
@@ -59,9 +71,11 @@ public class InGameView extends AbstractViewState {
      * {@inheritDoc}
      */
     @Override
-    public void draw(final Graphics2D g, final int panelWidth, final int panelHeight, final float deltaTime) {
+    public void draw(final Graphics2D g, final int panelWidth, final int panelHeight, final float deltaTime,
+            final float alpha) {
+        final long start = System.nanoTime();
         final float marginRatio = 0.1f;
-        super.draw(g, panelWidth, panelHeight, deltaTime);
+        super.draw(g, panelWidth, panelHeight, deltaTime, alpha);
 
         final int marginHoriz = (int) (panelWidth * marginRatio);
         final int marginVert = (int) (panelHeight * marginRatio);
@@ -69,17 +83,22 @@ public class InGameView extends AbstractViewState {
         final int renderWidth = panelWidth - 2 * marginHoriz;
         final int renderHeight = panelHeight - 2 * marginVert;
 
-        getController().getEntities().stream()
-                .filter(Platform.class::isInstance)
-                .max(Comparator.comparingDouble(e -> e.getPosition().x() + e.getPosition().y()))
+        final WorldSnapshot snapshot = getController().getSnapshot();
+        final List<EntitySnapshot> entities = snapshot.entities();
+        final long worldStart = System.nanoTime();
+
+        entities.stream()
+                .filter(e -> e.kind().isPlatform())
+                .max(Comparator.comparingDouble(e -> e.position().x() + e.position().y()))
                 .ifPresentOrElse(
-                        platform -> renderGameWorld(g, platform, marginHoriz, marginVert, renderWidth, renderHeight,
-                                deltaTime),
+                        platform -> renderGameWorld(g, entities, platform, marginHoriz, marginVert, renderWidth,
+                                renderHeight, deltaTime, alpha),
                         () -> {
                         }
                 );
+        final long hudStart = System.nanoTime();
 
-        final int lives = getController().getCharacterLives();
+        final int lives = snapshot.hud().lives();
 
         final int marioIconSize = (int) (panelHeight * 0.03f);
         final BoundigBox scaledDimension = new BoundigBox(marioIconSize, marioIconSize);
@@ -96,8 +115,8 @@ public class InGameView extends AbstractViewState {
         for (int i = 0; i < lives; i++) {
             final int x = startX + i * (marioIconSize + spacing);
             final Position pos = new Position(x, marioY);
-            new MarioRender(getLoader()).draw(g, new Mario(pos, scaledDimension), deltaTime, panelWidth,
-                    panelHeight);
+            this.lifeIconRender.draw(g, new EntitySnapshot(EntityHandle.NONE, Kind.MARIO, pos, pos, scaledDimension,
+                    EntitySnapshot.FACING_RIGHT), deltaTime, panelWidth, panelHeight);
         }
 
         final int bonusLabelY = (int) (panelHeight * SCORE_HEIGHT) + (int) (panelHeight * 0.04f);
@@ -105,7 +124,9 @@ public class InGameView extends AbstractViewState {
         final int bonusX = panelWidth + panelWidth * 2 / 3;
 
         drawCenteredText(g, "BONUS", bonusX, bonusLabelY, Color.MAGENTA);
-        drawCenteredText(g, String.valueOf(getController().getBonusValue()), bonusX, bonusValueY, Color.WHITE);
+        drawCenteredText(g, String.valueOf(snapshot.hud().bonus()), bonusX, bonusValueY, Color.WHITE);
+
+        getController().getProfiler().record(Phase.HUD, worldStart - start + System.nanoTime() - hudStart);
     }
 
     /**
@@ -113,18 +134,22 @@ public class InGameView extends AbstractViewState {
      * scaling.
      * 
      * @param g            the graphics context
+     * @param entities     the snapshots of the entities to render
      * @param platform     the reference platform for calculating world bounds
      * @param marginHoriz  horizontal margin
      * @param marginVert   vertical margin
      * @param renderWidth  available width for rendering
      * @param renderHeight available height for rendering
      * @param deltaTime    time elapsed since last frame
+     * @param alpha        interpolation factor between the last two simulation
+     *                     ticks
      */
-    private void renderGameWorld(final Graphics2D g, final Entity platform, final int marginHoriz,
+    private void renderGameWorld(final Graphics2D g, final List<EntitySnapshot> entities,
+            final EntitySnapshot platform, final int marginHoriz,
             final int marginVert, final int renderWidth, final int renderHeight,
-            final float deltaTime) {
-        final double platformRight = platform.getPosition().x() + platform.getDimension().width();
-        final double platformBottom = platform.getPosition().y() + platform.getDimension().height();
+            final float deltaTime, final float alpha) {
+        final double platformRight = platform.position().x() + platform.dimension().width();
+        final double platformBottom = platform.position().y() + platform.dimension().height();
 
         final double scaleX = renderWidth / platformRight;
         final double scaleY = renderHeight / platformBottom;
@@ -140,8 +165,8 @@ public class InGameView extends AbstractViewState {
         g.translate(offsetX, offsetY);
         g.scale(scale, scale);
 
-        this.renderManager.render(g, getController().getEntities(), (int) platformRight, (int) platformBottom,
-                deltaTime);
+        this.renderManager.render(g, entities, (int) platformRight, (int) platformBottom,
+                deltaTime, alpha);
 
         g.setTransform(oldTransform);
     }
@@ -0,0 +1,113 @@
+package it.unibo.coffebreak.common.profiler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.coffebreak.impl.common.profiler.FrameProfiler;
+import it.unibo.coffebreak.impl.common.profiler.FrameProfiler.Phase;
+
+/**
+ * Test class for {@link FrameProfiler}.
+ *
+ * @author Alessandro Rebosio
+ */
+class TestFrameProfiler {
+
+    private static final int CAPACITY = 100;
+    private static final double P50 = 50;
+    private static final double P99 = 99;
+
+    private FrameProfiler profiler;
+
+    /**
+     * Creates a fresh profiler before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        profiler = new FrameProfiler(CAPACITY);
+    }
+
+    /**
+     * Tests that percentiles are computed over the stored samples.
+     */
+    @Test
+    void testPercentiles() {
+        assertEquals(0L, profiler.percentile(Phase.TICK, P50));
+        for (int i = CAPACITY; i > 0; i--) {
+            profiler.record(Phase.TICK, i);
+        }
+        assertEquals(CAPACITY, profiler.size(Phase.TICK));
+        assertEquals(CAPACITY / 2, profiler.percentile(Phase.TICK, P50));
+        assertEquals(P99, profiler.percentile(Phase.TICK, P99));
+        assertEquals(0, profiler.size(Phase.RENDER));
+        assertThrows(IllegalArgumentException.class, () -> profiler.percentile(Phase.TICK, -1));
+    }
+
+    /**
+     * Tests that the ring buffer keeps only the most recent samples.
+     */
+    @Test
+    void testRingBufferOverwritesOldest() {
+        for (int i = 0; i < CAPACITY * 2; i++) {
+            profiler.record(Phase.FRAME, i);
+        }
+        assertEquals(CAPACITY, profiler.size(Phase.FRAME));
+        assertEquals(CAPACITY * 2 - 1, profiler.sample(Phase.FRAME, 0));
+        assertEquals(CAPACITY, profiler.sample(Phase.FRAME, CAPACITY - 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> profiler.sample(Phase.FRAME, CAPACITY));
+
+        profiler.reset();
+        assertEquals(0, profiler.size(Phase.FRAME));
+    }
+
+    /**
+     * Tests the CSV layout: a header with every phase and one row per sample.
+     *
+     * @throws IOException never, the writer is in memory
+     */
+    @Test
+    void testWriteCsv() throws IOException {
+        profiler.record(Phase.INPUT, 1);
+        profiler.record(Phase.INPUT, 2);
+        profiler.record(Phase.TICK, 3);
+
+        final StringWriter out = new StringWriter();
+        profiler.writeCsv(out);
+        final String[] lines = out.toString().split(System.lineSeparator());
+
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("INPUT,TICK,"));
+        assertTrue(lines[1].startsWith("1,3,"));
+        assertTrue(lines[2].startsWith("2,,"));
+    }
+
+    /**
+     * Tests toggling of the overlay.
+     */
+    @Test
+    void testToggleOverlay() {
+        assertFalse(profiler.isOverlayVisible());
+        profiler.toggleOverlay();
+        assertTrue(profiler.isOverlayVisible());
+    }
+
+    /**
+     * Tests that the disabled profiler neither records nor shows its overlay.
+     */
+    @Test
+    void testDisabled() {
+        final FrameProfiler disabled = FrameProfiler.disabled();
+        disabled.record(Phase.TICK, 1);
+        disabled.toggleOverlay();
+        assertEquals(0, disabled.size(Phase.TICK));
+        assertFalse(disabled.isOverlayVisible());
+    }
+}
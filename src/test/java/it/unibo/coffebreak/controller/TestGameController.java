@@ -1,6 +1,7 @@
 package it.unibo.coffebreak.controller;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import java.util.List;
@@ -8,8 +9,8 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import it.unibo.coffebreak.api.model.entities.Entity;
 import it.unibo.coffebreak.api.model.leaderboard.entry.Entry;
+import it.unibo.coffebreak.api.model.snapshot.WorldSnapshot;
 import it.unibo.coffebreak.impl.common.ResourceLoader;
 import it.unibo.coffebreak.impl.controller.GameController;
 
@@ -59,12 +60,16 @@ class TestGameController {
     }
 
     /**
-     * Tests that getEntities returns a non-null list.
+     * Tests that getSnapshot returns a non-null snapshot, refreshed by each
+     * model update.
      */
     @Test
-    void testGetEntities() {
-        final List<Entity> entities = controller.getEntities();
-        assertNotNull(entities);
+    void testGetSnapshot() {
+        final WorldSnapshot before = controller.getSnapshot();
+        assertNotNull(before);
+        assertNotNull(before.entities());
+        controller.updateModel(DEFAULT_DELTA_TIME);
+        assertEquals(before.tick() + 1, controller.getSnapshot().tick());
     }
 
     /**
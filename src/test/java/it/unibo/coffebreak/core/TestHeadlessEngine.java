@@ -0,0 +1,81 @@
+package it.unibo.coffebreak.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.coffebreak.impl.common.ResourceLoader;
+import it.unibo.coffebreak.impl.controller.GameController;
+import it.unibo.coffebreak.impl.core.HeadlessEngine;
+import it.unibo.coffebreak.impl.model.states.ingame.InGameModelState;
+
+/**
+ * Unit tests for the {@link HeadlessEngine} class.
+ * 
+ * @author Alessandro Rebosio
+ */
+class TestHeadlessEngine {
+
+    private static final long TICKS = 600;
+    private static final long REPLAY_TICKS = 3000;
+    private static final long SEED = 42L;
+
+    private GameController controller;
+
+    /**
+     * Initializes a fresh controller before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        controller = new GameController(new ResourceLoader());
+    }
+
+    /**
+     * Tests that the engine runs exactly the requested number of ticks and
+     * reports a positive throughput.
+     */
+    @Test
+    void testRunsRequestedTicks() {
+        final HeadlessEngine engine = new HeadlessEngine(controller, TICKS);
+        engine.run();
+
+        assertEquals(TICKS, engine.getExecutedTicks());
+        assertTrue(engine.getTicksPerSecond() > 0);
+    }
+
+    /**
+     * Tests that the engine leaves the main menu and starts playing.
+     */
+    @Test
+    void testStartsTheGame() {
+        new HeadlessEngine(controller, TICKS).run();
+
+        assertInstanceOf(InGameModelState.class, controller.getGameState());
+    }
+
+    /**
+     * Tests that two games with the same seed are played the very same way.
+     */
+    @Test
+    void testSameSeedReplaysTheGame() {
+        final GameController first = new GameController(new ResourceLoader(), SEED);
+        final GameController second = new GameController(new ResourceLoader(), SEED);
+        new HeadlessEngine(first, REPLAY_TICKS).run();
+        new HeadlessEngine(second, REPLAY_TICKS).run();
+
+        assertEquals(first.getSnapshot().entities(), second.getSnapshot().entities());
+        assertEquals(first.getScoreValue(), second.getScoreValue());
+    }
+
+    /**
+     * Tests that a negative tick budget is rejected.
+     */
+    @Test
+    void testNegativeTicks() {
+        assertThrows(IllegalArgumentException.class, () -> new HeadlessEngine(controller, -1));
+    }
+}
@@ -0,0 +1,123 @@
+package it.unibo.coffebreak.model.clock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.coffebreak.api.model.clock.Timer;
+import it.unibo.coffebreak.impl.model.clock.TimerWheelClock;
+
+/**
+ * Test class for {@link TimerWheelClock}.
+ *
+ * @author Alessandro Rebosio
+ */
+class TestTimerWheelClock {
+
+    private static final float TICK = 1f / 60;
+    private static final float DELAY = 2f;
+    private static final float FAR_DELAY = 30f;
+
+    private final TimerWheelClock clock = new TimerWheelClock();
+    private final List<String> fired = new ArrayList<>();
+
+    /**
+     * Tests that a timer runs once, on the first tick reaching its deadline.
+     */
+    @Test
+    void testTimerRunsAtDeadline() {
+        final Timer timer = this.clock.schedule(DELAY, () -> this.fired.add("timer"));
+        this.tick(DELAY - TICK);
+        assertTrue(this.fired.isEmpty());
+        assertTrue(timer.isPending());
+
+        this.tick(TICK);
+        assertEquals(List.of("timer"), this.fired);
+        assertFalse(timer.isPending());
+        assertEquals(0, this.clock.pendingTimers());
+
+        this.tick(DELAY);
+        assertEquals(1, this.fired.size());
+    }
+
+    /**
+     * Tests that a delay reached by a single advance runs its timer.
+     */
+    @Test
+    void testWholeDelayInOneAdvance() {
+        this.clock.schedule(DELAY, () -> this.fired.add("timer"));
+        this.clock.advance(DELAY);
+        assertEquals(List.of("timer"), this.fired);
+        assertEquals(DELAY, this.clock.now(), 0);
+    }
+
+    /**
+     * Tests that timers further than a turn of the wheel wait for their
+     * deadline, even when a large advance skips several turns.
+     */
+    @Test
+    void testTimersBeyondTheWheel() {
+        this.clock.schedule(FAR_DELAY, () -> this.fired.add("far"));
+        this.clock.schedule(DELAY, () -> this.fired.add("near"));
+        this.tick(FAR_DELAY / 2);
+        assertEquals(List.of("near"), this.fired);
+
+        this.clock.advance(FAR_DELAY);
+        assertEquals(List.of("near", "far"), this.fired);
+    }
+
+    /**
+     * Tests that cancelled timers never run, including one cancelled by the
+     * callback of a timer expiring in the same slot.
+     */
+    @Test
+    void testCancel() {
+        final Timer cancelled = this.clock.schedule(DELAY, () -> this.fired.add("cancelled"));
+        cancelled.cancel();
+        assertFalse(cancelled.isPending());
+
+        final List<Timer> victim = new ArrayList<>();
+        this.clock.schedule(DELAY, () -> victim.forEach(Timer::cancel));
+        victim.add(this.clock.schedule(DELAY, () -> this.fired.add("victim")));
+        this.clock.schedule(DELAY, () -> this.fired.add("survivor"));
+        this.clock.advance(DELAY);
+        assertEquals(List.of("survivor"), this.fired);
+    }
+
+    /**
+     * Tests that a timer scheduled by a callback waits for a later advance.
+     */
+    @Test
+    void testRescheduleFromCallback() {
+        this.clock.schedule(0, () -> {
+            this.fired.add("first");
+            this.clock.schedule(0, () -> this.fired.add("second"));
+        });
+        this.clock.advance(0);
+        assertEquals(List.of("first"), this.fired);
+        this.clock.advance(0);
+        assertEquals(List.of("first", "second"), this.fired);
+    }
+
+    /**
+     * Tests the validation of the arguments.
+     */
+    @Test
+    void testInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> this.clock.schedule(DELAY, null));
+        assertThrows(IllegalArgumentException.class, () -> this.clock.schedule(-DELAY, () -> { }));
+        assertThrows(IllegalArgumentException.class, () -> this.clock.advance(-TICK));
+    }
+
+    private void tick(final float duration) {
+        for (int i = 0; i < Math.round(duration / TICK); i++) {
+            this.clock.advance(TICK);
+        }
+    }
+}
@@ -11,10 +11,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.physics.CollisionLayer;
+import it.unibo.coffebreak.api.model.physics.CollisionResponses;
 import it.unibo.coffebreak.impl.common.BoundigBox;
 import it.unibo.coffebreak.impl.common.Position;
 import it.unibo.coffebreak.impl.common.Vector;
 import it.unibo.coffebreak.impl.model.entities.AbstractEntity;
+import it.unibo.coffebreak.impl.model.physics.GameCollisionResponses;
 
 /**
  * Test class for {@link AbstractEntity} implementation.
@@ -29,6 +32,8 @@ import it.unibo.coffebreak.impl.model.entities.AbstractEntity;
  */
 class TestAbstractEntity {
 
+    private static final CollisionResponses RESPONSES = GameCollisionResponses.create();
+
     // Test constants
     private static final int INITIAL_X = 10;
     private static final int INITIAL_Y = 20;
@@ -160,16 +165,32 @@ class TestAbstractEntity {
     }
 
     /**
-     * Tests default onCollision implementation.
+     * Tests that an entity without registered responses ignores contacts.
      * Verifies no exception is thrown.
      */
     @Test
-    void testDefaultOnCollision() {
+    void testContactWithoutResponses() {
         final Entity other = new TestEntity(
             new Position(INITIAL_X + COLLISION_OFFSET_X, INITIAL_Y + COLLISION_OFFSET_Y),
             INITIAL_DIM
         );
-        assertDoesNotThrow(() -> entity.onCollision(other));
+        assertDoesNotThrow(() -> RESPONSES.respond(entity, other));
+    }
+
+    /**
+     * Tests that the previous position follows the current one only when
+     * explicitly stored.
+     */
+    @Test
+    void testPreviousPosition() {
+        assertEquals(INITIAL_POS, entity.getPreviousPosition());
+
+        final Position newPos = new Position(NEW_X, NEW_Y);
+        entity.setPosition(newPos);
+        assertEquals(INITIAL_POS, entity.getPreviousPosition());
+
+        entity.storePreviousPosition();
+        assertEquals(newPos, entity.getPreviousPosition());
     }
 
     /**
@@ -179,5 +200,10 @@ class TestAbstractEntity {
         TestEntity(final Position position, final BoundigBox dimension) {
             super(position, dimension);
         }
+
+        @Override
+        public CollisionLayer getCollisionLayer() {
+            return CollisionLayer.STATIC_GEOMETRY;
+        }
     }
 }
@@ -0,0 +1,110 @@
+package it.unibo.coffebreak.model.entities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.coffebreak.api.model.entities.EntityHandle;
+import it.unibo.coffebreak.impl.common.BoundigBox;
+import it.unibo.coffebreak.impl.common.Position;
+import it.unibo.coffebreak.impl.model.entities.EntityHandles;
+import it.unibo.coffebreak.impl.model.entities.collectible.coin.Coin;
+import it.unibo.coffebreak.impl.model.entities.enemy.barrel.GameBarrel;
+import it.unibo.coffebreak.impl.model.entities.mario.Mario;
+
+/**
+ * Test class for {@link EntityHandles}.
+ *
+ * @author Alessandro Rebosio
+ */
+class TestEntityHandles {
+
+    private static final Position ORIGIN = new Position(0, 0);
+
+    private final EntityHandles handles = new EntityHandles();
+    private final GameBarrel barrel = new GameBarrel(ORIGIN, new BoundigBox(), false);
+    private final Coin coin = new Coin(ORIGIN, new BoundigBox());
+
+    /**
+     * Tests that issued handles resolve to their entity, which remembers them.
+     */
+    @Test
+    void testIssueAndResolve() {
+        final EntityHandle first = this.handles.issue(this.barrel);
+        final EntityHandle second = this.handles.issue(this.coin);
+
+        assertNotEquals(first, second);
+        assertEquals(first, this.barrel.getHandle());
+        assertEquals(Optional.of(this.barrel), this.handles.resolve(first));
+        assertEquals(Optional.of(this.coin), this.handles.resolve(second));
+        assertEquals(first, this.handles.issue(this.barrel), "A live entity must keep its handle");
+        assertEquals(2, this.handles.size());
+    }
+
+    /**
+     * Tests that a retired handle stops resolving, even once its slot is
+     * reused.
+     */
+    @Test
+    void testStaleHandles() {
+        final EntityHandle stale = this.handles.issue(this.barrel);
+        assertTrue(this.handles.retire(this.barrel));
+        assertFalse(this.handles.retire(this.barrel));
+        assertEquals(EntityHandle.NONE, this.barrel.getHandle());
+
+        final EntityHandle reused = this.handles.issue(this.coin);
+        assertEquals(stale.index(), reused.index());
+        assertFalse(this.handles.isLive(stale));
+        assertTrue(this.handles.resolve(stale).isEmpty());
+
+        final EntityHandle recycled = this.handles.issue(this.barrel);
+        assertNotEquals(stale, recycled, "A recycled entity must get a new handle");
+        assertFalse(this.handles.isLive(EntityHandle.NONE));
+    }
+
+    /**
+     * Tests that clearing the table retires every handle.
+     */
+    @Test
+    void testClear() {
+        final EntityHandle handle = this.handles.issue(this.barrel);
+        this.handles.issue(this.coin);
+        this.handles.clear();
+
+        assertEquals(0, this.handles.size());
+        assertFalse(this.handles.isLive(handle));
+        assertEquals(EntityHandle.NONE, this.coin.getHandle());
+    }
+
+    /**
+     * Tests that the entities reporting a change are queued once, including
+     * the changes reported before joining the level, and that the entities
+     * leaving the level are skipped.
+     */
+    @Test
+    void testChangedEntities() {
+        this.barrel.destroy();
+        this.handles.issue(this.barrel);
+        this.handles.issue(this.coin);
+        assertSame(this.barrel, this.handles.pollChanged());
+        assertNull(this.handles.pollChanged());
+
+        this.coin.collect(new Mario(ORIGIN, new BoundigBox()));
+        this.coin.collect(new Mario(ORIGIN, new BoundigBox()));
+        assertSame(this.coin, this.handles.pollChanged());
+        assertNull(this.handles.pollChanged());
+
+        final GameBarrel leaving = new GameBarrel(ORIGIN, new BoundigBox(), false);
+        this.handles.issue(leaving);
+        leaving.destroy();
+        this.handles.retire(leaving);
+        assertNull(this.handles.pollChanged());
+    }
+}
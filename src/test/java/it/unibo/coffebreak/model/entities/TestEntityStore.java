@@ -0,0 +1,119 @@
+package it.unibo.coffebreak.model.entities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.impl.common.BoundigBox;
+import it.unibo.coffebreak.impl.common.Position;
+import it.unibo.coffebreak.impl.common.Vector;
+import it.unibo.coffebreak.impl.model.entities.EntityStore;
+import it.unibo.coffebreak.impl.model.entities.collectible.coin.Coin;
+import it.unibo.coffebreak.impl.model.entities.enemy.barrel.GameBarrel;
+
+/**
+ * Test class for {@link EntityStore} and the entities bound to it.
+ *
+ * @author Alessandro Rebosio
+ */
+class TestEntityStore {
+
+    private static final Position START = new Position(10, 20);
+    private static final float MOVED_X = 30;
+    private static final float MOVED_Y = 40;
+    private static final float SPEED = 5;
+
+    private final EntityStore store = new EntityStore();
+    private final GameBarrel barrel = new GameBarrel(START, new BoundigBox(), false);
+    private final Coin coin = new Coin(new Position(0, 0), new BoundigBox());
+
+    /**
+     * Tests that binding copies the state of the entity into its slot.
+     */
+    @Test
+    void testBindCopiesState() {
+        this.barrel.setVelocity(new Vector(SPEED, 0));
+        assertEquals(2, this.store.load(List.of(this.coin, this.barrel)));
+        assertFalse(this.store.isBound(1));
+
+        assertTrue(this.store.bind(1));
+        assertSame(this.barrel, this.store.entity(1));
+        assertEquals(START.x(), this.store.x(1));
+        assertEquals(START.y(), this.store.y(1));
+        assertEquals(SPEED, this.store.vx(1));
+        assertEquals(BoundigBox.SIZE, this.store.width(1));
+    }
+
+    /**
+     * Tests that a bound entity reads and writes the arrays of its slot.
+     */
+    @Test
+    void testBoundEntityIsView() {
+        this.store.load(List.of(this.barrel));
+        this.store.bind(0);
+
+        this.store.setPosition(0, MOVED_X, MOVED_Y);
+        final Position moved = this.barrel.getPosition();
+        assertEquals(new Position(MOVED_X, MOVED_Y), moved);
+        assertSame(moved, this.barrel.getPosition(), "Unchanged slots must not build new records");
+
+        this.barrel.setVelocity(new Vector(0, SPEED));
+        assertEquals(SPEED, this.store.vy(0));
+    }
+
+    /**
+     * Tests that entities leaving the store keep the state of their slot.
+     */
+    @Test
+    void testLeavingEntityIsUnbound() {
+        this.store.load(List.of(this.barrel));
+        this.store.bind(0);
+        this.store.setPosition(0, MOVED_X, MOVED_Y);
+
+        this.store.load(List.<Entity>of(this.coin));
+        assertFalse(this.store.isBound(0));
+        this.store.setPosition(0, 0, 0);
+
+        assertEquals(new Position(MOVED_X, MOVED_Y), this.barrel.getPosition());
+        this.barrel.setPosition(START);
+        assertEquals(0, this.store.x(0));
+        assertEquals(START, this.barrel.getPosition());
+    }
+
+    /**
+     * Tests that an entity staying in its slot stays bound, and that unbound
+     * entities ignore the arrays.
+     */
+    @Test
+    void testBindingKeptAcrossLoads() {
+        this.store.load(List.of(this.coin, this.barrel));
+        this.store.bind(1);
+        this.store.load(List.of(this.coin, this.barrel));
+        assertTrue(this.store.isBound(1));
+
+        this.store.setPosition(0, MOVED_X, MOVED_Y);
+        assertEquals(new Position(0, 0), this.coin.getPosition());
+    }
+
+    /**
+     * Tests the batch loops, and that negative zeros leave a slot unchanged.
+     */
+    @Test
+    void testBatchLoops() {
+        this.store.load(List.of(this.coin, this.barrel));
+        this.store.bind(1);
+        this.store.setVelocity(1, 0, SPEED);
+
+        this.store.accelerate(0, 2, new float[] {-0.0f, SPEED}, new float[] {Float.POSITIVE_INFINITY, SPEED});
+        assertEquals(SPEED, this.store.vy(1), "The velocity must be capped to its limit");
+        this.store.advance(0, 2, new float[] {-0.0f, MOVED_X}, new float[] {-0.0f, -0.0f});
+        assertEquals(new Position(START.x() + MOVED_X, START.y()), this.barrel.getPosition());
+        assertEquals(0, Float.floatToRawIntBits(this.store.x(0)), "Slots given -0.0f must keep +0.0f");
+    }
+}
@@ -22,11 +22,13 @@ import it.unibo.coffebreak.api.model.entities.character.states.CharacterState;
 import it.unibo.coffebreak.api.model.entities.collectible.Collectible;
 import it.unibo.coffebreak.api.model.entities.npc.Princess;
 import it.unibo.coffebreak.api.model.entities.structure.Platform;
+import it.unibo.coffebreak.api.model.physics.CollisionResponses;
 import it.unibo.coffebreak.impl.common.BoundigBox;
 import it.unibo.coffebreak.impl.common.Position;
 import it.unibo.coffebreak.impl.model.entities.mario.Mario;
 import it.unibo.coffebreak.impl.model.entities.mario.states.normal.NormalState;
 import it.unibo.coffebreak.impl.model.entities.npc.donkeykong.DonkeyKong;
+import it.unibo.coffebreak.impl.model.physics.GameCollisionResponses;
 
 /**
  * Test class for {@link Mario}, the main player character implementation.
@@ -38,6 +40,8 @@ import it.unibo.coffebreak.impl.model.entities.npc.donkeykong.DonkeyKong;
 @ExtendWith(MockitoExtension.class)
 class TestMario {
 
+    private static final CollisionResponses RESPONSES = GameCollisionResponses.create();
+
     private Mario mario;
 
     @Mock private Position mockPosition;
@@ -97,7 +101,7 @@ class TestMario {
      */
     @Test
     void testJumpWhenOnPlatform() {
-        mario.onCollision(mockPlatform);
+        RESPONSES.respond(mario, mockPlatform);
         assertTrue(mario.canStandOnPlatforms());
         mario.jump();
         assertTrue(mario.isJumping());
@@ -118,7 +122,7 @@ class TestMario {
      */
     @Test
     void testOnCollisionWithPlatform() {
-        mario.onCollision(mockPlatform);
+        RESPONSES.respond(mario, mockPlatform);
         assertTrue(mario.canStandOnPlatforms());
         assertFalse(mario.isJumping());
         assertFalse(mario.isClimbing());
@@ -130,7 +134,7 @@ class TestMario {
      */
     @Test
     void testOnCollisionWithCollectible() {
-        mario.onCollision(mockCollectible);
+        RESPONSES.respond(mario, mockCollectible);
         verify(mockCollectible).collect(mario);
     }
 
@@ -139,7 +143,7 @@ class TestMario {
      */
     @Test
     void testOnCollisionWithPrincess() {
-        mario.onCollision(mockPrincess);
+        RESPONSES.respond(mario, mockPrincess);
         verify(mockPrincess).rescue();
     }
 
@@ -149,7 +153,7 @@ class TestMario {
     @Test
     void testOnCollisionWithDonkeyKong() {
         final int initialLives = mario.getLives();
-        mario.onCollision(mockDonkeyKong);
+        RESPONSES.respond(mario, mockDonkeyKong);
         assertTrue(mario.getLives() < initialLives || mario.isGameOver());
     }
 
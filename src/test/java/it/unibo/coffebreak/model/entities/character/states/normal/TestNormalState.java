@@ -1,12 +1,12 @@
 package it.unibo.coffebreak.model.entities.character.states.normal;
 
 
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,12 +14,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import it.unibo.coffebreak.api.model.entities.Entity;
 import it.unibo.coffebreak.api.model.entities.character.MainCharacter;
 import it.unibo.coffebreak.api.model.entities.character.states.CharacterState;
 import it.unibo.coffebreak.api.model.entities.enemy.Enemy;
 import it.unibo.coffebreak.api.model.entities.structure.Ladder;
 import it.unibo.coffebreak.impl.model.entities.mario.states.normal.NormalState;
+import it.unibo.coffebreak.impl.model.physics.ContactManifold;
 
 /**
  * Test class for {@link NormalState}, Mario's default ground state.
@@ -42,7 +42,6 @@ class TestNormalState {
     @Mock private MainCharacter mockCharacter;
     @Mock private Enemy mockEnemy;
     @Mock private Ladder mockLadder;
-    @Mock private Entity mockOtherEntity;
 
     @BeforeEach
     void setUp() {
@@ -66,20 +65,20 @@ class TestNormalState {
 
     /**
      * Tests state update mechanics.
-     * Verifies:
-     * <ul>
-     *   <li>Climbing flag is reset each update</li>
-     *   <li>Invincibility timer counts down correctly</li>
-     * </ul>
+     * Verifies that climbing follows the contacts of the last tick, whatever
+     * the updates in between.
      */
     @Test
     void testUpdate() {
-        normalState.handleCollision(mockCharacter, mockLadder);
+        final ContactManifold contacts = enterWithContacts();
+        contacts.add(mockLadder, ContactManifold.LADDER);
         assertTrue(normalState.canClimb());
 
         final float deltaTime = 0.5f;
         normalState.update(mockCharacter, deltaTime);
+        assertTrue(normalState.canClimb());
 
+        contacts.clear();
         assertFalse(normalState.canClimb());
     }
 
@@ -101,12 +100,15 @@ class TestNormalState {
     }
 
     /**
-     * Tests ladder collision handling.
-     * Verifies climbing becomes possible after ladder collision.
+     * Tests ladder contact handling.
+     * Verifies climbing becomes possible once a ladder contact is recorded.
      */
     @Test
     void testLadderCollision() {
-        normalState.handleCollision(mockCharacter, mockLadder);
+        final ContactManifold contacts = enterWithContacts();
+        assertFalse(normalState.canClimb());
+
+        contacts.add(mockLadder, ContactManifold.LADDER);
         assertTrue(normalState.canClimb());
     }
 
@@ -125,25 +127,25 @@ class TestNormalState {
     }
 
     /**
-     * Tests collision with other entity types.
-     */
-    @Test
-    void testOtherEntityCollision() {
-        assertDoesNotThrow(() -> 
-            normalState.handleCollision(mockCharacter, mockOtherEntity));
-    }
-
-    /**
-     * Tests climbing capability after update.
+     * Tests climbing capability once the contacts of a new tick are cleared.
      */
     @Test
     void testClimbingResetAfterUpdate() {
         final float deltaTime = 0.1f;
-        normalState.handleCollision(mockCharacter, mockLadder);
+        final ContactManifold contacts = enterWithContacts();
+        contacts.add(mockLadder, ContactManifold.LADDER);
         normalState.update(mockCharacter, deltaTime);
+        contacts.clear();
         assertFalse(normalState.canClimb());
     }
 
+    private ContactManifold enterWithContacts() {
+        final ContactManifold contacts = new ContactManifold();
+        when(mockCharacter.getContacts()).thenReturn(contacts);
+        normalState.onEnter(mockCharacter);
+        return contacts;
+    }
+
     /**
      * Tests jump capability.
      */
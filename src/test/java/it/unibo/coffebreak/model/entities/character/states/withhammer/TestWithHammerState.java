@@ -8,7 +8,6 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyNoInteractions;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -17,7 +16,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import it.unibo.coffebreak.api.model.entities.Entity;
 import it.unibo.coffebreak.api.model.entities.character.MainCharacter;
 import it.unibo.coffebreak.api.model.entities.enemy.Enemy;
 import it.unibo.coffebreak.impl.model.entities.mario.states.normal.NormalState;
@@ -59,16 +57,6 @@ class TestWithHammerState {
         verify(mockEnemy).destroy();
     }
 
-    /**
-     * Tests that non-enemy collisions are ignored.
-     */
-    @Test
-    void shouldIgnoreNonEnemyCollisions() {
-        final Entity mockEntity = mock(Entity.class);
-        hammerState.handleCollision(mockCharacter, mockEntity);
-        verifyNoInteractions(mockEntity);
-    }
-
     /**
      * Tests that hammer duration constant has correct value (5 seconds).
      */
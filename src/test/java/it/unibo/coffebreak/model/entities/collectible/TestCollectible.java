@@ -15,12 +15,14 @@ import org.mockito.MockitoAnnotations;
 
 import it.unibo.coffebreak.api.model.entities.character.MainCharacter;
 import it.unibo.coffebreak.api.model.entities.character.states.CharacterState;
+import it.unibo.coffebreak.api.model.physics.CollisionResponses;
 import it.unibo.coffebreak.impl.common.BoundigBox;
 import it.unibo.coffebreak.impl.common.Position;
 import it.unibo.coffebreak.impl.model.entities.collectible.AbstractCollectible;
 import it.unibo.coffebreak.impl.model.entities.collectible.coin.Coin;
 import it.unibo.coffebreak.impl.model.entities.collectible.hammer.Hammer;
 import it.unibo.coffebreak.impl.model.entities.mario.states.withhammer.WithHammerState;
+import it.unibo.coffebreak.impl.model.physics.GameCollisionResponses;
 
 /**
  * Test class for {@link AbstractCollectible} and its implementations ({@link Coin}, {@link Hammer}).
@@ -30,6 +32,8 @@ import it.unibo.coffebreak.impl.model.entities.mario.states.withhammer.WithHamme
  */
 class TestCollectible {
 
+    private static final CollisionResponses RESPONSES = GameCollisionResponses.create();
+
     private static final Position TEST_POSITION = new Position(0, 0);
     private static final BoundigBox TEST_DIMENSION = new BoundigBox(1, 1);
 
@@ -95,13 +99,13 @@ class TestCollectible {
     }
 
     /**
-     * Tests that the onCollision method has no effect on collectibles.
+     * Tests that the contacts of collectibles have no effect on them.
      */
     @Test
     void testOnCollisionDoesNothing() {
         final AbstractCollectible collectible = new Coin(TEST_POSITION, TEST_DIMENSION);
 
-        collectible.onCollision(mockPlayer);
+        RESPONSES.respond(collectible, mockPlayer);
 
         verifyNoInteractions(mockPlayer);
         assertFalse(collectible.isCollected());
@@ -14,9 +14,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import it.unibo.coffebreak.api.model.entities.Entity;
 import it.unibo.coffebreak.api.model.entities.structure.Platform;
 import it.unibo.coffebreak.api.model.entities.structure.Tank;
+import it.unibo.coffebreak.api.model.physics.CollisionResponses;
 import it.unibo.coffebreak.impl.common.BoundigBox;
 import it.unibo.coffebreak.impl.common.Position;
 import it.unibo.coffebreak.impl.model.entities.enemy.barrel.GameBarrel;
+import it.unibo.coffebreak.impl.model.physics.GameCollisionResponses;
 
 /**
  * Test class for {@link GameBarrel} that verifies the behavior of rolling barrels in the game.
@@ -35,6 +37,8 @@ import it.unibo.coffebreak.impl.model.entities.enemy.barrel.GameBarrel;
 @ExtendWith(MockitoExtension.class)
 class TestBarrel {
 
+    private static final CollisionResponses RESPONSES = GameCollisionResponses.create();
+
     private static final float TEST_VELOCITY = 40f;
     private GameBarrel barrel;
     private GameBarrel fireTransformableBarrel;
@@ -91,11 +95,11 @@ class TestBarrel {
      */
     @Test
     void testCollisionWithTank() {
-        barrel.onCollision(mockTank);
+        RESPONSES.respond(barrel, mockTank);
         assertTrue(barrel.isDestroyed());
         assertFalse(barrel.canTransformToFire());
 
-        fireTransformableBarrel.onCollision(mockTank);
+        RESPONSES.respond(fireTransformableBarrel, mockTank);
         assertTrue(fireTransformableBarrel.canTransformToFire());
     }
 
@@ -105,7 +109,7 @@ class TestBarrel {
     @Test
     void testCollisionWithPlatform() {
         barrel.onPlatformLeave();
-        barrel.onCollision(mockPlatform);
+        RESPONSES.respond(barrel, mockPlatform);
         assertTrue(barrel.canStandOnPlatforms());
     }
 
@@ -114,7 +118,7 @@ class TestBarrel {
      */
     @Test
     void testCollisionWithOtherEntity() {
-        assertDoesNotThrow(() -> barrel.onCollision(mockOtherEntity));
+        assertDoesNotThrow(() -> RESPONSES.respond(barrel, mockOtherEntity));
     }
 
     /**
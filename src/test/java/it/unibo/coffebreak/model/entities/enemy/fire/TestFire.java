@@ -10,9 +10,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.physics.CollisionResponses;
 import it.unibo.coffebreak.impl.common.BoundigBox;
 import it.unibo.coffebreak.impl.common.Position;
 import it.unibo.coffebreak.impl.model.entities.enemy.fire.GameFire;
+import it.unibo.coffebreak.impl.model.physics.GameCollisionResponses;
 
 /**
  * Test class for {@link GameFire} implementation.
@@ -21,6 +23,8 @@ import it.unibo.coffebreak.impl.model.entities.enemy.fire.GameFire;
  */
 class TestFire {
 
+    private static final CollisionResponses RESPONSES = GameCollisionResponses.create();
+
     private static final Position TEST_POSITION = new Position(0, 0);
     private static final BoundigBox TEST_DIMENSION = new BoundigBox(2, 2);
 
@@ -57,6 +61,6 @@ class TestFire {
     @Test
     void testOnCollision() {
         final Entity mockEntity = mock(Entity.class);
-        assertDoesNotThrow(() -> fire.onCollision(mockEntity));
+        assertDoesNotThrow(() -> RESPONSES.respond(fire, mockEntity));
     }
 }
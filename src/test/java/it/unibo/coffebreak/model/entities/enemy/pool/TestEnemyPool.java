@@ -0,0 +1,98 @@
+package it.unibo.coffebreak.model.entities.enemy.pool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.coffebreak.impl.common.BoundigBox;
+import it.unibo.coffebreak.impl.common.Position;
+import it.unibo.coffebreak.impl.model.clock.TimerWheelClock;
+import it.unibo.coffebreak.impl.model.entities.enemy.barrel.GameBarrel;
+import it.unibo.coffebreak.impl.model.entities.enemy.fire.GameFire;
+import it.unibo.coffebreak.impl.model.entities.enemy.pool.EnemyPool;
+
+/**
+ * Test class for {@link EnemyPool} and the reset of the pooled enemies.
+ *
+ * @author Grazia Bochdanovits de Kavna
+ */
+class TestEnemyPool {
+
+    private static final Position START = new Position(0, 0);
+    private static final Position RESPAWN = new Position(30, 40);
+    private static final float FIRE_LIFETIME = 15f;
+
+    /**
+     * Tests that released enemies are handed out again and counted as hits.
+     */
+    @Test
+    void testAcquireRecyclesReleased() {
+        final EnemyPool<GameBarrel> pool = new EnemyPool<>(1);
+        assertTrue(pool.acquire().isEmpty());
+
+        final GameBarrel barrel = new GameBarrel(START, new BoundigBox(), false);
+        assertTrue(pool.release(barrel));
+        assertEquals(1, pool.size());
+        assertSame(barrel, pool.acquire().orElseThrow());
+
+        assertEquals(1, pool.getHits());
+        assertEquals(1, pool.getMisses());
+        assertEquals(0, pool.size());
+    }
+
+    /**
+     * Tests that the pool drops the enemies released beyond its capacity.
+     */
+    @Test
+    void testBoundedCapacity() {
+        final EnemyPool<GameBarrel> pool = new EnemyPool<>(1);
+        assertTrue(pool.release(new GameBarrel(START, new BoundigBox(), false)));
+        assertFalse(pool.release(new GameBarrel(START, new BoundigBox(), false)));
+        assertEquals(1, pool.size());
+        assertEquals(1, pool.getDropped());
+        assertThrows(IllegalArgumentException.class, () -> new EnemyPool<>(-1));
+    }
+
+    /**
+     * Tests that a recycled barrel starts a new life.
+     */
+    @Test
+    void testBarrelReset() {
+        final GameBarrel barrel = new GameBarrel(START, new BoundigBox(), false);
+        barrel.destroy();
+        barrel.onPlatformLeave();
+
+        barrel.reset(RESPAWN, true);
+        assertFalse(barrel.isDestroyed());
+        assertEquals(RESPAWN, barrel.getPosition());
+        assertEquals(RESPAWN, barrel.getPreviousPosition());
+        assertFalse(barrel.canTransformToFire());
+    }
+
+    /**
+     * Tests that the timers of a released fire cannot burn out its next life.
+     */
+    @Test
+    void testFireTimersRestart() {
+        final TimerWheelClock clock = new TimerWheelClock();
+        final EnemyPool<GameFire> pool = new EnemyPool<>();
+        final GameFire fire = new GameFire(START, new BoundigBox(), new SplittableRandom(1), clock);
+        clock.advance(FIRE_LIFETIME - 1);
+
+        pool.release(fire);
+        assertEquals(0, clock.pendingTimers());
+        pool.acquire().orElseThrow().reset(RESPAWN, new BoundigBox(), new SplittableRandom(2));
+        clock.advance(1);
+        assertFalse(fire.isDestroyed());
+
+        clock.advance(FIRE_LIFETIME - 1);
+        assertTrue(fire.isDestroyed());
+        assertEquals(RESPAWN, fire.getPosition());
+    }
+}
@@ -5,11 +5,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import it.unibo.coffebreak.api.model.physics.CollisionResponses;
 import it.unibo.coffebreak.impl.common.BoundigBox;
 import it.unibo.coffebreak.impl.common.Position;
 import it.unibo.coffebreak.impl.model.entities.enemy.fire.GameFire;
 import it.unibo.coffebreak.impl.model.entities.mario.Mario;
 import it.unibo.coffebreak.impl.model.entities.structure.ladder.normal.NormalLadder;
+import it.unibo.coffebreak.impl.model.physics.GameCollisionResponses;
 
 /**
  * Test class for {@link NormalLadder} implementation.
@@ -18,6 +20,8 @@ import it.unibo.coffebreak.impl.model.entities.structure.ladder.normal.NormalLad
  */
 class TestNormalLadder {
 
+    private static final CollisionResponses RESPONSES = GameCollisionResponses.create();
+
     // Position constants
     private static final int LADDER_X = 10;
     private static final int LADDER_Y = 20;
@@ -73,7 +77,7 @@ class TestNormalLadder {
         );
         mario.moveUp();
 
-        ladder.onCollision(mario);
+        RESPONSES.respond(ladder, mario);
 
         final float expectedX = LADDER_CENTER_X - (MARIO_WIDTH / 2f);
         assertEquals(expectedX, mario.getPosition().x(), DELTA_TIME);
@@ -91,7 +95,7 @@ class TestNormalLadder {
             new BoundigBox(MARIO_WIDTH, MARIO_HEIGHT)
         );
 
-        ladder.onCollision(mario);
+        RESPONSES.respond(ladder, mario);
 
         assertEquals(MARIO_INITIAL_X + POSITION_OFFSET, mario.getPosition().x(), DELTA_TIME);
         assertEquals(MARIO_INITIAL_Y, mario.getPosition().y(), DELTA_TIME);
@@ -108,7 +112,7 @@ class TestNormalLadder {
             new BoundigBox(FIRE_WIDTH, FIRE_HEIGHT)
         );
 
-        ladder.onCollision(fire);
+        RESPONSES.respond(ladder, fire);
 
         final float expectedX = LADDER_CENTER_X - (FIRE_WIDTH / 2f);
         assertEquals(expectedX, fire.getPosition().x(), DELTA_TIME);
@@ -0,0 +1,115 @@
+package it.unibo.coffebreak.model.level.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.entities.EntityHandle;
+import it.unibo.coffebreak.api.model.entities.enemy.Enemy;
+import it.unibo.coffebreak.api.model.entities.structure.Platform;
+import it.unibo.coffebreak.impl.common.BoundigBox;
+import it.unibo.coffebreak.impl.common.Position;
+import it.unibo.coffebreak.impl.model.entities.collectible.coin.Coin;
+import it.unibo.coffebreak.impl.model.entities.enemy.barrel.GameBarrel;
+import it.unibo.coffebreak.impl.model.entities.enemy.fire.GameFire;
+import it.unibo.coffebreak.impl.model.entities.structure.platform.normal.NormalPlatform;
+import it.unibo.coffebreak.impl.model.level.entity.GameEntityIndex;
+
+/**
+ * Unit tests for the {@link GameEntityIndex} class.
+ * 
+ * @author Filippo Ricciotti
+ */
+class TestEntityIndex {
+
+    private static final Position ORIGIN = new Position(0, 0);
+
+    private final GameEntityIndex index = new GameEntityIndex();
+    private final GameBarrel barrel = new GameBarrel(ORIGIN, new BoundigBox(), false);
+    private final GameFire fire = new GameFire(ORIGIN, new BoundigBox());
+    private final Coin coin = new Coin(ORIGIN, new BoundigBox());
+    private final NormalPlatform platform = new NormalPlatform(ORIGIN, new BoundigBox(), false);
+
+    /**
+     * Verifies that a bucket queried after the entities were added holds the
+     * entities of its type, in order.
+     */
+    @Test
+    void shouldFillBucketOnFirstQuery() {
+        this.index.add(this.barrel);
+        this.index.add(this.coin);
+        this.index.add(this.fire);
+
+        assertEquals(List.of(this.barrel, this.fire), this.index.entitiesOf(Enemy.class));
+        assertEquals(List.of(this.barrel, this.coin, this.fire), this.index.getEntities());
+    }
+
+    /**
+     * Verifies that the views follow the later additions and removals without
+     * being queried again.
+     */
+    @Test
+    void shouldKeepViewsUpToDate() {
+        final List<Enemy> enemies = this.index.entitiesOf(Enemy.class);
+        final List<Platform> platforms = this.index.entitiesOf(Platform.class);
+        assertTrue(enemies.isEmpty());
+
+        this.index.add(this.barrel);
+        this.index.add(this.platform);
+        this.index.add(this.fire);
+        assertEquals(List.of(this.barrel, this.fire), enemies);
+        assertEquals(List.of(this.platform), platforms);
+        assertSame(enemies, this.index.entitiesOf(Enemy.class));
+
+        this.index.markRemoved(this.barrel);
+        assertTrue(this.index.removeMarked());
+        assertFalse(this.index.removeMarked());
+        assertEquals(List.of(this.fire), enemies);
+        assertEquals(List.<Entity>of(this.fire, this.platform), this.index.getEntities(),
+                "The last entity takes the place of the removed one");
+
+        this.index.clear();
+        assertTrue(enemies.isEmpty());
+        assertTrue(platforms.isEmpty());
+    }
+
+    /**
+     * Verifies that the views cannot be modified by the callers.
+     */
+    @Test
+    void shouldReturnUnmodifiableViews() {
+        final List<Enemy> enemies = this.index.entitiesOf(Enemy.class);
+        assertThrows(UnsupportedOperationException.class, () -> enemies.add(this.fire));
+        assertThrows(UnsupportedOperationException.class, () -> this.index.getEntities().clear());
+        assertThrows(NullPointerException.class, () -> this.index.entitiesOf(null));
+    }
+
+    /**
+     * Verifies that the handles of the entities resolve while they are in the
+     * index, and stop resolving once they are removed.
+     */
+    @Test
+    void shouldResolveHandlesOfIndexedEntities() {
+        this.index.add(this.barrel);
+        this.index.add(this.coin);
+        final EntityHandle barrelHandle = this.barrel.getHandle();
+        final EntityHandle coinHandle = this.coin.getHandle();
+        assertEquals(Optional.of(this.barrel), this.index.resolve(barrelHandle));
+
+        this.index.markRemoved(this.barrel);
+        this.index.removeMarked();
+        assertTrue(this.index.resolve(barrelHandle).isEmpty());
+        assertEquals(Optional.of(this.coin), this.index.resolve(coinHandle));
+
+        this.index.clear();
+        assertTrue(this.index.resolve(coinHandle).isEmpty());
+    }
+}
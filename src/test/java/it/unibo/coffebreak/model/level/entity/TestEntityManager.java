@@ -1,5 +1,8 @@
 package it.unibo.coffebreak.model.level.entity;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
@@ -10,6 +13,8 @@ import org.junit.jupiter.api.Test;
 
 import it.unibo.coffebreak.api.model.entities.Entity;
 import it.unibo.coffebreak.api.model.entities.structure.Tank;
+import it.unibo.coffebreak.impl.common.BoundigBox;
+import it.unibo.coffebreak.impl.common.Position;
 import it.unibo.coffebreak.impl.model.entities.collectible.coin.Coin;
 import it.unibo.coffebreak.impl.model.entities.collectible.hammer.Hammer;
 import it.unibo.coffebreak.impl.model.entities.enemy.fire.GameFire;
@@ -84,4 +89,68 @@ class TestEntityManager {
         assertTrue(mainCharacter.get() instanceof Mario);
     }
 
+    /**
+     * Verifies that destroyed fires are recycled by the next fire created.
+     */
+    @Test
+    void shouldRecycleDestroyedFires() {
+        final List<String> map = List.of("MF");
+
+        entityManager.loadEntities(map, false);
+        final GameFire fire = entityManager.entitiesOf(GameFire.class).get(0);
+        fire.destroy();
+        entityManager.transformEntities();
+        assertTrue(entityManager.entitiesOf(GameFire.class).isEmpty());
+
+        entityManager.loadEntities(map, false);
+        assertSame(fire, entityManager.entitiesOf(GameFire.class).get(0));
+        assertFalse(fire.isDestroyed());
+    }
+
+    /**
+     * Verifies that spawned entities join the level only at the sync point of
+     * the tick.
+     */
+    @Test
+    void shouldDeferSpawnedEntities() {
+        final Coin coin = new Coin(new Position(0, 0), new BoundigBox());
+
+        entityManager.spawnEntity(coin);
+        assertTrue(entityManager.entitiesOf(Coin.class).isEmpty());
+
+        entityManager.transformEntities();
+        assertEquals(List.of(coin), entityManager.entitiesOf(Coin.class));
+    }
+
+    /**
+     * Verifies that only the entities reporting a change leave the level.
+     */
+    @Test
+    void shouldRemoveOnlyChangedEntities() {
+        entityManager.loadEntities(List.of("MCCF"), false);
+        final List<Coin> coins = entityManager.entitiesOf(Coin.class);
+        final Coin collected = coins.get(0);
+        final Coin kept = coins.get(1);
+
+        collected.collect(entityManager.getMainCharacter().orElseThrow());
+        entityManager.transformEntities();
+        assertEquals(List.of(kept), entityManager.entitiesOf(Coin.class));
+        assertEquals(1, entityManager.entitiesOf(GameFire.class).size());
+    }
+
+    /**
+     * Verifies that a breaking platform updates the platform grid once the
+     * level applies the changes of the tick.
+     */
+    @Test
+    void shouldRefreshBrokenPlatforms() {
+        entityManager.loadEntities(List.of("!"), false);
+        final BreakablePlatform platform = entityManager.entitiesOf(BreakablePlatform.class).get(0);
+
+        platform.destroy();
+        assertFalse(entityManager.getPlatformGrid().isBrokenAt(0, 0));
+        entityManager.transformEntities();
+        assertTrue(entityManager.getPlatformGrid().isBrokenAt(0, 0));
+        assertEquals(List.of(platform), entityManager.entitiesOf(BreakablePlatform.class));
+    }
 }
@@ -0,0 +1,120 @@
+package it.unibo.coffebreak.model.level.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.entities.structure.Platform;
+import it.unibo.coffebreak.api.model.level.entity.PlatformGrid;
+import it.unibo.coffebreak.impl.common.BoundigBox;
+import it.unibo.coffebreak.impl.common.Position;
+import it.unibo.coffebreak.impl.model.entities.enemy.barrel.GameBarrel;
+import it.unibo.coffebreak.impl.model.level.entity.GameEntityManager;
+
+/**
+ * Unit tests for the platform grid built by {@link GameEntityManager}.
+ * 
+ * @author Alessandro Rebosio
+ */
+class TestPlatformGrid {
+
+    private static final List<String> MAP = List.of(
+            "........",
+            "..PP!...",
+            "........",
+            "PPPP!!PP");
+    private static final long SEED = 7L;
+    private static final int SAMPLES = 2000;
+
+    private GameEntityManager entityManager;
+    private PlatformGrid grid;
+
+    /**
+     * Loads a small map before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        this.entityManager = new GameEntityManager();
+        this.entityManager.loadEntities(MAP, false);
+        this.grid = this.entityManager.getPlatformGrid();
+    }
+
+    /**
+     * Verifies that the tiles of the map are marked.
+     */
+    @Test
+    void shouldMarkPlatformTiles() {
+        assertTrue(grid.isPlatformAt(2, 1));
+        assertTrue(grid.isPlatformAt(4, 1));
+        assertFalse(grid.isPlatformAt(5, 1));
+        assertFalse(grid.isPlatformAt(0, 0));
+        assertFalse(grid.isPlatformAt(-1, 3));
+        assertFalse(grid.isPlatformAt(0, MAP.size()));
+    }
+
+    /**
+     * Verifies that the ground check matches a scan of all the platforms,
+     * edges included.
+     */
+    @Test
+    void shouldMatchPlatformScan() {
+        final Random random = new Random(SEED);
+        final int width = MAP.get(0).length() * BoundigBox.SIZE;
+        final int height = MAP.size() * BoundigBox.SIZE;
+        for (int i = 0; i < SAMPLES; i++) {
+            final Position position = i % 2 == 0
+                    ? new Position(random.nextFloat() * width, random.nextFloat() * height)
+                    : new Position(random.nextInt(width), random.nextInt(height));
+            final Entity entity = new GameBarrel(position, new BoundigBox(), false);
+            final boolean expected = entityManager.getEntities().stream()
+                    .filter(Platform.class::isInstance)
+                    .anyMatch(entity::collidesWith);
+            assertEquals(expected, grid.touchesPlatform(entity), position.toString());
+        }
+    }
+
+    /**
+     * Verifies that breaking a platform only updates its own tile.
+     */
+    @Test
+    void shouldUpdateOnlyBrokenTile() {
+        final Platform breakable = entityManager.getEntities().stream()
+                .filter(Platform.class::isInstance)
+                .map(Platform.class::cast)
+                .filter(p -> p.getPosition().y() == BoundigBox.SIZE)
+                .filter(p -> p.getPosition().x() == 4 * BoundigBox.SIZE)
+                .findFirst()
+                .orElseThrow();
+
+        breakable.destroy();
+        grid.refresh(breakable);
+
+        assertTrue(grid.isBrokenAt(4, 1));
+        assertTrue(grid.isPlatformAt(4, 1));
+        assertFalse(grid.isBrokenAt(4, 3));
+        assertFalse(grid.isBrokenAt(3, 1));
+    }
+
+    /**
+     * Verifies that a long fall stops on the first platform crossed instead of
+     * passing through it.
+     */
+    @Test
+    void shouldStopFallOnFirstPlatform() {
+        final float farAway = MAP.size() * BoundigBox.SIZE;
+        final BoundigBox half = new BoundigBox(BoundigBox.SIZE, BoundigBox.SIZE / 2);
+        final Entity falling = new GameBarrel(new Position(2 * BoundigBox.SIZE, 0), half, false);
+        final Entity resting = new GameBarrel(new Position(2 * BoundigBox.SIZE, 0), new BoundigBox(), false);
+
+        assertEquals(BoundigBox.SIZE / 2f, grid.sweepDown(falling, farAway));
+        assertEquals(2f * BoundigBox.SIZE, grid.sweepDown(resting, farAway));
+        assertEquals(1f, grid.sweepDown(falling, 1f));
+    }
+}
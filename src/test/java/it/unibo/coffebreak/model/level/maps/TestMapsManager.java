@@ -11,8 +11,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import it.unibo.coffebreak.api.common.Loader;
-import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.level.entity.EntityIndex;
 import it.unibo.coffebreak.impl.common.ResourceLoader;
+import it.unibo.coffebreak.impl.model.level.entity.GameEntityIndex;
 import it.unibo.coffebreak.impl.model.level.maps.GameMapsManager;
 
 /**
@@ -41,8 +42,8 @@ class TestMapsManager {
     void shouldAdvanceAndResetCorrectly() {
         List<String> initialMap = mapsManager.currentMap();
 
-        // Simulate a dummy entity list for advance()
-        final List<Entity> dummyEntities = List.of();
+        // Simulate an empty level for advance()
+        final EntityIndex dummyEntities = new GameEntityIndex();
 
         // Advance through all maps until cannot advance anymore
         while (mapsManager.advance(dummyEntities)) {
@@ -69,7 +70,7 @@ class TestMapsManager {
      */
     @Test
     void shouldReturnCanDonkeyThrowBarrelFlag() {
-        final List<Entity> dummyEntities = List.of();
+        final EntityIndex dummyEntities = new GameEntityIndex();
 
         do {
             final boolean result = mapsManager.canDonkeyThrowBarrel();
@@ -0,0 +1,141 @@
+package it.unibo.coffebreak.model.physics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.physics.BroadPhase;
+import it.unibo.coffebreak.impl.common.BoundigBox;
+import it.unibo.coffebreak.impl.common.Position;
+import it.unibo.coffebreak.impl.model.entities.enemy.barrel.GameBarrel;
+import it.unibo.coffebreak.impl.model.entities.structure.platform.normal.NormalPlatform;
+import it.unibo.coffebreak.impl.model.physics.broadphase.NaiveBroadPhase;
+import it.unibo.coffebreak.impl.model.physics.broadphase.SweepAndPruneBroadPhase;
+import it.unibo.coffebreak.impl.model.physics.broadphase.UniformGridBroadPhase;
+
+/**
+ * Test class for the {@link BroadPhase} implementations.
+ * Every implementation must report at least the overlapping pairs found by
+ * the {@link NaiveBroadPhase}.
+ *
+ * @author Alessandro Rebosio
+ */
+class TestBroadPhase {
+
+    private static final long SEED = 42L;
+    private static final int WORLD_SIZE = 224;
+    private static final BoundigBox WORLD = new BoundigBox(WORLD_SIZE, WORLD_SIZE);
+    private static final int PLATFORMS = 120;
+    private static final int BARRELS = 60;
+    private static final int STEPS = 20;
+    private static final float MAX_STEP = 6f;
+
+    /**
+     * Tests that the grid finds exactly the overlapping pairs found by the naive
+     * broad phase, in model order, while entities keep moving.
+     */
+    @Test
+    void testGridMatchesNaive() {
+        assertMatchesNaive(new UniformGridBroadPhase());
+    }
+
+    /**
+     * Tests that sweep and prune finds exactly the overlapping pairs found by
+     * the naive broad phase, in model order, while entities keep moving.
+     */
+    @Test
+    void testSweepAndPruneMatchesNaive() {
+        assertMatchesNaive(new SweepAndPruneBroadPhase());
+    }
+
+    /**
+     * Tests that sweep and prune keeps working when entities are removed and
+     * added between two rebuilds.
+     */
+    @Test
+    void testSweepAndPruneAcrossRebuilds() {
+        final Random random = new Random(SEED);
+        final List<Entity> entities = new ArrayList<>(createEntities(random));
+        final BroadPhase naive = new NaiveBroadPhase();
+        final BroadPhase sweep = new SweepAndPruneBroadPhase();
+
+        for (int step = 0; step < STEPS; step++) {
+            entities.remove(random.nextInt(entities.size()));
+            entities.add(random.nextInt(entities.size()),
+                    new GameBarrel(randomPosition(random), new BoundigBox(), false));
+            naive.rebuild(entities, WORLD);
+            sweep.rebuild(entities, WORLD);
+            for (final Entity entity : entities) {
+                assertEquals(overlapping(naive, entity), overlapping(sweep, entity));
+            }
+        }
+    }
+
+    private static void assertMatchesNaive(final BroadPhase broadPhase) {
+        final Random random = new Random(SEED);
+        final List<Entity> entities = createEntities(random);
+
+        final BroadPhase naive = new NaiveBroadPhase();
+        naive.rebuild(entities, WORLD);
+        broadPhase.rebuild(entities, WORLD);
+
+        for (int step = 0; step < STEPS; step++) {
+            for (final Entity entity : entities.subList(PLATFORMS, entities.size())) {
+                final Position position = entity.getPosition();
+                entity.setPosition(new Position(position.x() + (random.nextFloat() - 0.5f) * MAX_STEP,
+                        position.y() + (random.nextFloat() - 0.5f) * MAX_STEP));
+                broadPhase.refresh(entity);
+                assertEquals(overlapping(naive, entity), overlapping(broadPhase, entity));
+            }
+            broadPhase.rebuild(entities, WORLD);
+        }
+    }
+
+    private static List<Entity> createEntities(final Random random) {
+        final List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < PLATFORMS; i++) {
+            entities.add(new NormalPlatform(randomPosition(random), new BoundigBox()));
+        }
+        for (int i = 0; i < BARRELS; i++) {
+            entities.add(new GameBarrel(randomPosition(random), new BoundigBox(), false));
+        }
+        return entities;
+    }
+
+    /**
+     * Tests that the grid discards far away entities and tolerates entities
+     * outside of the world.
+     */
+    @Test
+    void testGridDiscardsFarEntities() {
+        final Entity left = new NormalPlatform(new Position(0, 0), new BoundigBox());
+        final Entity right = new NormalPlatform(new Position(WORLD_SIZE - BoundigBox.SIZE, 0), new BoundigBox());
+        final Entity outside = new GameBarrel(new Position(-WORLD_SIZE, -WORLD_SIZE), new BoundigBox(), false);
+
+        final BroadPhase grid = new UniformGridBroadPhase();
+        grid.rebuild(List.of(left, right, outside), WORLD);
+
+        assertFalse(grid.candidates(left).contains(right));
+        assertTrue(grid.candidates(outside).contains(left));
+        assertThrows(IllegalArgumentException.class, () -> new UniformGridBroadPhase(0));
+    }
+
+    private static List<Entity> overlapping(final BroadPhase broadPhase, final Entity entity) {
+        return broadPhase.candidates(entity).stream()
+                .filter(other -> other != entity)
+                .filter(entity::collidesWith)
+                .toList();
+    }
+
+    private static Position randomPosition(final Random random) {
+        return new Position(random.nextFloat() * WORLD_SIZE, random.nextFloat() * WORLD_SIZE);
+    }
+}
@@ -0,0 +1,53 @@
+package it.unibo.coffebreak.model.physics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.coffebreak.api.model.physics.CollisionLayer;
+
+/**
+ * Test class for the {@link CollisionLayer} interaction matrix.
+ *
+ * @author Alessandro Rebosio
+ */
+class TestCollisionLayer {
+
+    /**
+     * Tests that two layers interact in both directions or in none.
+     */
+    @Test
+    void testMatrixIsSymmetric() {
+        for (final CollisionLayer layer : CollisionLayer.values()) {
+            for (final CollisionLayer other : CollisionLayer.values()) {
+                assertEquals(layer.interactsWith(other), other.interactsWith(layer));
+            }
+        }
+    }
+
+    /**
+     * Tests that the pairs without any response are discarded.
+     */
+    @Test
+    void testPairsWithoutResponse() {
+        assertFalse(CollisionLayer.CLIMBABLE.interactsWith(CollisionLayer.CLIMBABLE));
+        assertFalse(CollisionLayer.STATIC_GEOMETRY.interactsWith(CollisionLayer.STATIC_GEOMETRY));
+        assertFalse(CollisionLayer.PICKUP.interactsWith(CollisionLayer.ENEMY));
+        assertFalse(CollisionLayer.TRIGGER.interactsWith(CollisionLayer.PICKUP));
+        assertFalse(CollisionLayer.ENEMY.interactsWith(CollisionLayer.ENEMY));
+    }
+
+    /**
+     * Tests that the pairs with a response are kept.
+     */
+    @Test
+    void testPairsWithResponse() {
+        assertTrue(CollisionLayer.PLAYER.interactsWith(CollisionLayer.STATIC_GEOMETRY));
+        assertTrue(CollisionLayer.PLAYER.interactsWith(CollisionLayer.PICKUP));
+        assertTrue(CollisionLayer.ENEMY.interactsWith(CollisionLayer.CLIMBABLE));
+        assertTrue(CollisionLayer.ENEMY.interactsWith(CollisionLayer.TRIGGER));
+        assertTrue(CollisionLayer.ENEMY.interactsWith(CollisionLayer.PLAYER));
+    }
+}
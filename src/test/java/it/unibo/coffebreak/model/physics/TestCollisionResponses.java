@@ -0,0 +1,146 @@
+package it.unibo.coffebreak.model.physics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.entities.character.MainCharacter;
+import it.unibo.coffebreak.api.model.entities.enemy.Enemy;
+import it.unibo.coffebreak.api.model.entities.structure.Platform;
+import it.unibo.coffebreak.api.model.physics.CollisionResponses;
+import it.unibo.coffebreak.impl.common.BoundigBox;
+import it.unibo.coffebreak.impl.common.Position;
+import it.unibo.coffebreak.impl.model.entities.collectible.coin.Coin;
+import it.unibo.coffebreak.impl.model.entities.enemy.barrel.GameBarrel;
+import it.unibo.coffebreak.impl.model.entities.mario.Mario;
+import it.unibo.coffebreak.impl.model.entities.mario.states.normal.NormalState;
+import it.unibo.coffebreak.impl.model.entities.structure.platform.normal.NormalPlatform;
+import it.unibo.coffebreak.impl.model.entities.structure.tank.GameTank;
+import it.unibo.coffebreak.impl.model.physics.GameCollisionResponses;
+
+/**
+ * Test class for the {@link GameCollisionResponses} dispatch table.
+ *
+ * @author Alessandro Rebosio
+ */
+class TestCollisionResponses {
+
+    private static final Position ORIGIN = new Position(0, 0);
+
+    private final GameBarrel barrel = new GameBarrel(ORIGIN, new BoundigBox(), false);
+    private final NormalPlatform platform = new NormalPlatform(ORIGIN, new BoundigBox());
+    private final Coin coin = new Coin(ORIGIN, new BoundigBox());
+
+    /**
+     * Tests that every response matching a pair runs in registration order, and
+     * only for the side it was registered for.
+     */
+    @Test
+    void testMatchingResponsesChained() {
+        final List<String> log = new ArrayList<>();
+        final CollisionResponses responses = new GameCollisionResponses();
+        responses.register(Entity.class, Entity.class, (entity, other) -> log.add("any"));
+        responses.register(Enemy.class, Platform.class, (enemy, other) -> log.add("enemy"));
+
+        responses.respond(this.barrel, this.platform);
+        assertEquals(List.of("any", "enemy"), log);
+
+        log.clear();
+        responses.respond(this.platform, this.barrel);
+        assertEquals(List.of("any"), log);
+    }
+
+    /**
+     * Tests that a response registered after the kinds were resolved is still
+     * dispatched.
+     */
+    @Test
+    void testRegisterAfterResolution() {
+        final List<Entity> touched = new ArrayList<>();
+        final CollisionResponses responses = new GameCollisionResponses();
+        final int barrelKind = responses.kindOf(this.barrel);
+        final int coinKind = responses.kindOf(this.coin);
+        responses.respond(this.barrel, barrelKind, this.coin, coinKind);
+        assertTrue(touched.isEmpty());
+
+        responses.register(GameBarrel.class, Coin.class, (entity, other) -> touched.add(other));
+        responses.respond(this.barrel, barrelKind, this.coin, coinKind);
+        assertEquals(List.of(this.coin), touched);
+    }
+
+    /**
+     * Tests that kinds are given per concrete class.
+     */
+    @Test
+    void testKindsPerClass() {
+        final CollisionResponses responses = new GameCollisionResponses();
+        final int barrelKind = responses.kindOf(this.barrel);
+
+        assertEquals(barrelKind, responses.kindOf(new GameBarrel(ORIGIN, new BoundigBox(), true)));
+        assertNotEquals(barrelKind, responses.kindOf(this.platform), "Each class has its own kind");
+    }
+
+    /**
+     * Tests that Mario only hands the contacts with enemies to his state.
+     */
+    @Test
+    void testMarioStateOnlySeesEnemies() {
+        final List<Enemy> enemies = new ArrayList<>();
+        final Mario mario = new Mario(ORIGIN, new BoundigBox());
+        mario.changeState(() -> new NormalState() {
+            @Override
+            public void handleCollision(final MainCharacter character, final Enemy enemy) {
+                enemies.add(enemy);
+            }
+        });
+        final CollisionResponses responses = GameCollisionResponses.create();
+
+        responses.respond(mario, this.coin);
+        responses.respond(mario, this.platform);
+        responses.respond(mario, this.barrel);
+
+        assertTrue(this.coin.isCollected());
+        assertEquals(List.of(this.barrel), enemies);
+    }
+
+    /**
+     * Tests that a barrel rolling into the tank lights it and is destroyed.
+     */
+    @Test
+    void testBarrelAndTank() {
+        final GameTank tank = new GameTank(ORIGIN, new BoundigBox());
+        final CollisionResponses responses = GameCollisionResponses.create();
+
+        responses.respond(this.barrel, tank);
+        responses.respond(tank, this.barrel);
+
+        assertTrue(this.barrel.isDestroyed());
+        assertTrue(tank.isActive());
+    }
+
+    /**
+     * Tests that a frozen table resolved the classes of the game up front,
+     * refuses new responses, and still dispatches the classes it was not
+     * given.
+     */
+    @Test
+    void testFrozenTable() {
+        final GameCollisionResponses responses = GameCollisionResponses.create();
+        final GameTank unknown = new GameTank(ORIGIN, new BoundigBox()) { };
+
+        assertNotEquals(GameCollisionResponses.UNRESOLVED, responses.kindOf(this.coin));
+        assertEquals(GameCollisionResponses.UNRESOLVED, responses.kindOf(unknown));
+        assertThrows(IllegalStateException.class,
+                () -> responses.register(Entity.class, Entity.class, (entity, other) -> { }));
+
+        responses.respond(this.barrel, unknown);
+        assertTrue(this.barrel.isDestroyed());
+    }
+}
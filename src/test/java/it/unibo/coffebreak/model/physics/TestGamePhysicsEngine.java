@@ -0,0 +1,342 @@
+package it.unibo.coffebreak.model.physics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+import it.unibo.coffebreak.api.controller.action.Action;
+import it.unibo.coffebreak.api.model.Model;
+import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.entities.PhysicsEntity;
+import it.unibo.coffebreak.api.model.entities.structure.Ladder;
+import it.unibo.coffebreak.api.model.physics.CollisionLayer;
+import it.unibo.coffebreak.api.model.physics.PhysicsEngine;
+import it.unibo.coffebreak.impl.common.BoundigBox;
+import it.unibo.coffebreak.impl.common.Position;
+import it.unibo.coffebreak.impl.common.ResourceLoader;
+import it.unibo.coffebreak.impl.model.GameModel;
+import it.unibo.coffebreak.impl.model.entities.collectible.coin.Coin;
+import it.unibo.coffebreak.impl.model.entities.enemy.barrel.GameBarrel;
+import it.unibo.coffebreak.impl.model.entities.structure.ladder.normal.NormalLadder;
+import it.unibo.coffebreak.impl.model.physics.ContactManifold;
+import it.unibo.coffebreak.impl.model.physics.GameCollisionResponses;
+import it.unibo.coffebreak.impl.model.physics.GamePhysicsEngine;
+import it.unibo.coffebreak.impl.model.physics.broadphase.UniformGridBroadPhase;
+import it.unibo.coffebreak.impl.model.states.ingame.InGameModelState;
+
+/**
+ * Test class for {@link GamePhysicsEngine} collision resolution.
+ *
+ * @author Alessandro Rebosio
+ */
+class TestGamePhysicsEngine {
+
+    /** A spot of map 1 between two girders, away from any other entity. */
+    private static final Position FREE_SPOT = new Position(64, 72);
+    private static final float OFFSET = 4f;
+    /** Top of the girder right below {@link #FREE_SPOT}. */
+    private static final float GIRDER_TOP = 96f;
+    private static final int TICKS = 60;
+    private static final float DELTA_TIME = 1f / 60;
+    private static final int ROUND_TICKS = 200;
+    private static final int WARMUP_ROUNDS = 100;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final int CROWD = 3000;
+    private static final int CROWD_COLUMNS = 200;
+    private static final int CROWD_ROWS = 220;
+    private static final float CROWD_SPEED = 40f;
+    private static final int WORKERS = 4;
+
+    private Model model;
+    private PhysicsEngine engine;
+
+    /**
+     * Starts a game on the first map before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        this.model = new GameModel(new ResourceLoader());
+        this.model.getGameState().handleAction(this.model, Action.ENTER);
+        final GameCollisionResponses responses = new GameCollisionResponses();
+        GameCollisionResponses.registerGameResponses(responses);
+        responses.register(CountingBarrel.class, Entity.class, (barrel, other) -> barrel.hits.add(other));
+        this.engine = new GamePhysicsEngine(responses);
+    }
+
+    /**
+     * Tests that two touching physics entities are notified once each per tick,
+     * although both of them are moved and looked up.
+     */
+    @Test
+    void testPairDispatchedOncePerSide() {
+        final CountingBarrel first = new CountingBarrel(FREE_SPOT);
+        final CountingBarrel second = new CountingBarrel(
+                new Position(FREE_SPOT.x() + OFFSET, FREE_SPOT.y()), CollisionLayer.PLAYER);
+        this.model.addEntity(first);
+        this.model.addEntity(second);
+
+        this.tick();
+
+        assertEquals(List.of(second), first.hits);
+        assertEquals(List.of(first), second.hits);
+    }
+
+    /**
+     * Tests that a physics entity touching a static entity is notified once.
+     */
+    @Test
+    void testStaticPairDispatchedOnce() {
+        final CountingBarrel barrel = new CountingBarrel(FREE_SPOT);
+        final Ladder ladder = new NormalLadder(new Position(FREE_SPOT.x() + OFFSET, FREE_SPOT.y()), new BoundigBox());
+        this.model.addEntity(barrel);
+        this.model.addEntity(ladder);
+
+        this.tick();
+
+        assertEquals(List.of(ladder), barrel.hits);
+    }
+
+    /**
+     * Tests that overlapping entities whose collision layers do not interact
+     * are never notified nor recorded as contacts.
+     */
+    @Test
+    void testLayersWithoutInteractionSkipped() {
+        final CountingBarrel barrel = new CountingBarrel(FREE_SPOT);
+        final CountingBarrel other = new CountingBarrel(new Position(FREE_SPOT.x() + OFFSET, FREE_SPOT.y()));
+        final Coin coin = new Coin(new Position(FREE_SPOT.x(), FREE_SPOT.y() + OFFSET), new BoundigBox());
+        this.model.addEntity(barrel);
+        this.model.addEntity(other);
+        this.model.addEntity(coin);
+
+        this.tick();
+
+        assertTrue(barrel.hits.isEmpty());
+        assertTrue(other.hits.isEmpty());
+        assertTrue(barrel.getContacts().contacts().isEmpty());
+        assertTrue(coin.getContacts().contacts().isEmpty());
+    }
+
+    /**
+     * Tests that the contacts of the tick are recorded on both sides and drive
+     * the ground check of the next tick.
+     */
+    @Test
+    void testContactManifold() {
+        final CountingBarrel barrel = new CountingBarrel(FREE_SPOT);
+        final Ladder ladder = new NormalLadder(new Position(FREE_SPOT.x() + OFFSET, FREE_SPOT.y()), new BoundigBox());
+        this.model.addEntity(barrel);
+        this.model.addEntity(ladder);
+
+        this.tick();
+
+        assertEquals(List.of(ladder), barrel.getContacts().contacts());
+        assertEquals(List.of(barrel), ladder.getContacts().contacts());
+        assertTrue(barrel.getContacts().touchesLadder());
+        assertFalse(barrel.getContacts().touchesPlatform());
+
+        barrel.setPosition(new Position(FREE_SPOT.x(), GIRDER_TOP - BoundigBox.SIZE));
+        this.tick();
+
+        assertTrue(barrel.getContacts().touchesPlatform());
+        assertTrue(((ContactManifold) barrel.getContacts()).isSettledAt(barrel.getPosition()));
+    }
+
+    /**
+     * Tests that integrating over the arrays of the entity store moves the
+     * entities exactly like the path working on their records.
+     */
+    @Test
+    void testStructOfArraysMatchesRecords() {
+        final Model recordModel = new GameModel(new ResourceLoader());
+        recordModel.getGameState().handleAction(recordModel, Action.ENTER);
+        final PhysicsEngine recordEngine = new GamePhysicsEngine(GameCollisionResponses.create(), null, null, false);
+        this.model.addEntity(new GameBarrel(FREE_SPOT, new BoundigBox(), false));
+        recordModel.addEntity(new GameBarrel(FREE_SPOT, new BoundigBox(), false));
+
+        for (int i = 0; i < TICKS; i++) {
+            tick(this.engine, this.model, DELTA_TIME);
+            tick(recordEngine, recordModel, DELTA_TIME);
+            final List<Entity> entities = this.model.getEntities();
+            final List<Entity> recordEntities = recordModel.getEntities();
+            assertEquals(recordEntities.size(), entities.size());
+            for (int j = 0; j < entities.size(); j++) {
+                assertEquals(recordEntities.get(j).getPosition(), entities.get(j).getPosition());
+                assertEquals(recordEntities.get(j).getVelocity(), entities.get(j).getVelocity());
+            }
+        }
+        assertEquals(GIRDER_TOP - BoundigBox.SIZE, this.model.getEntities().getLast().getPosition().y(),
+                "The barrel must have landed on the girder");
+    }
+
+    /**
+     * Tests that integrating a crowd of entities in parallel chunks moves them
+     * exactly like a single thread does, with the same fixed broad phase.
+     */
+    @Test
+    void testParallelMatchesSequential() {
+        final Model parallelModel = new GameModel(new ResourceLoader());
+        parallelModel.getGameState().handleAction(parallelModel, Action.ENTER);
+        final PhysicsEngine sequentialEngine = new GamePhysicsEngine(GameCollisionResponses.create(),
+                new UniformGridBroadPhase(), null, true);
+        try (ForkJoinPool pool = new ForkJoinPool(WORKERS)) {
+            final PhysicsEngine parallelEngine = new GamePhysicsEngine(GameCollisionResponses.create(),
+                    new UniformGridBroadPhase(), pool, true);
+            addCrowd(this.model);
+            addCrowd(parallelModel);
+
+            for (int i = 0; i < TICKS; i++) {
+                tick(sequentialEngine, this.model, DELTA_TIME);
+                tick(parallelEngine, parallelModel, DELTA_TIME);
+            }
+        }
+
+        final List<Entity> entities = this.model.getEntities();
+        final List<Entity> parallelEntities = parallelModel.getEntities();
+        assertEquals(entities.size(), parallelEntities.size());
+        for (int i = 0; i < entities.size(); i++) {
+            assertEquals(entities.get(i).getPosition(), parallelEntities.get(i).getPosition());
+            assertEquals(entities.get(i).getVelocity(), parallelEntities.get(i).getVelocity());
+        }
+    }
+
+    /**
+     * Tests that a pool is refused without struct-of-arrays storage, which it
+     * needs to split the world in chunks.
+     */
+    @Test
+    void testPoolNeedsStructOfArrays() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new GamePhysicsEngine(GameCollisionResponses.create(), null, ForkJoinPool.commonPool(), false));
+        assertThrows(NullPointerException.class, () -> new GamePhysicsEngine(null, null, null, true));
+    }
+
+    /**
+     * Tests that the batch loops move a crowd of entities exactly like the
+     * scalar ones.
+     */
+    @Test
+    void testBatchMatchesScalar() {
+        final Model scalarModel = new GameModel(new ResourceLoader());
+        scalarModel.getGameState().handleAction(scalarModel, Action.ENTER);
+        final GamePhysicsEngine scalarEngine = new GamePhysicsEngine(GameCollisionResponses.create(), null, null, true);
+        scalarEngine.setBatchIntegration(false);
+        addCrowd(this.model);
+        addCrowd(scalarModel);
+
+        for (int i = 0; i < TICKS; i++) {
+            tick(this.engine, this.model, DELTA_TIME);
+            tick(scalarEngine, scalarModel, DELTA_TIME);
+        }
+
+        final List<Entity> entities = this.model.getEntities();
+        final List<Entity> scalarEntities = scalarModel.getEntities();
+        for (int i = 0; i < entities.size(); i++) {
+            assertEquals(scalarEntities.get(i).getPosition(), entities.get(i).getPosition());
+            assertEquals(scalarEntities.get(i).getVelocity(), entities.get(i).getVelocity());
+        }
+    }
+
+    /**
+     * Tests that once the code is compiled, an in-game tick moving a falling
+     * and rolling barrel allocates nothing, entity updates, contacts,
+     * transformations and map checks included.
+     * <p>
+     * The state is driven directly: the snapshot published by
+     * {@link GameModel#update(float)} is the one allocation a tick is allowed,
+     * and the clock is left still so that no timer fires.
+     * </p>
+     */
+    @Test
+    void testSteadyStateTickDoesNotAllocate() {
+        final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        final InGameModelState state = new InGameModelState(this.engine);
+        final GameBarrel barrel = new GameBarrel(FREE_SPOT, new BoundigBox(), false);
+        this.model.addEntity(barrel);
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            this.rollBarrel(state, barrel);
+        }
+        final long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            this.rollBarrel(state, barrel);
+        }
+        final long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertEquals(0L, allocated, "Steady-state ticks must not allocate");
+        assertTrue(this.model.getEntities().contains(barrel));
+    }
+
+    /**
+     * Drops the barrel from the free spot and lets it roll along the girder.
+     */
+    private void rollBarrel(final InGameModelState state, final GameBarrel barrel) {
+        barrel.setPositionComponents(FREE_SPOT.x(), FREE_SPOT.y());
+        for (int i = 0; i < ROUND_TICKS; i++) {
+            state.update(this.model, DELTA_TIME);
+        }
+    }
+
+    /**
+     * Scatters barrels rolling both ways over the map.
+     */
+    private static void addCrowd(final Model model) {
+        for (int i = 0; i < CROWD; i++) {
+            final GameBarrel barrel = new GameBarrel(
+                    new Position(i * 7 % CROWD_COLUMNS, i * 13 % CROWD_ROWS), new BoundigBox(), false);
+            barrel.setVelocityComponents(i % 2 == 0 ? CROWD_SPEED : -CROWD_SPEED, 0);
+            model.addEntity(barrel);
+        }
+    }
+
+    private void tick() {
+        tick(this.engine, this.model, 0f);
+    }
+
+    private static void tick(final PhysicsEngine engine, final Model model, final float deltaTime) {
+        engine.beginTick(model);
+        for (final Entity entity : model.getEntities()) {
+            if (entity instanceof PhysicsEntity) {
+                engine.updateEntity(entity, model, deltaTime);
+            }
+        }
+        engine.endTick(model);
+    }
+
+    /**
+     * Barrel whose registered response records the entities it collides with,
+     * optionally placed on another collision layer.
+     */
+    private static final class CountingBarrel extends GameBarrel {
+
+        private final List<Entity> hits = new ArrayList<>();
+        private final CollisionLayer layer;
+
+        CountingBarrel(final Position position) {
+            this(position, CollisionLayer.ENEMY);
+        }
+
+        CountingBarrel(final Position position, final CollisionLayer layer) {
+            super(position, new BoundigBox(), false);
+            this.layer = layer;
+        }
+
+        @Override
+        public CollisionLayer getCollisionLayer() {
+            return this.layer;
+        }
+    }
+}
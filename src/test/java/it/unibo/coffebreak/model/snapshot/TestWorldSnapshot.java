@@ -0,0 +1,120 @@
+package it.unibo.coffebreak.model.snapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.coffebreak.api.controller.action.Action;
+import it.unibo.coffebreak.api.model.Model;
+import it.unibo.coffebreak.api.model.entities.Entity;
+import it.unibo.coffebreak.api.model.entities.EntityHandle;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot.Kind;
+import it.unibo.coffebreak.api.model.snapshot.EntitySnapshot;
+import it.unibo.coffebreak.api.model.snapshot.HudSnapshot;
+import it.unibo.coffebreak.api.model.snapshot.WorldSnapshot;
+import it.unibo.coffebreak.api.model.snapshot.WorldSnapshot.Screen;
+import it.unibo.coffebreak.impl.common.BoundigBox;
+import it.unibo.coffebreak.impl.common.Position;
+import it.unibo.coffebreak.impl.common.ResourceLoader;
+import it.unibo.coffebreak.impl.model.GameModel;
+import it.unibo.coffebreak.impl.model.entities.collectible.coin.Coin;
+import it.unibo.coffebreak.impl.model.entities.mario.Mario;
+import it.unibo.coffebreak.impl.model.entities.structure.platform.normal.NormalPlatform;
+import it.unibo.coffebreak.impl.model.snapshot.SnapshotBuffer;
+import it.unibo.coffebreak.impl.model.snapshot.Snapshots;
+
+/**
+ * Test class for {@link WorldSnapshot}, {@link EntitySnapshot}, {@link HudSnapshot},
+ * {@link Snapshots} and {@link SnapshotBuffer}.
+ *
+ * @author Alessandro Rebosio
+ */
+class TestWorldSnapshot {
+
+    private static final long TICK = 42L;
+    private static final Position START = new Position(0, 0);
+    private static final Position MOVED = new Position(10, 5);
+
+    /**
+     * Tests that each entity is captured with its kind, position and flags.
+     */
+    @Test
+    void testEntitySnapshot() {
+        final Mario mario = new Mario(START, new BoundigBox());
+        mario.storePreviousPosition();
+        mario.setPosition(MOVED);
+
+        final EntitySnapshot snapshot = Snapshots.entity(mario);
+        assertEquals(EntityHandle.NONE, snapshot.key(), "Entities out of a level have no handle");
+        assertEquals(Kind.MARIO, snapshot.kind());
+        assertEquals(MOVED, snapshot.position());
+        assertEquals(START, snapshot.previousPosition());
+        assertTrue(snapshot.has(EntitySnapshot.FACING_RIGHT));
+        assertFalse(snapshot.has(EntitySnapshot.HAMMER));
+
+        final Coin coin = new Coin(START, new BoundigBox());
+        coin.collect(mario);
+        assertEquals(Kind.COIN, Snapshots.entity(coin).kind());
+        assertTrue(Snapshots.entity(coin).has(EntitySnapshot.DESTROYED));
+    }
+
+    /**
+     * Tests that a world snapshot does not change when the model does.
+     */
+    @Test
+    void testWorldSnapshotIsImmutable() {
+        final NormalPlatform platform = new NormalPlatform(START, new BoundigBox());
+        final List<Entity> entities = new ArrayList<>(List.of(platform));
+
+        final WorldSnapshot snapshot = Snapshots.world(TICK, Screen.IN_GAME, HudSnapshot.EMPTY, entities);
+        entities.clear();
+        platform.setPosition(MOVED);
+
+        assertEquals(TICK, snapshot.tick());
+        assertEquals(1, snapshot.entities().size());
+        assertEquals(START, snapshot.entities().getFirst().position());
+        assertTrue(snapshot.entities().getFirst().kind().isPlatform());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.entities().clear());
+    }
+
+    /**
+     * Tests that the snapshot of a model carries its screen and the values of
+     * the heads-up display.
+     */
+    @Test
+    void testWorldSnapshotOfModel() {
+        final Model model = new GameModel(new ResourceLoader());
+        assertEquals(Screen.MENU, Snapshots.world(TICK, model).screen());
+
+        model.getGameState().handleAction(model, Action.ENTER);
+        final WorldSnapshot snapshot = Snapshots.world(TICK, model);
+        final HudSnapshot hud = snapshot.hud();
+        assertEquals(Screen.IN_GAME, snapshot.screen());
+        assertEquals(model.getScoreValue(), hud.score());
+        assertEquals(model.getMainCharacter().orElseThrow().getLives(), hud.lives());
+        assertEquals(model.getBonusValue(), hud.bonus());
+        assertEquals(model.getLevelIndex(), hud.level());
+        assertEquals(model.getEntities().size(), snapshot.entities().size());
+    }
+
+    /**
+     * Tests that the buffer always exposes the last published snapshot.
+     */
+    @Test
+    void testSnapshotBuffer() {
+        final SnapshotBuffer buffer = new SnapshotBuffer();
+        assertSame(WorldSnapshot.EMPTY, buffer.latest());
+
+        final WorldSnapshot snapshot = Snapshots.world(TICK, Screen.IN_GAME, HudSnapshot.EMPTY, List.of());
+        buffer.publish(snapshot);
+        assertSame(snapshot, buffer.latest());
+        assertThrows(NullPointerException.class, () -> buffer.publish(null));
+    }
+}
@@ -2,6 +2,7 @@ package it.unibo.coffebreak.model.states.ingame;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -26,6 +27,7 @@ import it.unibo.coffebreak.api.model.entities.PhysicsEntity;
 import it.unibo.coffebreak.api.model.entities.character.MainCharacter;
 import it.unibo.coffebreak.api.model.entities.npc.Antagonist;
 import it.unibo.coffebreak.api.model.physics.PhysicsEngine;
+import it.unibo.coffebreak.impl.common.profiler.FrameProfiler;
 import it.unibo.coffebreak.impl.model.states.gameover.GameOverModelState;
 import it.unibo.coffebreak.impl.model.states.ingame.InGameModelState;
 import it.unibo.coffebreak.impl.model.states.pause.PauseModelState;
@@ -67,6 +69,7 @@ class TestInGameModelState {
     @BeforeEach
     void setUp() {
         inGameState = new InGameModelState(mockPhysicsEngine);
+        lenient().when(mockModel.getProfiler()).thenReturn(FrameProfiler.disabled());
     }
 
     /**
@@ -83,6 +86,7 @@ class TestInGameModelState {
         when(mockModel.getMainCharacter()).thenReturn(Optional.of(mockMainCharacter));
         when(mockMainCharacter.getLives()).thenReturn(initialLives).thenReturn(updatedLives);
         when(mockModel.getEntities()).thenReturn(entities);
+        when(mockModel.entitiesOf(Antagonist.class)).thenReturn(List.of(mockAntagonist));
         when(mockModel.getBonusValue()).thenReturn(VALUE);
         when(mockMainCharacter.isGameOver()).thenReturn(false);
 
@@ -116,13 +120,14 @@ class TestInGameModelState {
         when(mockModel.getMainCharacter()).thenReturn(Optional.of(mockMainCharacter));
         when(mockMainCharacter.getLives()).thenReturn(3);
         when(mockModel.getEntities()).thenReturn(entities);
+        when(mockModel.entitiesOf(Antagonist.class)).thenReturn(List.of(mockAntagonist));
         when(mockModel.getBonusValue()).thenReturn(VALUE);
         when(mockMainCharacter.isGameOver()).thenReturn(false);
         when(mockAntagonist.tryThrowBarrel(deltaTime)).thenReturn(Optional.of(barrel));
 
         inGameState.update(mockModel, deltaTime);
 
-        verify(mockModel).addEntity(barrel);
+        verify(mockModel).spawnEntity(barrel);
     }
 
     /**
@@ -0,0 +1,49 @@
+package it.unibo.coffebreak.view.render;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.coffebreak.api.model.entities.EntityHandle;
+import it.unibo.coffebreak.impl.common.BoundigBox;
+import it.unibo.coffebreak.impl.common.Position;
+import it.unibo.coffebreak.impl.model.entities.EntityHandles;
+import it.unibo.coffebreak.impl.model.entities.collectible.coin.Coin;
+import it.unibo.coffebreak.impl.model.entities.enemy.barrel.GameBarrel;
+import it.unibo.coffebreak.impl.view.render.HandleMap;
+
+/**
+ * Test class for {@link HandleMap}.
+ *
+ * @author Alessandro Rebosio
+ */
+class TestHandleMap {
+
+    private static final Position ORIGIN = new Position(0, 0);
+
+    private final EntityHandles handles = new EntityHandles();
+    private final GameBarrel barrel = new GameBarrel(ORIGIN, new BoundigBox(), false);
+    private final Coin coin = new Coin(ORIGIN, new BoundigBox());
+
+    /**
+     * Tests that a handle map replaces the values left by older generations.
+     */
+    @Test
+    void testDropsStaleValues() {
+        final HandleMap<StringBuilder> map = new HandleMap<>();
+        final EntityHandle stale = this.handles.issue(this.barrel);
+        final StringBuilder value = map.computeIfAbsent(stale, StringBuilder::new);
+        assertSame(value, map.computeIfAbsent(stale, StringBuilder::new));
+
+        this.handles.retire(this.barrel);
+        final EntityHandle reused = this.handles.issue(this.coin);
+        assertNotSame(value, map.computeIfAbsent(reused, StringBuilder::new));
+        assertNull(map.get(stale));
+
+        assertSame(map.computeIfAbsent(EntityHandle.NONE, StringBuilder::new), map.get(EntityHandle.NONE));
+        assertThrows(IllegalArgumentException.class, () -> map.get(new EntityHandle(-2, 0)));
+    }
+}